@@ -19,6 +19,8 @@
 
 package org.apache.tinkerpop.gremlin.jsr223;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.configuration.Configuration;
 import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
@@ -30,6 +32,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.TraversalStrategyProxy;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -53,6 +58,9 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
     private final S traversalSource;
     private final Class<?> anonymousTraversal;
     private static final Map<Class<?>, Map<String, List<Method>>> GLOBAL_METHOD_CACHE = new ConcurrentHashMap<>();
+    private static final int MAX_DISPATCH_CACHE_SIZE = 10000;
+    private static final Cache<MethodSignature, MethodDispatch> GLOBAL_DISPATCH_CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_DISPATCH_CACHE_SIZE).build();
     private final Map<Class<?>, Map<String,Method>> localMethodCache = new ConcurrentHashMap<>();
     private final Method anonymousTraversalStart;
 
@@ -195,62 +203,72 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
             argumentsCopy[i] = translateObject(arguments[i]);
         }
 
-        // without this initial check iterating an invalid methodName will lead to a null pointer and a less than
-        // great error message for the user. 
-        if (!methodCache.containsKey(methodName)) {
-            final String methodArgs = argumentsCopy.length > 0 ? Arrays.toString(argumentsCopy) : "";
-            throw new IllegalStateException("Could not locate method: " + delegate.getClass().getSimpleName() + "." + methodName + "(" + methodArgs + ")");
+        // the method that is invoked only depends on the classes of the arguments so once resolved, the method
+        // handle for the signature is reused by subsequent calls
+        final MethodSignature signature = new MethodSignature(delegate.getClass(), returnType, methodName, argumentsCopy);
+        MethodDispatch dispatch = GLOBAL_DISPATCH_CACHE.getIfPresent(signature);
+        if (null == dispatch) {
+            // without this initial check iterating an invalid methodName will lead to a null pointer and a less than
+            // great error message for the user.
+            if (!methodCache.containsKey(methodName)) {
+                final String methodArgs = argumentsCopy.length > 0 ? Arrays.toString(argumentsCopy) : "";
+                throw new IllegalStateException("Could not locate method: " + delegate.getClass().getSimpleName() + "." + methodName + "(" + methodArgs + ")");
+            }
+
+            final Method method;
+            try {
+                method = findMethod(methodCache.get(methodName), returnType, argumentsCopy);
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e.getMessage() + ":" + methodName + "(" + Arrays.toString(argumentsCopy) + ")", e);
+            }
+
+            // if it got down here then the method was in the cache but it was never called as it could not be found
+            // for the supplied arguments
+            if (null == method)
+                throw new IllegalStateException("Could not locate method: " + delegate.getClass().getSimpleName() + "." + methodName + "(" + Arrays.toString(argumentsCopy) + ")");
+
+            dispatch = new MethodDispatch(method);
+            GLOBAL_DISPATCH_CACHE.put(signature, dispatch);
         }
 
         try {
-            for (final Method method : methodCache.get(methodName)) {
-                if (returnType.isAssignableFrom(method.getReturnType())) {
-                    if (method.getParameterCount() == argumentsCopy.length || (method.getParameterCount() > 0 && method.getParameters()[method.getParameters().length - 1].isVarArgs())) {
-                        final Parameter[] parameters = method.getParameters();
-                        final Object[] newArguments = new Object[parameters.length];
-                        boolean found = true;
-                        for (int i = 0; i < parameters.length; i++) {
-                            if (parameters[i].isVarArgs()) {
-                                final Class<?> parameterClass = parameters[i].getType().getComponentType();
-                                if (argumentsCopy.length > i && !parameterClass.isAssignableFrom(argumentsCopy[i].getClass())) {
-                                    found = false;
-                                    break;
-                                }
-                                final Object[] varArgs = (Object[]) Array.newInstance(parameterClass, argumentsCopy.length - i);
-                                int counter = 0;
-                                for (int j = i; j < argumentsCopy.length; j++) {
-                                    varArgs[counter++] = argumentsCopy[j];
-                                }
-                                newArguments[i] = varArgs;
+            return dispatch.invoke(delegate, argumentsCopy);
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e.getMessage() + ":" + methodName + "(" + Arrays.toString(argumentsCopy) + ")", e);
+        }
+    }
+
+    private static Method findMethod(final List<Method> methods, final Class<?> returnType, final Object[] arguments) {
+        for (final Method method : methods) {
+            if (returnType.isAssignableFrom(method.getReturnType())) {
+                if (method.getParameterCount() == arguments.length || (method.getParameterCount() > 0 && method.getParameters()[method.getParameters().length - 1].isVarArgs())) {
+                    final Parameter[] parameters = method.getParameters();
+                    boolean found = true;
+                    for (int i = 0; i < parameters.length; i++) {
+                        if (parameters[i].isVarArgs()) {
+                            final Class<?> parameterClass = parameters[i].getType().getComponentType();
+                            if (arguments.length > i && !parameterClass.isAssignableFrom(arguments[i].getClass()))
+                                found = false;
+                            break;
+                        } else {
+                            if (!(i < arguments.length &&
+                                    (parameters[i].getType().isAssignableFrom(arguments[i].getClass()) ||
+                                            (parameters[i].getType().isPrimitive() &&
+                                                    (Number.class.isAssignableFrom(arguments[i].getClass()) ||
+                                                            arguments[i].getClass().equals(Boolean.class) ||
+                                                            arguments[i].getClass().equals(Byte.class) ||
+                                                            arguments[i].getClass().equals(Character.class)))))) {
+                                found = false;
                                 break;
-                            } else {
-                                if (i < argumentsCopy.length &&
-                                        (parameters[i].getType().isAssignableFrom(argumentsCopy[i].getClass()) ||
-                                                (parameters[i].getType().isPrimitive() &&
-                                                        (Number.class.isAssignableFrom(argumentsCopy[i].getClass()) ||
-                                                                argumentsCopy[i].getClass().equals(Boolean.class) ||
-                                                                argumentsCopy[i].getClass().equals(Byte.class) ||
-                                                                argumentsCopy[i].getClass().equals(Character.class))))) {
-                                    newArguments[i] = argumentsCopy[i];
-                                } else {
-                                    found = false;
-                                    break;
-                                }
                             }
                         }
-                        if (found) {
-                            return 0 == newArguments.length ? method.invoke(delegate) : method.invoke(delegate, newArguments);
-                        }
                     }
+                    if (found)
+                        return method;
                 }
             }
-        } catch (final Throwable e) {
-            throw new IllegalStateException(e.getMessage() + ":" + methodName + "(" + Arrays.toString(argumentsCopy) + ")", e);
         }
-
-        // if it got down here then the method was in the cache but it was never called as it could not be found
-        // for the supplied arguments
-        throw new IllegalStateException("Could not locate method: " + delegate.getClass().getSimpleName() + "." + methodName + "(" + Arrays.toString(argumentsCopy) + ")");
+        return null;
     }
 
     private synchronized static void buildMethodCache(final Object delegate, final Map<String, List<Method>> methodCache) {
@@ -263,6 +281,120 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
         }
     }
 
+    /**
+     * The class of the delegate, the expected return type, the name of the method and the classes of the arguments
+     * which together determine the {@code Method} that {@link #findMethod(List, Class, Object[])} resolves.
+     */
+    private static final class MethodSignature {
+        private final Class<?> delegateClass;
+        private final Class<?> returnType;
+        private final String methodName;
+        private final Class<?>[] argumentClasses;
+        private final int hashCode;
+
+        private MethodSignature(final Class<?> delegateClass, final Class<?> returnType, final String methodName, final Object[] arguments) {
+            this.delegateClass = delegateClass;
+            this.returnType = returnType;
+            this.methodName = methodName;
+            this.argumentClasses = new Class<?>[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                this.argumentClasses[i] = null == arguments[i] ? null : arguments[i].getClass();
+            }
+            this.hashCode = ((delegateClass.hashCode() * 31 + returnType.hashCode()) * 31 + methodName.hashCode()) * 31 + Arrays.hashCode(this.argumentClasses);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof MethodSignature))
+                return false;
+            final MethodSignature signature = (MethodSignature) other;
+            return this.delegateClass == signature.delegateClass &&
+                    this.returnType == signature.returnType &&
+                    this.methodName.equals(signature.methodName) &&
+                    Arrays.equals(this.argumentClasses, signature.argumentClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * Invokes a resolved {@code Method} through a {@code MethodHandle} that takes the delegate and the arguments as an
+     * array so that it can be invoked exactly. Trailing arguments are collected into the varargs array of the method if
+     * it has one. An argument for a primitive parameter that is not of the exact wrapper type requires the widening
+     * conversions of {@code Method.invoke()} in which case the method is invoked reflectively, as it is when no
+     * {@code MethodHandle} could be created for the method.
+     */
+    private static final class MethodDispatch {
+        private final Method method;
+        private final MethodHandle methodHandle;
+        private final int parameterCount;
+        private final int varArgsIndex;
+        private final Class<?> varArgsClass;
+        private final Class<?>[] primitiveWrappers;
+
+        private MethodDispatch(final Method method) {
+            this.method = method;
+            this.parameterCount = method.getParameterCount();
+            this.varArgsIndex = method.isVarArgs() ? this.parameterCount - 1 : -1;
+            this.varArgsClass = method.isVarArgs() ? method.getParameterTypes()[this.varArgsIndex].getComponentType() : null;
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            Class<?>[] primitiveWrappers = null;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].isPrimitive()) {
+                    if (null == primitiveWrappers)
+                        primitiveWrappers = new Class<?>[parameterTypes.length];
+                    primitiveWrappers[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+                }
+            }
+            this.primitiveWrappers = primitiveWrappers;
+            MethodHandle methodHandle;
+            try {
+                methodHandle = MethodHandles.publicLookup().unreflect(method)
+                        .asFixedArity()
+                        .asType(MethodType.genericMethodType(this.parameterCount + 1))
+                        .asSpreader(Object[].class, this.parameterCount);
+            } catch (final Exception e) {
+                // fall back to reflection which reports any problem with the method when invoked
+                methodHandle = null;
+            }
+            this.methodHandle = methodHandle;
+        }
+
+        /**
+         * Invokes the method with arguments that are already a copy of those of the bytecode, so they are passed on
+         * as they are unless trailing arguments need to be collected into a varargs array.
+         */
+        private Object invoke(final Object delegate, final Object[] arguments) throws Throwable {
+            final Object[] parameters;
+            if (-1 == this.varArgsIndex)
+                parameters = arguments;
+            else {
+                parameters = new Object[this.parameterCount];
+                System.arraycopy(arguments, 0, parameters, 0, this.varArgsIndex);
+                final Object[] varArgs = (Object[]) Array.newInstance(this.varArgsClass, arguments.length - this.varArgsIndex);
+                System.arraycopy(arguments, this.varArgsIndex, varArgs, 0, varArgs.length);
+                parameters[this.varArgsIndex] = varArgs;
+            }
+            return null == this.methodHandle || !this.hasExactPrimitiveArguments(parameters) ?
+                    this.method.invoke(delegate, parameters) :
+                    (Object) this.methodHandle.invokeExact(delegate, parameters);
+        }
+
+        private boolean hasExactPrimitiveArguments(final Object[] parameters) {
+            if (null != this.primitiveWrappers) {
+                for (int i = 0; i < this.primitiveWrappers.length; i++) {
+                    if (null != this.primitiveWrappers[i] &&
+                            (null == parameters[i] || this.primitiveWrappers[i] != parameters[i].getClass()))
+                        return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private Method getStartMethodFromAnonymousTraversal() {
         if (this.anonymousTraversal != null) {
             try {
@@ -130,6 +130,19 @@ public interface GraphComputer {
      */
     public GraphComputer edges(final Traversal<Vertex, Edge> edgeFilter) throws IllegalArgumentException;
 
+    /**
+     * Provide a hint of the vertex property keys that will be accessed by the {@link VertexProgram}.
+     * A GraphComputer that loads its graph from a source may skip the vertex properties with other keys.
+     * Hidden vertex properties and the vertex properties accessed by the vertex filter are always loaded.
+     * By default, the hint is ignored and all vertex properties are loaded.
+     *
+     * @param propertyKeys the keys of the vertex properties to load
+     * @return the updated GraphComputer with the vertex property keys to load
+     */
+    public default GraphComputer vertexProperties(final String... propertyKeys) {
+        return this;
+    }
+
     /**
      * Set an arbitrary configuration key/value for the underlying {@link org.apache.commons.configuration.Configuration} in the {@link GraphComputer}.
      * Typically, the other fluent methods in {@link GraphComputer} should be used to configure the computation.
@@ -218,6 +231,14 @@ public interface GraphComputer {
         public default boolean supportsDirectObjects() {
             return true;
         }
+
+        /**
+         * Supports skipping the execution of vertices that voted to halt via {@link Messenger#voteToHalt()} and have
+         * not received any messages since.
+         */
+        public default boolean supportsVoteToHalt() {
+            return false;
+        }
     }
 
     public static class Exceptions {
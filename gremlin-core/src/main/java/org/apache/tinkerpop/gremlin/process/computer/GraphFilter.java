@@ -27,14 +27,20 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +51,8 @@ import java.util.stream.Collectors;
  * If no vertex filter is provided, then no vertices are filtered. If no edge filter is provided, then no edges are filtered.
  * The use of a GraphFilter can greatly reduce the amount of data processed by the {@link GraphComputer}.
  * For instance, for {@code g.V().count()}, there is no reason to load edges, and thus, the edge filter can be {@code bothE().limit(0)}.
+ * A GraphFilter may also project the vertex properties to load down to the keys that the {@link VertexProgram} accesses.
+ * Hidden properties and the properties accessed by the vertex filter are always loaded.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -82,6 +90,8 @@ public final class GraphFilter implements Cloneable, Serializable {
     private Traversal.Admin<Vertex, Edge> edgeFilter = null;
     private Map<Direction, Map<String, Legal>> edgeLegality = new HashMap<>();
     private boolean allowNoEdges = false;
+    private Set<String> vertexPropertyKeys = null;
+    private Set<String> vertexFilterPropertyKeys = Collections.emptySet();
 
     public GraphFilter() {
         // no args constructor
@@ -92,6 +102,8 @@ public final class GraphFilter implements Cloneable, Serializable {
             this.setVertexFilter(computer.getVertices());
         if (null != computer.getEdges())
             this.setEdgeFilter(computer.getEdges());
+        if (null != computer.getVertexProperties())
+            this.setVertexPropertyKeys(computer.getVertexProperties());
     }
 
     /**
@@ -105,6 +117,17 @@ public final class GraphFilter implements Cloneable, Serializable {
         if (!TraversalHelper.isLocalProperties(vertexFilter.asAdmin()))
             throw GraphComputer.Exceptions.vertexFilterAccessesIncidentEdges(vertexFilter);
         this.vertexFilter = vertexFilter.asAdmin().clone();
+        this.vertexFilterPropertyKeys = TraversalHelper.getAccessedPropertyKeys(this.vertexFilter).orElse(null);
+    }
+
+    /**
+     * Set the vertex property keys to load from the source graph.
+     * Vertex properties with other keys are not loaded unless they are hidden or accessed by the vertex filter.
+     *
+     * @param vertexPropertyKeys The keys of the vertex properties to load.
+     */
+    public void setVertexPropertyKeys(final Set<String> vertexPropertyKeys) {
+        this.vertexPropertyKeys = Collections.unmodifiableSet(new HashSet<>(vertexPropertyKeys));
     }
 
     /**
@@ -205,6 +228,22 @@ public final class GraphFilter implements Cloneable, Serializable {
                 TraversalUtil.applyAll(vertex, this.edgeFilter);
     }
 
+    /**
+     * Get the legality of a particular vertex property key.
+     * {@link Legal#MAYBE} denotes a property that is only required to evaluate the vertex filter.
+     *
+     * @param key the key of the vertex property.
+     * @return the {@link Legal} of the vertex property key.
+     */
+    public Legal checkVertexPropertyLegality(final String key) {
+        if (null == this.vertexPropertyKeys || this.vertexPropertyKeys.contains(key) || Graph.Hidden.isHidden(key))
+            return Legal.YES;
+        else if (null != this.vertexFilter && (null == this.vertexFilterPropertyKeys || this.vertexFilterPropertyKeys.contains(key)))
+            return Legal.MAYBE;
+        else
+            return Legal.NO;
+    }
+
     /**
      * Get the vertex filter associated with this graph filter.
      *
@@ -223,13 +262,22 @@ public final class GraphFilter implements Cloneable, Serializable {
         return this.edgeFilter;
     }
 
+    /**
+     * Get the vertex property keys to load.
+     *
+     * @return the vertex property keys or null if all vertex properties are loaded.
+     */
+    public final Set<String> getVertexPropertyKeys() {
+        return this.vertexPropertyKeys;
+    }
+
     /**
      * Whether filters have been defined.
      *
-     * @return true if either a vertex or edge filter has been provided.
+     * @return true if either a vertex or edge filter or vertex property keys have been provided.
      */
     public boolean hasFilter() {
-        return this.vertexFilter != null || this.edgeFilter != null;
+        return this.vertexFilter != null || this.edgeFilter != null || this.vertexPropertyKeys != null;
     }
 
     /**
@@ -250,6 +298,15 @@ public final class GraphFilter implements Cloneable, Serializable {
         return this.vertexFilter != null;
     }
 
+    /**
+     * Whether the vertex property keys to load have been defined.
+     *
+     * @return true if vertex property keys were provided.
+     */
+    public boolean hasVertexPropertyKeys() {
+        return this.vertexPropertyKeys != null;
+    }
+
     /**
      * For a particular edge directionality, get all the {@link Legal#YES} or {@link Legal#MAYBE} edge labels.
      * If the label set contains {@code null}, then all edge labels for that direction are positively legal.
@@ -311,7 +368,8 @@ public final class GraphFilter implements Cloneable, Serializable {
 
     @Override
     public int hashCode() {
-        return (null == this.edgeFilter ? 111 : this.edgeFilter.hashCode()) ^ (null == this.vertexFilter ? 222 : this.vertexFilter.hashCode());
+        return (null == this.edgeFilter ? 111 : this.edgeFilter.hashCode()) ^ (null == this.vertexFilter ? 222 : this.vertexFilter.hashCode()) ^
+                (null == this.vertexPropertyKeys ? 333 : this.vertexPropertyKeys.hashCode());
     }
 
     @Override
@@ -322,6 +380,8 @@ public final class GraphFilter implements Cloneable, Serializable {
             return false;
         else if (((GraphFilter) object).hasEdgeFilter() && !((GraphFilter) object).getEdgeFilter().equals(this.edgeFilter))
             return false;
+        else if (!Objects.equals(((GraphFilter) object).getVertexPropertyKeys(), this.vertexPropertyKeys))
+            return false;
         else
             return true;
     }
@@ -344,11 +404,13 @@ public final class GraphFilter implements Cloneable, Serializable {
     public String toString() {
         if (!this.hasFilter())
             return "graphfilter[none]";
-        else if (this.hasVertexFilter() && this.hasEdgeFilter())
-            return "graphfilter[" + this.vertexFilter + "," + this.edgeFilter + "]";
-        else if (this.hasVertexFilter())
-            return "graphfilter[" + this.vertexFilter + "]";
-        else
-            return "graphfilter[" + this.edgeFilter + "]";
+        final List<Object> filters = new ArrayList<>();
+        if (this.hasVertexFilter())
+            filters.add(this.vertexFilter);
+        if (this.hasEdgeFilter())
+            filters.add(this.edgeFilter);
+        if (this.hasVertexPropertyKeys())
+            filters.add(new TreeSet<>(this.vertexPropertyKeys));
+        return "graphfilter[" + filters.stream().map(Object::toString).collect(Collectors.joining(",")) + "]";
     }
 }
\ No newline at end of file
@@ -46,4 +46,14 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageScope messageScope, final M message);
 
+    /**
+     * The currently executing vertex votes to halt. A halted vertex is not executed in subsequent iterations until it
+     * receives a message or {@link VertexProgram#activateHaltedVertices(Memory)} is {@code true}. The vote is only a
+     * hint as a {@link GraphComputer} may still execute halted vertices (see
+     * {@link GraphComputer.Features#supportsVoteToHalt()}) and thus, the default implementation is a no-op.
+     */
+    public default void voteToHalt() {
+
+    }
+
 }
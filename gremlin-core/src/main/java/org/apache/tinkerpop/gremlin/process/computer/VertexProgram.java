@@ -127,6 +127,20 @@ public interface VertexProgram<M> extends Cloneable {
 
     }
 
+    /**
+     * Vertices that have voted to halt via {@link Messenger#voteToHalt()} are only executed again once they receive a
+     * message. If the vertex program can activate vertices by other means (e.g. via the {@link Memory}), then this
+     * method should return {@code true} for those iterations in which the halted vertices must be executed.
+     * The method is global to the {@link GraphComputer} and is called prior to each iteration.
+     * The default implementation returns {@code false}.
+     *
+     * @param memory an immutable form of the {@link Memory}
+     * @return whether or not the vertices that voted to halt should be executed in the upcoming iteration
+     */
+    public default boolean activateHaltedVertices(final Memory memory) {
+        return false;
+    }
+
     /**
      * The {@link org.apache.tinkerpop.gremlin.structure.Element} properties that will be mutated during the computation.
      * All properties in the graph are readable, but only the keys specified here are writable.
@@ -308,6 +308,16 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
         // save space by not having an empty halted traversers property
         if (this.returnHaltedTraversers || haltedTraversers.isEmpty())
             vertex.<TraverserSet>property(HALTED_TRAVERSERS).remove();
+        // without traversers waiting at a barrier, the vertex has nothing to do until traversers are sent to it
+        if (!vertex.property(ACTIVE_TRAVERSERS).isPresent())
+            messenger.voteToHalt();
+    }
+
+    @Override
+    public boolean activateHaltedVertices(final Memory memory) {
+        // traversers sent by the master traversal and traversers waiting at a completed barrier are not messages
+        return !memory.<IndexedTraverserSet<Object, Vertex>>get(ACTIVE_TRAVERSERS).isEmpty() ||
+                !memory.<Set<String>>get(COMPLETED_BARRIERS).isEmpty();
     }
 
     @Override
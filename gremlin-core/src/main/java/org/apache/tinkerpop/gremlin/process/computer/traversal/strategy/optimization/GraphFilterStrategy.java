@@ -21,6 +21,9 @@ package org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimiz
 
 import org.apache.tinkerpop.gremlin.process.computer.Computer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.PageRankVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.computer.util.EmptyMemory;
@@ -28,20 +31,26 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -56,9 +65,19 @@ public final class GraphFilterStrategy extends AbstractTraversalStrategy<Travers
 
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (TraversalHelper.getStepsOfAssignableClass(VertexProgramStep.class, traversal).size() > 1)  // do not do if there is an OLAP chain
+        final List<VertexProgramStep> vertexProgramSteps = TraversalHelper.getStepsOfAssignableClass(VertexProgramStep.class, traversal);
+        if (vertexProgramSteps.isEmpty())
+            return;
+        final Graph graph = traversal.getGraph().orElse(EmptyGraph.instance()); // the OLAP jobs of the traversal all run against the traversal graph
+        final Set<String> vertexPropertyKeys = getVertexPropertyKeys(traversal, graph);
+        if (null != vertexPropertyKeys) {  // every job of an OLAP chain loads the properties required by the chain
+            for (final VertexProgramStep step : vertexProgramSteps) {
+                if (null == step.getComputer().getVertexProperties())  // if vertexProperties() already set, use it
+                    step.setComputer(step.getComputer().vertexProperties(vertexPropertyKeys.toArray(new String[vertexPropertyKeys.size()])));
+            }
+        }
+        if (vertexProgramSteps.size() > 1)  // do not do if there is an OLAP chain
             return;
-        final Graph graph = traversal.getGraph().orElse(EmptyGraph.instance()); // given that this strategy only works for single OLAP jobs, the graph is the traversal graph
         for (final TraversalVertexProgramStep step : TraversalHelper.getStepsOfClass(TraversalVertexProgramStep.class, traversal)) {   // will be zero or one step
             final Traversal.Admin<?, ?> computerTraversal = step.generateProgram(graph, EmptyMemory.instance()).getTraversal().get().clone();
             if (!computerTraversal.isLocked())
@@ -72,6 +91,34 @@ public final class GraphFilterStrategy extends AbstractTraversalStrategy<Travers
         }
     }
 
+    protected static Set<String> getVertexPropertyKeys(final Traversal.Admin<?, ?> traversal, final Graph graph) {
+        final Optional<HaltedTraverserStrategy> haltedTraverserStrategy = traversal.getStrategies().getStrategy(HaltedTraverserStrategy.class);
+        if (haltedTraverserStrategy.isPresent() && !ReferenceFactory.class.equals(haltedTraverserStrategy.get().getHaltedTraverserFactory()))
+            return null; // if halted vertices are detached with their properties, don't filter
+        final Set<String> vertexPropertyKeys = new HashSet<>();
+        for (final VertexProgramStep step : TraversalHelper.getStepsOfAssignableClass(VertexProgramStep.class, traversal)) {
+            if (!(step instanceof TraversalVertexProgramStep) && !(step instanceof PageRankVertexProgramStep))
+                return null; // if the property requirements of the vertex program are not known, don't filter
+            final GraphComputer.Persist persist = step.getComputer().getPersist();
+            if (GraphComputer.Persist.VERTEX_PROPERTIES.equals(persist) || GraphComputer.Persist.EDGES.equals(persist))
+                return null; // if the vertex properties are persisted, they must all be loaded
+            final List<Traversal.Admin<?, ?>> children = new ArrayList<>(((TraversalParent) step).getGlobalChildren());
+            children.addAll(((TraversalParent) step).getLocalChildren());
+            for (final Traversal.Admin<?, ?> child : children) {
+                final Optional<Set<String>> propertyKeys = TraversalHelper.getAccessedPropertyKeys(child);
+                if (!propertyKeys.isPresent())
+                    return null; // if the traversal contains lambdas or accesses all properties, don't filter
+                vertexPropertyKeys.addAll(propertyKeys.get());
+            }
+            // the compute keys of a previous job in the chain are loaded by the jobs that follow it
+            final VertexProgram<?> vertexProgram = step.generateProgram(graph, EmptyMemory.instance());
+            for (final VertexComputeKey computeKey : vertexProgram.getVertexComputeKeys()) {
+                vertexPropertyKeys.add(computeKey.getKey());
+            }
+        }
+        return vertexPropertyKeys;
+    }
+
     protected static Traversal.Admin<Vertex, Edge> getEdgeFilter(final Traversal.Admin<?, ?> traversal) {
         if (traversal.getStartStep() instanceof GraphStep && ((GraphStep) traversal.getStartStep()).returnsEdge())
             return null; // if the traversal is an edge traversal, don't filter (this can be made less stringent)
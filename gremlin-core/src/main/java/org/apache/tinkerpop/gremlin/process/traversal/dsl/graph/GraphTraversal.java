@@ -69,6 +69,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxCountDistinctStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxGroupCountStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
@@ -843,6 +845,21 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(scope.equals(Scope.global) ? new CountGlobalStep<>(this.asAdmin()) : new CountLocalStep<>(this.asAdmin()));
     }
 
+    /**
+     * Estimates the number of distinct objects in the stream with a HyperLogLog sketch, which is an approximation of
+     * {@code dedup().count()} with a standard error of about 0.8%. Unlike {@link #dedup(String...)}, the memory
+     * that is used does not grow with the number of distinct objects. Calls to {@code approxCountDistinct()} can be
+     * accompanied with a {@link #by()} modulator which specifies the object to count.
+     *
+     * @return the traversal with an appended {@link ApproxCountDistinctStep}.
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#approxcountdistinct-step" target="_blank">Reference Documentation - ApproxCountDistinct Step</a>
+     * @since 3.4.0
+     */
+    public default GraphTraversal<S, Long> approxCountDistinct() {
+        this.asAdmin().getBytecode().addStep(Symbols.approxCountDistinct);
+        return this.asAdmin().addStep(new ApproxCountDistinctStep<>(this.asAdmin()));
+    }
+
     /**
      * Map the traversal stream to its reduction as a sum of the {@link Traverser#get} values multiplied by their
      * {@link Traverser#bulk} (i.e. sum the traverser values up to this point).
@@ -967,6 +984,22 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(new GroupCountStep<>(this.asAdmin()));
     }
 
+    /**
+     * Estimates the counts of the {@code k} most frequent objects in the stream with a Count-Min sketch, returning a
+     * {@code Map} of at most {@code k} entries in descending order of the counts. Unlike {@link #groupCount()}, the
+     * memory that is used does not grow with the number of distinct objects. Calls to {@code approxGroupCount()} can
+     * be accompanied with a {@link #by()} modulator which specifies the object to count.
+     *
+     * @param k the number of most frequent objects to return
+     * @return the traversal with an appended {@link ApproxGroupCountStep}.
+     * @see <a href="http://tinkerpop.apache.org/docs/${project.version}/reference/#approxgroupcount-step" target="_blank">Reference Documentation - ApproxGroupCount Step</a>
+     * @since 3.4.0
+     */
+    public default <K> GraphTraversal<S, Map<K, Long>> approxGroupCount(final int k) {
+        this.asAdmin().getBytecode().addStep(Symbols.approxGroupCount, k);
+        return this.asAdmin().addStep(new ApproxGroupCountStep<>(this.asAdmin(), k));
+    }
+
     /**
      * Aggregates the emanating paths into a {@link Tree} data structure.
      *
@@ -2760,12 +2793,14 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         public static final String unfold = "unfold";
         public static final String fold = "fold";
         public static final String count = "count";
+        public static final String approxCountDistinct = "approxCountDistinct";
         public static final String sum = "sum";
         public static final String max = "max";
         public static final String min = "min";
         public static final String mean = "mean";
         public static final String group = "group";
         public static final String groupCount = "groupCount";
+        public static final String approxGroupCount = "approxGroupCount";
         public static final String tree = "tree";
         public static final String addV = "addV";
         public static final String addE = "addE";
@@ -400,6 +400,13 @@ public class __ {
         return __.<A>start().count(scope);
     }
 
+    /**
+     * @see GraphTraversal#approxCountDistinct()
+     */
+    public static <A> GraphTraversal<A, Long> approxCountDistinct() {
+        return __.<A>start().approxCountDistinct();
+    }
+
     /**
      * @see GraphTraversal#sum()
      */
@@ -470,6 +477,13 @@ public class __ {
         return __.<A>start().<K>groupCount();
     }
 
+    /**
+     * @see GraphTraversal#approxGroupCount(int)
+     */
+    public static <A, K> GraphTraversal<A, Map<K, Long>> approxGroupCount(final int k) {
+        return __.<A>start().<K>approxGroupCount(k);
+    }
+
     /**
      * @see GraphTraversal#tree()
      */
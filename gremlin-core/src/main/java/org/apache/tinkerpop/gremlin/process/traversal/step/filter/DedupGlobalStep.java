@@ -29,12 +29,15 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.GraphComputing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserSpill;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.javatuples.Pair;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -50,7 +53,7 @@ import java.util.function.BinaryOperator;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class DedupGlobalStep<S> extends FilterStep<S> implements TraversalParent, Scoping, GraphComputing, Barrier<Map<Object, Traverser.Admin<S>>>, ByModulating, PathProcessor {
+public final class DedupGlobalStep<S> extends FilterStep<S> implements TraversalParent, Scoping, GraphComputing, Barrier<Map<Object, Traverser.Admin<S>>>, ByModulating, PathProcessor, AutoCloseable {
 
     private Traversal.Admin<S, Object> dedupTraversal = null;
     private Set<Object> duplicateSet = new HashSet<>();
@@ -60,22 +63,84 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     private boolean executingAtMaster = false;
     private Map<Object, Traverser.Admin<S>> barrier;
     private Iterator<Map.Entry<Object, Traverser.Admin<S>>> barrierIterator;
+    private long spillThreshold = 0;
+    private File spillDirectory = null;
+    private int spillPartitions = 0;
+    private TraverserSpill<S> spill;
+    private int spillPartition;
+    private Iterator<Pair<Object, Traverser.Admin<S>>> spillRecords;
+    private Set<Object> spillObjects;
 
     public DedupGlobalStep(final Traversal.Admin traversal, final String... dedupLabels) {
         super(traversal);
         this.dedupLabels = dedupLabels.length == 0 ? null : Collections.unmodifiableSet(new HashSet<>(Arrays.asList(dedupLabels)));
     }
 
+    /**
+     * Once the number of distinct objects held in memory reaches the {@code threshold}, the traversers of objects that
+     * were not seen yet are written to {@code partitions} files in the {@code directory} and are deduplicated one
+     * partition at a time when the incoming traversers are exhausted. The files are deleted once all of the spilled
+     * traversers were emitted. A {@code threshold} of zero disables spilling.
+     */
+    public void setSpill(final long threshold, final File directory, final int partitions) {
+        this.spillThreshold = threshold;
+        this.spillDirectory = directory;
+        this.spillPartitions = partitions;
+    }
+
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
         if (this.onGraphComputer && !this.executingAtMaster) return true;
         traverser.setBulk(1L);
+        return this.duplicateSet.add(this.getDedupObject(traverser));
+    }
+
+    private Object getDedupObject(final Traverser.Admin<S> traverser) {
         if (null == this.dedupLabels) {
-            return this.duplicateSet.add(TraversalUtil.applyNullable(traverser, this.dedupTraversal));
+            return TraversalUtil.applyNullable(traverser, this.dedupTraversal);
         } else {
             final List<Object> objects = new ArrayList<>(this.dedupLabels.size());
             this.dedupLabels.forEach(label -> objects.add(TraversalUtil.applyNullable((S) this.getScopeValue(Pop.last, label, traverser), this.dedupTraversal)));
-            return this.duplicateSet.add(objects);
+            return objects;
+        }
+    }
+
+    private Traverser.Admin<S> nextSpilledStart() {
+        while (true) {
+            if (null != this.spillRecords) {
+                while (this.spillRecords.hasNext()) {
+                    final Pair<Object, Traverser.Admin<S>> record = this.spillRecords.next();
+                    if (this.spillObjects.add(record.getValue0()))
+                        return record.getValue1();
+                }
+                // the objects of the partition remain duplicates for the traversers that are spilled afterwards
+                this.spill.writeKeys(this.spillPartition, this.spillObjects);
+                this.spillRecords = null;
+                this.spillObjects = null;
+                this.spillPartition++;
+            }
+            if (this.spillPartition < this.spill.getPartitions()) {
+                final Iterator<Pair<Object, Traverser.Admin<S>>> records = this.spill.read(this.spillPartition);
+                if (records.hasNext()) {
+                    this.spillRecords = records;
+                    this.spillObjects = this.spill.readKeys(this.spillPartition);
+                } else
+                    this.spillPartition++;
+            } else if (this.starts.hasNext()) {
+                // the objects held in memory are duplicates and all other objects are deduplicated on disk
+                while (this.starts.hasNext()) {
+                    final Traverser.Admin<S> traverser = this.starts.next();
+                    final Object object = this.getDedupObject(traverser);
+                    if (!this.duplicateSet.contains(object)) {
+                        traverser.setBulk(1L);
+                        this.spill.add(object, traverser);
+                    }
+                }
+                this.spillPartition = 0;
+            } else {
+                this.close();
+                throw FastNoSuchElementException.instance();
+            }
         }
     }
 
@@ -102,7 +167,11 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
             if (this.duplicateSet.add(entry.getKey()))
                 return PathProcessor.processTraverserPathLabels(entry.getValue(), this.keepLabels);
         }
-        return PathProcessor.processTraverserPathLabels(super.processNextStart(), this.keepLabels);
+        if (null == this.spill && this.spillThreshold > 0 && !this.onGraphComputer && this.duplicateSet.size() >= this.spillThreshold && this.starts.hasNext()) {
+            this.spill = new TraverserSpill<>(this.getTraversal(), this.spillDirectory, this.spillPartitions);
+            this.spillPartition = this.spillPartitions;
+        }
+        return PathProcessor.processTraverserPathLabels(null == this.spill ? super.processNextStart() : this.nextSpilledStart(), this.keepLabels);
     }
 
     @Override
@@ -119,6 +188,9 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     public DedupGlobalStep<S> clone() {
         final DedupGlobalStep<S> clone = (DedupGlobalStep<S>) super.clone();
         clone.duplicateSet = new HashSet<>();
+        clone.spill = null;
+        clone.spillRecords = null;
+        clone.spillObjects = null;
         if (null != this.dedupTraversal)
             clone.dedupTraversal = this.dedupTraversal.clone();
         return clone;
@@ -146,6 +218,20 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
         this.duplicateSet.clear();
         this.barrier = null;
         this.barrierIterator = null;
+        this.close();
+    }
+
+    /**
+     * Deletes the files of the traversers that were spilled to disk.
+     */
+    @Override
+    public void close() {
+        if (null != this.spill) {
+            this.spill.close();
+            this.spill = null;
+            this.spillRecords = null;
+            this.spillObjects = null;
+        }
     }
 
     @Override
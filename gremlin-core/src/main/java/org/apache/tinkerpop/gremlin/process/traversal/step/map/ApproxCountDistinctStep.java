@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.function.HyperLogLogSupplier;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Estimates the number of distinct objects in the stream with a {@link HyperLogLog} sketch and is thus an
+ * approximation of {@code dedup().count()} that uses a fixed amount of memory. The sketch is the seed of the step so
+ * that the sketches of the workers of a {@code GraphComputer} are merged before the estimate is computed.
+ */
+public final class ApproxCountDistinctStep<S, E> extends ReducingBarrierStep<S, E> implements TraversalParent, ByModulating {
+
+    private Traversal.Admin<S, Object> keyTraversal = null;
+
+    public ApproxCountDistinctStep(final Traversal.Admin traversal) {
+        super(traversal);
+        this.setSeedSupplier((Supplier) HyperLogLogSupplier.instance());
+        this.setReducingBiOperator(HyperLogLogBiOperator.INSTANCE);
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        // the bulk does not matter to the number of distinct objects
+        return (E) TraversalUtil.applyNullable(traverser, this.keyTraversal);
+    }
+
+    @Override
+    public E generateFinalResult(final E hyperLogLog) {
+        return (E) (Long) ((HyperLogLog) hyperLogLog).cardinality();
+    }
+
+    @Override
+    public List<Traversal.Admin<S, Object>> getLocalChildren() {
+        return null == this.keyTraversal ? Collections.emptyList() : Collections.singletonList(this.keyTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public void modulateBy(final Traversal.Admin<?, ?> keyTraversal) throws UnsupportedOperationException {
+        this.keyTraversal = this.integrateChild(keyTraversal);
+    }
+
+    @Override
+    public ApproxCountDistinctStep<S, E> clone() {
+        final ApproxCountDistinctStep<S, E> clone = (ApproxCountDistinctStep<S, E>) super.clone();
+        if (null != this.keyTraversal)
+            clone.keyTraversal = this.keyTraversal.clone();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.keyTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        if (this.keyTraversal != null) result ^= this.keyTraversal.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.keyTraversal);
+    }
+
+    ///////////////////////////
+
+    public static final class HyperLogLogBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final HyperLogLogBiOperator INSTANCE = new HyperLogLogBiOperator();
+
+        @Override
+        public S apply(final S mutatingSeed, final S object) {
+            // merges the sketches of two barriers or adds a projected object to a sketch
+            return object instanceof HyperLogLog ?
+                    (S) ((HyperLogLog) mutatingSeed).merge((HyperLogLog) object) :
+                    (S) ((HyperLogLog) mutatingSeed).add(object);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CountMinSketch;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.function.CountMinSketchSupplier;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Estimates the counts of the {@code k} most frequent objects in the stream with a {@link CountMinSketch} and is thus
+ * an approximation of the top entries of {@code groupCount()} that uses a fixed amount of memory. The result is a
+ * {@code Map} of at most {@code k} entries in descending order of the counts. The sketch is the seed of the step so
+ * that the sketches of the workers of a {@code GraphComputer} are merged before the result is computed.
+ */
+public final class ApproxGroupCountStep<S, E> extends ReducingBarrierStep<S, E> implements TraversalParent, ByModulating {
+
+    private Traversal.Admin<S, Object> keyTraversal = null;
+    private final int k;
+
+    public ApproxGroupCountStep(final Traversal.Admin traversal, final int k) {
+        super(traversal);
+        if (k < 1)
+            throw new IllegalArgumentException("The number of most frequent objects must be greater than zero: " + k);
+        this.k = k;
+        this.setSeedSupplier((Supplier) new CountMinSketchSupplier<>(k));
+        this.setReducingBiOperator(CountMinSketchBiOperator.INSTANCE);
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    @Override
+    public E projectTraverser(final Traverser.Admin<S> traverser) {
+        return (E) Collections.singletonMap(TraversalUtil.applyNullable(traverser, this.keyTraversal), traverser.bulk());
+    }
+
+    @Override
+    public E generateFinalResult(final E countMinSketch) {
+        return (E) ((CountMinSketch) countMinSketch).getHeavyHitters();
+    }
+
+    @Override
+    public List<Traversal.Admin<S, Object>> getLocalChildren() {
+        return null == this.keyTraversal ? Collections.emptyList() : Collections.singletonList(this.keyTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
+    }
+
+    @Override
+    public void modulateBy(final Traversal.Admin<?, ?> keyTraversal) throws UnsupportedOperationException {
+        this.keyTraversal = this.integrateChild(keyTraversal);
+    }
+
+    @Override
+    public ApproxGroupCountStep<S, E> clone() {
+        final ApproxGroupCountStep<S, E> clone = (ApproxGroupCountStep<S, E>) super.clone();
+        if (null != this.keyTraversal)
+            clone.keyTraversal = this.keyTraversal.clone();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.keyTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ Integer.hashCode(this.k);
+        if (this.keyTraversal != null) result ^= this.keyTraversal.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.k, this.keyTraversal);
+    }
+
+    ///////////////////////////
+
+    public static final class CountMinSketchBiOperator<S> implements BinaryOperator<S>, Serializable {
+
+        private static final CountMinSketchBiOperator INSTANCE = new CountMinSketchBiOperator();
+
+        @Override
+        public S apply(final S mutatingSeed, final S object) {
+            // merges the sketches of two barriers or adds a projected object and its bulk to a sketch
+            if (object instanceof CountMinSketch)
+                return (S) ((CountMinSketch) mutatingSeed).merge((CountMinSketch) object);
+            for (final Map.Entry<Object, Long> entry : ((Map<Object, Long>) object).entrySet()) {
+                ((CountMinSketch) mutatingSeed).add(entry.getKey(), entry.getValue());
+            }
+            return mutatingSeed;
+        }
+    }
+}
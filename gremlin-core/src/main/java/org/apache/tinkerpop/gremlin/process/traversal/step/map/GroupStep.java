@@ -31,15 +31,20 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserSpill;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
+import org.javatuples.Pair;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,12 +53,18 @@ import java.util.function.BinaryOperator;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>> implements ByModulating, TraversalParent {
+public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>> implements ByModulating, TraversalParent, AutoCloseable {
 
     private char state = 'k';
     private Traversal.Admin<S, K> keyTraversal;
     private Traversal.Admin<S, V> valueTraversal;
     private Barrier barrierStep;
+    private long spillThreshold = 0;
+    private File spillDirectory = null;
+    private int spillPartitions = 0;
+    private Set<K> memoryKeys = new HashSet<>();
+    private Map<K, V> spilledResult = new HashMap<>();
+    private TraverserSpill<S> spill;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -78,19 +89,67 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         }
     }
 
+    /**
+     * Once the number of keys held in memory reaches the {@code threshold}, the traversers of all other keys are
+     * written to {@code partitions} files in the {@code directory} and are grouped one partition at a time when the
+     * incoming traversers are exhausted. A {@code threshold} of zero disables spilling.
+     */
+    public void setSpill(final long threshold, final File directory, final int partitions) {
+        this.spillThreshold = threshold;
+        this.spillDirectory = directory;
+        this.spillPartitions = partitions;
+    }
+
     @Override
     public Map<K, V> projectTraverser(final Traverser.Admin<S> traverser) {
+        return this.projectTraverser(traverser, TraversalUtil.applyNullable(traverser, this.keyTraversal));
+    }
+
+    private Map<K, V> projectTraverser(final Traverser.Admin<S> traverser, final K key) {
         final Map<K, V> map = new HashMap<>(1);
         this.valueTraversal.reset();
         this.valueTraversal.addStart(traverser);
         if (null == this.barrierStep) {
             if (this.valueTraversal.hasNext())
-                map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) this.valueTraversal.next());
+                map.put(key, (V) this.valueTraversal.next());
         } else if (this.barrierStep.hasNextBarrier())
-            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) this.barrierStep.nextBarrier());
+            map.put(key, (V) this.barrierStep.nextBarrier());
         return map;
     }
 
+    @Override
+    public void processAllStarts() {
+        if (this.spillThreshold > 0 && this.starts.hasNext()) {
+            while (this.starts.hasNext()) {
+                final Traverser.Admin<S> traverser = this.starts.next();
+                final K key = TraversalUtil.applyNullable(traverser, this.keyTraversal);
+                if (this.memoryKeys.contains(key) || this.memoryKeys.size() < this.spillThreshold) {
+                    this.memoryKeys.add(key);
+                    this.addBarrier(this.projectTraverser(traverser, key));
+                } else {
+                    if (null == this.spill)
+                        this.spill = new TraverserSpill<>(this.getTraversal(), this.spillDirectory, this.spillPartitions);
+                    this.spill.add(key, traverser);
+                }
+            }
+            if (null != this.spill) {
+                // each partition holds all of the traversers of its keys and is thus reduced on its own
+                for (int i = 0; i < this.spill.getPartitions(); i++) {
+                    final Iterator<Pair<Object, Traverser.Admin<S>>> records = this.spill.read(i);
+                    if (!records.hasNext())
+                        continue;
+                    Map<K, V> partition = new HashMap<>();
+                    while (records.hasNext()) {
+                        final Pair<Object, Traverser.Admin<S>> record = records.next();
+                        partition = this.getBiOperator().apply(partition, this.projectTraverser(record.getValue1(), (K) record.getValue0()));
+                    }
+                    this.spilledResult.putAll(GroupStep.doFinalReduction((Map<K, Object>) partition, this.valueTraversal));
+                }
+            }
+        }
+        super.processAllStarts();
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.keyTraversal, this.valueTraversal);
@@ -117,6 +176,9 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
         clone.barrierStep = TraversalHelper.getFirstStepOfAssignableClass(Barrier.class, clone.valueTraversal).orElse(null);
+        clone.memoryKeys = new HashSet<>();
+        clone.spilledResult = new HashMap<>();
+        clone.spill = null;
         return clone;
     }
 
@@ -137,7 +199,33 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
 
     @Override
     public Map<K, V> generateFinalResult(final Map<K, V> object) {
-        return GroupStep.doFinalReduction((Map<K, Object>) object, this.valueTraversal);
+        final Map<K, V> map = GroupStep.doFinalReduction((Map<K, Object>) object, this.valueTraversal);
+        if (!this.spilledResult.isEmpty()) {
+            // the spilled keys were never held in memory so they do not overlap with the keys of the map
+            map.putAll(this.spilledResult);
+            this.spilledResult.clear();
+        }
+        this.memoryKeys.clear();
+        return map;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.memoryKeys.clear();
+        this.spilledResult.clear();
+        this.close();
+    }
+
+    /**
+     * Deletes the files of the traversers that were spilled to disk.
+     */
+    @Override
+    public void close() {
+        if (null != this.spill) {
+            this.spill.close();
+            this.spill = null;
+        }
     }
 
     ///////////////////////
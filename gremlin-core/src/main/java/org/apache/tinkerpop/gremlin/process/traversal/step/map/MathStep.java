@@ -21,6 +21,12 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import net.objecthunter.exp4j.Expression;
 import net.objecthunter.exp4j.ExpressionBuilder;
+import net.objecthunter.exp4j.shuntingyard.ShuntingYard;
+import net.objecthunter.exp4j.tokenizer.FunctionToken;
+import net.objecthunter.exp4j.tokenizer.NumberToken;
+import net.objecthunter.exp4j.tokenizer.OperatorToken;
+import net.objecthunter.exp4j.tokenizer.Token;
+import net.objecthunter.exp4j.tokenizer.VariableToken;
 import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
@@ -34,6 +40,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -51,6 +59,7 @@ public final class MathStep<S> extends MapStep<S, Double> implements ByModulatin
     private final TinkerExpression expression;
     private TraversalRing<S, Number> traversalRing = new TraversalRing<>();
     private Set<String> keepLabels;
+    private transient Evaluator evaluator;
 
     public MathStep(final Traversal.Admin traversal, final String equation) {
         super(traversal);
@@ -65,15 +74,16 @@ public final class MathStep<S> extends MapStep<S, Double> implements ByModulatin
 
     @Override
     protected Double map(final Traverser.Admin<S> traverser) {
-        final Expression localExpression = new Expression(this.expression.getExpression());
-        for (final String var : this.expression.getVariables()) {
-            localExpression.setVariable(var,
-                    var.equals(CURRENT) ?
-                            TraversalUtil.applyNullable(traverser, this.traversalRing.next()).doubleValue() :
-                            TraversalUtil.applyNullable((S) this.getNullableScopeValue(Pop.last, var, traverser), this.traversalRing.next()).doubleValue());
+        if (null == this.evaluator)
+            this.evaluator = new Evaluator(this.expression);
+        final String[] variables = this.evaluator.variables;
+        for (int i = 0; i < variables.length; i++) {
+            this.evaluator.values[i] = variables[i].equals(CURRENT) ?
+                    TraversalUtil.applyNullable(traverser, this.traversalRing.next()).doubleValue() :
+                    TraversalUtil.applyNullable((S) this.getNullableScopeValue(Pop.last, variables[i], traverser), this.traversalRing.next()).doubleValue();
         }
         this.traversalRing.reset();
-        return localExpression.evaluate();
+        return this.evaluator.evaluate();
     }
 
     @Override
@@ -120,6 +130,7 @@ public final class MathStep<S> extends MapStep<S, Double> implements ByModulatin
     public MathStep<S> clone() {
         final MathStep<S> clone = (MathStep<S>) super.clone();
         clone.traversalRing = this.traversalRing.clone();
+        clone.evaluator = null;
         return clone;
     }
 
@@ -166,6 +177,8 @@ public final class MathStep<S> extends MapStep<S, Double> implements ByModulatin
             "tan", "tanh"
     };
 
+    private static final List<String> CONSTANTS = Arrays.asList("pi", "\u03c0", "e", "\u03c6");
+
     private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\b(?!" +
             String.join("|", FUNCTIONS) + "|([0-9]+))([a-zA-Z_][a-zA-Z0-9_]*)\\b");
 
@@ -208,4 +221,84 @@ public final class MathStep<S> extends MapStep<S, Double> implements ByModulatin
         }
     }
 
+    /**
+     * The {@code Expression} of a {@link TinkerExpression} compiled once into reverse polish notation. The values of
+     * the variables are written to the slots of a {@code double[]} in the order of
+     * {@link TinkerExpression#getVariables()}. The stack and the arguments of the operators and functions are reused,
+     * so an evaluation does not allocate, but an evaluator must not be shared between threads.
+     */
+    static final class Evaluator {
+        final String[] variables;
+        final double[] values;
+        private final Token[] tokens;
+        private final int[] slots;
+        private final double[] constants;
+        private final double[][] arguments;
+        private final double[] stack;
+
+        Evaluator(final TinkerExpression expression) {
+            // builds the Expression first as it validates the equation
+            expression.getExpression();
+            this.variables = expression.getVariables().toArray(new String[expression.getVariables().size()]);
+            this.values = new double[this.variables.length];
+            final Set<String> names = new HashSet<>(expression.getVariables());
+            names.addAll(CONSTANTS);
+            this.tokens = ShuntingYard.convertToRPN(expression.equation, Collections.emptyMap(), Collections.emptyMap(), names, false);
+            this.slots = new int[this.tokens.length];
+            this.constants = new double[this.tokens.length];
+            this.arguments = new double[this.tokens.length][];
+            final List<String> slotNames = Arrays.asList(this.variables);
+            for (int i = 0; i < this.tokens.length; i++) {
+                final Token token = this.tokens[i];
+                if (token.getType() == Token.TOKEN_VARIABLE) {
+                    final String name = ((VariableToken) token).getName();
+                    this.slots[i] = slotNames.indexOf(name);
+                    // the built-in constants like pi are variables that the expression sets itself
+                    if (-1 == this.slots[i])
+                        this.constants[i] = new ExpressionBuilder(name).build().evaluate();
+                } else if (token.getType() == Token.TOKEN_OPERATOR)
+                    this.arguments[i] = new double[((OperatorToken) token).getOperator().getNumOperands()];
+                else if (token.getType() == Token.TOKEN_FUNCTION)
+                    this.arguments[i] = new double[((FunctionToken) token).getFunction().getNumArguments()];
+            }
+            this.stack = new double[this.tokens.length];
+        }
+
+        double evaluate() {
+            int size = 0;
+            for (int i = 0; i < this.tokens.length; i++) {
+                final Token token = this.tokens[i];
+                switch (token.getType()) {
+                    case Token.TOKEN_NUMBER:
+                        this.stack[size++] = ((NumberToken) token).getValue();
+                        break;
+                    case Token.TOKEN_VARIABLE:
+                        this.stack[size++] = -1 == this.slots[i] ? this.constants[i] : this.values[this.slots[i]];
+                        break;
+                    case Token.TOKEN_OPERATOR: {
+                        final double[] arguments = this.arguments[i];
+                        if (size < arguments.length)
+                            throw new IllegalArgumentException("Invalid number of operands available for '" + ((OperatorToken) token).getOperator().getSymbol() + "' operator");
+                        size -= arguments.length;
+                        System.arraycopy(this.stack, size, arguments, 0, arguments.length);
+                        this.stack[size++] = ((OperatorToken) token).getOperator().apply(arguments);
+                        break;
+                    }
+                    case Token.TOKEN_FUNCTION: {
+                        final double[] arguments = this.arguments[i];
+                        if (size < arguments.length)
+                            throw new IllegalArgumentException("Invalid number of arguments available for '" + ((FunctionToken) token).getFunction().getName() + "' function");
+                        size -= arguments.length;
+                        System.arraycopy(this.stack, size, arguments, 0, arguments.length);
+                        this.stack[size++] = ((FunctionToken) token).getFunction().apply(arguments);
+                        break;
+                    }
+                }
+            }
+            if (size != 1)
+                throw new IllegalArgumentException("Invalid number of items on the output queue. Might be caused by an invalid number of arguments for a function.");
+            return this.stack[0];
+        }
+    }
+
 }
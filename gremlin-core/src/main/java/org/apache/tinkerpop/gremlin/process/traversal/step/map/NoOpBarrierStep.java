@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.LocalBarrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
@@ -33,11 +34,25 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
+ * A barrier that collects up to {@code maxBarrierSize} distinct traversers so that equal traversers are merged into a
+ * single bulked traverser. An adaptive barrier estimates the number of distinct traversers among every
+ * {@code maxBarrierSize} traversers that it collects, which is how well a barrier of the maximum size would merge
+ * them. It halves its size, down to {@code minBarrierSize}, while that merge ratio is too low to be worth the memory
+ * of the barrier and doubles it again, up to {@code maxBarrierSize}, once the traversers merge.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements LocalBarrier<S> {
 
+    // a barrier shrinks when less than a tenth of the traversers would merge in a barrier of the maximum size
+    private static final double SHRINK_RATIO = 1.1d;
+    private static final int SKETCH_PRECISION = 10;
+
     private int maxBarrierSize;
+    private int minBarrierSize;
+    private int barrierSize;
+    private int collected = 0;
+    private HyperLogLog sketch;
     private TraverserSet<S> barrier = new TraverserSet<>();
 
     public NoOpBarrierStep(final Traversal.Admin traversal) {
@@ -45,8 +60,40 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     }
 
     public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize) {
+        this(traversal, maxBarrierSize, maxBarrierSize);
+    }
+
+    /**
+     * Creates a barrier whose size adapts to the measured merge ratio of its traversers. The barrier starts at
+     * {@code maxBarrierSize} and its size is kept between {@code minBarrierSize} and {@code maxBarrierSize}.
+     */
+    public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize, final int minBarrierSize) {
         super(traversal);
+        if (minBarrierSize < 1 || minBarrierSize > maxBarrierSize)
+            throw new IllegalArgumentException("The minimum barrier size must be between 1 and the maximum barrier size: " + minBarrierSize);
         this.maxBarrierSize = maxBarrierSize;
+        this.minBarrierSize = minBarrierSize;
+        this.barrierSize = maxBarrierSize;
+        this.sketch = this.isAdaptive() ? new HyperLogLog(SKETCH_PRECISION) : null;
+    }
+
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    public int getMinBarrierSize() {
+        return this.minBarrierSize;
+    }
+
+    /**
+     * The current size of the barrier, which only differs from the maximum size for an adaptive barrier.
+     */
+    public int getBarrierSize() {
+        return this.barrierSize;
+    }
+
+    public boolean isAdaptive() {
+        return this.minBarrierSize < this.maxBarrierSize && this.maxBarrierSize != Integer.MAX_VALUE;
     }
 
     @Override
@@ -63,9 +110,14 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
 
     @Override
     public void processAllStarts() {
-        while (this.starts.hasNext() && (this.maxBarrierSize == Integer.MAX_VALUE || this.barrier.size() < this.maxBarrierSize)) {
+        while (this.starts.hasNext() && (this.barrierSize == Integer.MAX_VALUE || this.barrier.size() < this.barrierSize)) {
             final Traverser.Admin<S> traverser = this.starts.next();
             traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
+            if (null != this.sketch) {
+                this.sketch.add(traverser.hashCode());
+                if (++this.collected == this.maxBarrierSize)
+                    this.adapt();
+            }
             this.barrier.add(traverser);
         }
     }
@@ -97,6 +149,9 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     public NoOpBarrierStep<S> clone() {
         final NoOpBarrierStep<S> clone = (NoOpBarrierStep<S>) super.clone();
         clone.barrier = new TraverserSet<>();
+        clone.barrierSize = this.maxBarrierSize;
+        clone.collected = 0;
+        clone.sketch = this.isAdaptive() ? new HyperLogLog(SKETCH_PRECISION) : null;
         return clone;
     }
 
@@ -114,5 +169,21 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     public void reset() {
         super.reset();
         this.barrier.clear();
+        this.barrierSize = this.maxBarrierSize;
+        this.collected = 0;
+        if (null != this.sketch)
+            this.sketch = new HyperLogLog(SKETCH_PRECISION);
+    }
+
+    private void adapt() {
+        // the ratio is measured over the traversers of a full barrier and not over the ones in the current barrier as
+        // a small barrier can not see how well its traversers would merge in a larger one
+        final double mergeRatio = (double) this.collected / Math.max(1L, this.sketch.cardinality());
+        if (mergeRatio < SHRINK_RATIO)
+            this.barrierSize = Math.max(this.barrierSize / 2, this.minBarrierSize);
+        else
+            this.barrierSize = (int) Math.min((long) this.barrierSize * 2, this.maxBarrierSize);
+        this.collected = 0;
+        this.sketch = new HyperLogLog(SKETCH_PRECISION);
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Count-Min sketch that estimates how often each object was added to it, together with the {@code k} objects with
+ * the highest estimates (the "heavy hitters"). An estimate is never lower than the actual count and exceeds it by at
+ * most {@code e / width} of the total count with a probability of {@code 1 - e^-depth}. Only the heavy hitters are
+ * held as objects so the memory of the sketch does not grow with the number of distinct objects. Sketches of the same
+ * dimensions can be merged, which makes the sketch usable as the value of a {@code MemoryComputeKey}.
+ */
+public final class CountMinSketch<E> implements Serializable {
+
+    public static final int DEFAULT_DEPTH = 5;
+    public static final int DEFAULT_WIDTH = 2048;
+
+    private int k;
+    private int depth;
+    private int width;
+    private long[] table;
+    private long total;
+    private HashMap<E, Long> heavyHitters;
+    // a lower bound of the smallest estimate among the heavy hitters
+    private transient long floor;
+
+    private CountMinSketch() {
+        // for serialization
+    }
+
+    public CountMinSketch(final int k) {
+        this(k, DEFAULT_DEPTH, DEFAULT_WIDTH);
+    }
+
+    public CountMinSketch(final int k, final int depth, final int width) {
+        if (k < 1)
+            throw new IllegalArgumentException("The number of heavy hitters must be greater than zero: " + k);
+        if (depth < 1 || width < 1)
+            throw new IllegalArgumentException("The depth and the width of a Count-Min sketch must be greater than zero: " + depth + 'x' + width);
+        this.k = k;
+        this.depth = depth;
+        this.width = width;
+        this.table = new long[depth * width];
+        this.heavyHitters = new HashMap<>();
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    /**
+     * The sum of the counts of all objects that were added to this sketch.
+     */
+    public long getTotal() {
+        return this.total;
+    }
+
+    public CountMinSketch<E> add(final E object, final long count) {
+        final long hash = Sketches.hash(object);
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < this.depth; i++) {
+            final int index = this.index(i, hash);
+            this.table[index] += count;
+            estimate = Math.min(estimate, this.table[index]);
+        }
+        this.total += count;
+        this.offer(object, estimate);
+        return this;
+    }
+
+    /**
+     * The estimated number of times that the object was added to this sketch.
+     */
+    public long estimate(final Object object) {
+        final long hash = Sketches.hash(object);
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < this.depth; i++) {
+            estimate = Math.min(estimate, this.table[this.index(i, hash)]);
+        }
+        return estimate;
+    }
+
+    public CountMinSketch<E> merge(final CountMinSketch<E> other) {
+        if (other.depth != this.depth || other.width != this.width)
+            throw new IllegalArgumentException("Count-Min sketches of different dimensions can not be merged: " +
+                    this.depth + 'x' + this.width + " and " + other.depth + 'x' + other.width);
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] += other.table[i];
+        }
+        this.total += other.total;
+        // the heavy hitters of the merged sketch are chosen among the heavy hitters of the two sketches
+        final Set<E> candidates = new HashSet<>(this.heavyHitters.keySet());
+        candidates.addAll(other.heavyHitters.keySet());
+        this.heavyHitters.clear();
+        this.floor = 0;
+        for (final E candidate : candidates) {
+            this.offer(candidate, this.estimate(candidate));
+        }
+        return this;
+    }
+
+    /**
+     * The heavy hitters and their estimated counts in descending order of the counts.
+     */
+    public Map<E, Long> getHeavyHitters() {
+        // the estimates that were kept for the heavy hitters may have grown through collisions since
+        final List<Map.Entry<E, Long>> entries = new ArrayList<>(this.heavyHitters.size());
+        for (final E object : this.heavyHitters.keySet()) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(object, this.estimate(object)));
+        }
+        entries.sort(Map.Entry.<E, Long>comparingByValue().reversed());
+        final Map<E, Long> map = new LinkedHashMap<>();
+        for (final Map.Entry<E, Long> entry : entries) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "cms" + this.getHeavyHitters();
+    }
+
+    private void offer(final E object, final long estimate) {
+        if (this.heavyHitters.containsKey(object) || this.heavyHitters.size() < this.k) {
+            this.heavyHitters.put(object, estimate);
+            return;
+        }
+        if (estimate <= this.floor)
+            return;
+        // the estimates only grow so the floor is only recomputed when it may be exceeded
+        E smallest = null;
+        long minimum = Long.MAX_VALUE;
+        for (final Map.Entry<E, Long> entry : this.heavyHitters.entrySet()) {
+            if (entry.getValue() < minimum) {
+                smallest = entry.getKey();
+                minimum = entry.getValue();
+            }
+        }
+        if (estimate > minimum) {
+            this.heavyHitters.remove(smallest);
+            this.heavyHitters.put(object, estimate);
+        } else
+            this.floor = minimum;
+    }
+
+    private int index(final int row, final long hash) {
+        // the rows use independent hashes that are derived from the two halves of the 64-bit hash
+        final int combined = (int) hash + row * (int) (hash >>> 32);
+        return row * this.width + Math.floorMod(combined, this.width);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+
+/**
+ * A HyperLogLog sketch that estimates the number of distinct objects that were added to it with a fixed amount of
+ * memory. A sketch with a precision of {@code p} uses {@code 2^p} bytes and has a standard error of about
+ * {@code 1.04 / sqrt(2^p)}. Sketches of the same precision can be merged, which makes the sketch usable as the
+ * value of a {@code MemoryComputeKey}. Objects are hashed with a 64-bit hash that does not depend on the JVM so that the
+ * sketches that are built on different machines agree.
+ */
+public final class HyperLogLog implements Serializable {
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private int precision;
+    private byte[] registers;
+
+    private HyperLogLog() {
+        // for serialization
+    }
+
+    public HyperLogLog(final int precision) {
+        if (precision < 4 || precision > 18)
+            throw new IllegalArgumentException("The precision of a HyperLogLog must be between 4 and 18: " + precision);
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return this.precision;
+    }
+
+    public HyperLogLog add(final Object object) {
+        final long hash = Sketches.hash(object);
+        final int index = (int) (hash >>> (64 - this.precision));
+        // the guard bit bounds the rank when all of the remaining bits are zero
+        final long remainder = (hash << this.precision) | (1L << (this.precision - 1));
+        final byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > this.registers[index])
+            this.registers[index] = rank;
+        return this;
+    }
+
+    public HyperLogLog merge(final HyperLogLog other) {
+        if (other.precision != this.precision)
+            throw new IllegalArgumentException("HyperLogLog sketches of different precisions can not be merged: " + this.precision + " and " + other.precision);
+        for (int i = 0; i < this.registers.length; i++) {
+            if (other.registers[i] > this.registers[i])
+                this.registers[i] = other.registers[i];
+        }
+        return this;
+    }
+
+    /**
+     * The estimated number of distinct objects that were added to this sketch.
+     */
+    public long cardinality() {
+        final int m = this.registers.length;
+        double sum = 0.0d;
+        int zeros = 0;
+        for (final byte register : this.registers) {
+            sum += 1.0d / (1L << register);
+            if (0 == register) zeros++;
+        }
+        double estimate = alpha(m) * m * m / sum;
+        // linear counting is more accurate while many registers are still empty
+        if (estimate <= 2.5d * m && zeros > 0)
+            estimate = m * Math.log((double) m / zeros);
+        return Math.round(estimate);
+    }
+
+    @Override
+    public String toString() {
+        return "hll[" + this.cardinality() + "]";
+    }
+
+    private static double alpha(final int m) {
+        switch (m) {
+            case 16:
+                return 0.673d;
+            case 32:
+                return 0.697d;
+            case 64:
+                return 0.709d;
+            default:
+                return 0.7213d / (1.0d + 1.079d / m);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.MemoryComputing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
 import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
@@ -37,9 +38,24 @@ import java.util.function.BinaryOperator;
 public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryComputing<MutableMetrics> {  // pseudo GraphComputing but local traversals are "GraphComputing"
     private MutableMetrics metrics;
     private boolean onGraphComputer = false;
+    private final long samplingInterval;
+    private long untilSample;
 
     public ProfileStep(final Traversal.Admin traversal) {
+        this(traversal, 1.0d);
+    }
+
+    /**
+     * Creates a {@code ProfileStep} that only times the given fraction of the calls to {@link #next()} and
+     * {@link #hasNext()} and extrapolates the duration of the others. A sample of {@code 1.0} times every call and a
+     * sample of {@code 0.0} times no call at all so that only the traverser and element counts are collected.
+     */
+    public ProfileStep(final Traversal.Admin traversal, final double sample) {
         super(traversal);
+        if (sample < 0.0d || sample > 1.0d)
+            throw new IllegalArgumentException("The profile sample must be between 0.0 and 1.0: " + sample);
+        this.samplingInterval = 0.0d == sample ? 0 : Math.max(1, Math.round(1.0d / sample));
+        this.untilSample = this.samplingInterval;
     }
 
     public MutableMetrics getMetrics() {
@@ -50,23 +66,20 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
     public Traverser.Admin<S> next() {
         Traverser.Admin<S> start = null;
         this.initializeIfNeeded();
-        this.metrics.start();
+        final boolean timed = this.sample();
+        if (timed) this.metrics.start();
         try {
             start = super.next();
             return start;
         } finally {
+            if (timed) this.metrics.stop(this.samplingInterval);
             if (start != null) {
-                this.metrics.finish(start.bulk());
-                if (this.onGraphComputer) {
-                    this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
-                    this.metrics = null;
-                }
-            } else {
-                this.metrics.stop();
-                if (this.onGraphComputer) {
-                    this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
-                    this.metrics = null;
-                }
+                this.metrics.incrementCount(TraversalMetrics.TRAVERSER_COUNT_ID, 1);
+                this.metrics.incrementCount(TraversalMetrics.ELEMENT_COUNT_ID, start.bulk());
+            }
+            if (this.onGraphComputer) {
+                this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
+                this.metrics = null;
             }
         }
     }
@@ -74,12 +87,25 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
     @Override
     public boolean hasNext() {
         initializeIfNeeded();
-        this.metrics.start();
+        final boolean timed = this.sample();
+        if (timed) this.metrics.start();
         boolean ret = super.hasNext();
-        this.metrics.stop();
+        if (timed) this.metrics.stop(this.samplingInterval);
         return ret;
     }
 
+    /**
+     * Determines if the current call is timed, which is every n-th call where n is the sampling interval.
+     */
+    private boolean sample() {
+        if (this.samplingInterval <= 1)
+            return 1 == this.samplingInterval;
+        if (--this.untilSample > 0)
+            return false;
+        this.untilSample = this.samplingInterval;
+        return true;
+    }
+
     @Override
     protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
         return this.starts.next();
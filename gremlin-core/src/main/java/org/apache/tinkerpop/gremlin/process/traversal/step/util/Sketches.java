@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashing for the probabilistic sketches. The sketches of different workers of a {@code GraphComputer} are merged and
+ * thus an object must have the same hash in every JVM, which rules out {@code Object.hashCode()} for enums and other
+ * identity based hash codes. The hash is also 64-bit as a 32-bit hash has too many collisions for the cardinalities
+ * that the sketches are meant for.
+ */
+final class Sketches {
+
+    private static final long NULL_HASH = 0x9E3779B97F4A7C15L;
+    private static final long ELEMENT_SEED = 0x2545F4914F6CDD1DL;
+
+    private Sketches() {
+    }
+
+    static long hash(final Object object) {
+        if (null == object)
+            return NULL_HASH;
+        else if (object instanceof String)
+            return hash((String) object);
+        else if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte)
+            return mix(((Number) object).longValue());
+        else if (object instanceof Double || object instanceof Float)
+            return mix(Double.doubleToLongBits(((Number) object).doubleValue()));
+        else if (object instanceof Number || object instanceof Character)
+            return hash(object.toString());
+        else if (object instanceof Boolean)
+            return mix((Boolean) object ? 1L : 0L) ^ NULL_HASH;
+        else if (object instanceof Enum)
+            return hash(((Enum) object).getDeclaringClass().getName() + '.' + ((Enum) object).name());
+        else if (object instanceof Element)
+            return mix(hash(((Element) object).id()) ^ ELEMENT_SEED);
+        else if (object instanceof Property)
+            return mix(hash(((Property) object).key()) * 31 + hash(((Property) object).orElse(null)));
+        else if (object instanceof Path)
+            return hash(((Path) object).objects());
+        else if (object instanceof List) {
+            long hash = 1L;
+            for (final Object item : (List<?>) object) {
+                hash = 31 * hash + hash(item);
+            }
+            return mix(hash);
+        } else if (object instanceof Set) {
+            // the order of a set is not defined so the hashes of the items are summed
+            long hash = 0L;
+            for (final Object item : (Set<?>) object) {
+                hash += hash(item);
+            }
+            return mix(hash);
+        } else if (object instanceof Map) {
+            long hash = 0L;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                hash += hash(entry.getKey()) * 31 ^ hash(entry.getValue());
+            }
+            return mix(hash);
+        } else
+            return mix(object.hashCode());
+    }
+
+    private static long hash(final String string) {
+        // 64-bit FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * The finalizer of MurmurHash3 which spreads the bits of the hash.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoIo;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.javatuples.Pair;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Keeps traversers and the keys they are grouped or deduplicated by in Gryo encoded files on local disk. The records
+ * are hash partitioned by key so that each partition holds every traverser of its keys and can thus be processed on
+ * its own with only the keys of that partition in memory. Elements are written as references and the keys and traversers
+ * are re-attached to the {@link Graph} of the traversal when they are read.
+ */
+public final class TraverserSpill<S> implements AutoCloseable {
+
+    private final Traversal.Admin<?, ?> traversal;
+    private final File directory;
+    private final Kryo kryo;
+    private final File[] records;
+    private final Output[] outputs;
+    private final Input[] inputs;
+    private final File[] inputFiles;
+    private final File[] keys;
+    private long size = 0;
+
+    public TraverserSpill(final Traversal.Admin<?, ?> traversal, final File directory, final int partitions) {
+        if (partitions < 1)
+            throw new IllegalArgumentException("The number of spill partitions must be greater than zero: " + partitions);
+        this.traversal = traversal;
+        this.directory = directory;
+        this.kryo = createMapper(traversal.getGraph().orElse(null)).createMapper();
+        this.records = new File[partitions];
+        this.outputs = new Output[partitions];
+        this.inputs = new Input[partitions];
+        this.inputFiles = new File[partitions];
+        this.keys = new File[partitions];
+    }
+
+    /**
+     * Writes the traverser and its key to the partition of the key. The bulk of the traverser is retained.
+     */
+    public void add(final Object key, final Traverser.Admin<S> traverser) {
+        final int partition = this.partition(key);
+        try {
+            if (null == this.outputs[partition]) {
+                this.records[partition] = this.createFile();
+                this.outputs[partition] = new Output(new FileOutputStream(this.records[partition]));
+            }
+            this.kryo.writeClassAndObject(this.outputs[partition], ReferenceFactory.detach(key));
+            this.kryo.writeClassAndObject(this.outputs[partition], traverser.detach());
+            this.size++;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The number of traversers that were written and have not been read yet.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    public int getPartitions() {
+        return this.records.length;
+    }
+
+    /**
+     * Reads the traversers that were written to the partition in the order that they were added. The partition is
+     * emptied so that traversers which are added afterwards are returned on the next read of the partition.
+     */
+    public Iterator<Pair<Object, Traverser.Admin<S>>> read(final int partition) {
+        if (null == this.outputs[partition])
+            return EmptyIterator.instance();
+        this.outputs[partition].close();
+        this.outputs[partition] = null;
+        final File file = this.records[partition];
+        this.records[partition] = null;
+        this.closeInput(partition);
+        final Input input = this.openInput(file);
+        this.inputs[partition] = input;
+        this.inputFiles[partition] = file;
+        final Graph graph = this.traversal.getGraph().orElse(null);
+        return new Iterator<Pair<Object, Traverser.Admin<S>>>() {
+            private boolean closed = false;
+
+            @Override
+            public boolean hasNext() {
+                // the input is also closed when the partition is read again or when the spill is closed
+                if (!this.closed && (input != inputs[partition] || input.eof())) {
+                    if (input == inputs[partition])
+                        closeInput(partition);
+                    this.closed = true;
+                }
+                return !this.closed;
+            }
+
+            @Override
+            public Pair<Object, Traverser.Admin<S>> next() {
+                if (!this.hasNext())
+                    throw FastNoSuchElementException.instance();
+                Object key = kryo.readClassAndObject(input);
+                final Traverser.Admin<S> traverser = (Traverser.Admin<S>) kryo.readClassAndObject(input);
+                traverser.setSideEffects(traversal.getSideEffects());
+                if (null != graph) {
+                    if (key instanceof Attachable)
+                        key = ((Attachable<?>) key).attach(Attachable.Method.get(graph));
+                    traverser.attach(Attachable.Method.get(graph));
+                }
+                size--;
+                return Pair.with(key, traverser);
+            }
+        };
+    }
+
+    /**
+     * Reads the keys that were last written for the partition with {@link #writeKeys(int, Set)}.
+     */
+    public Set<Object> readKeys(final int partition) {
+        final Set<Object> set = new HashSet<>();
+        if (null != this.keys[partition]) {
+            try (final Input input = this.openInput(this.keys[partition])) {
+                while (!input.eof()) {
+                    set.add(this.kryo.readClassAndObject(input));
+                }
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Replaces the keys that are kept for the partition, e.g. the keys that have already been processed.
+     */
+    public void writeKeys(final int partition, final Set<Object> set) {
+        try {
+            if (null == this.keys[partition])
+                this.keys[partition] = this.createFile();
+            try (final Output output = new Output(new FileOutputStream(this.keys[partition]))) {
+                for (final Object key : set) {
+                    this.kryo.writeClassAndObject(output, key);
+                }
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes all of the files of this spill.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < this.records.length; i++) {
+            if (null != this.outputs[i])
+                this.outputs[i].close();
+            this.closeInput(i);
+            if (null != this.records[i])
+                this.records[i].delete();
+            if (null != this.keys[i])
+                this.keys[i].delete();
+            this.outputs[i] = null;
+            this.records[i] = null;
+            this.keys[i] = null;
+        }
+        this.size = 0;
+    }
+
+    private void closeInput(final int partition) {
+        if (null != this.inputs[partition]) {
+            this.inputs[partition].close();
+            this.inputFiles[partition].delete();
+            this.inputs[partition] = null;
+            this.inputFiles[partition] = null;
+        }
+    }
+
+    private int partition(final Object key) {
+        return null == key ? 0 : Math.floorMod(key.hashCode(), this.records.length);
+    }
+
+    private File createFile() throws IOException {
+        return File.createTempFile("gremlin-spill-", ".kryo", this.directory);
+    }
+
+    private Input openInput(final File file) {
+        try {
+            return new Input(new FileInputStream(file));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static GryoMapper createMapper(final Graph graph) {
+        // use the mapper of the graph where possible so that custom identifiers and classes can be serialized
+        if (null != graph) {
+            try {
+                return graph.io(GryoIo.build()).mapper().create();
+            } catch (final Exception ignored) {
+                // the graph does not support gryo so fall back to the default mapper
+            }
+        }
+        return GryoMapper.build().create();
+    }
+}
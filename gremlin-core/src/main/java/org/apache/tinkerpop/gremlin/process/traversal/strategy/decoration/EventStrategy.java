@@ -39,6 +39,8 @@ import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertexProper
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceProperty;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertexProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.ArrayDeque;
@@ -46,6 +48,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * A strategy that raises events when {@link Mutating} steps are encountered and successfully executed.
@@ -102,7 +111,7 @@ public final class EventStrategy extends AbstractTraversalStrategy<TraversalStra
     public final static class Builder {
         private final List<MutationListener> listeners = new ArrayList<>();
         private EventQueue eventQueue = new DefaultEventQueue();
-        private Detachment detachment = Detachment.DETACHED_WITH_PROPERTIES;
+        private Detachment detachment = null;
 
         Builder() {}
 
@@ -118,7 +127,9 @@ public final class EventStrategy extends AbstractTraversalStrategy<TraversalStra
 
         /**
          * Configures the method of detachment for element provided in mutation callback events. The default is
-         * {@link Detachment#DETACHED_WITH_PROPERTIES}.
+         * {@link Detachment#DETACHED_WITH_PROPERTIES} unless the {@link EventQueue} is an {@link AsyncEventQueue}
+         * in which case it is {@link Detachment#REFERENCE} so that writers do not copy the properties of every element
+         * they mutate.
          */
         public Builder detach(final Detachment detachment) {
             this.detachment = detachment;
@@ -126,6 +137,8 @@ public final class EventStrategy extends AbstractTraversalStrategy<TraversalStra
         }
 
         public EventStrategy create() {
+            if (null == this.detachment)
+                this.detachment = this.eventQueue instanceof AsyncEventQueue ? Detachment.REFERENCE : Detachment.DETACHED_WITH_PROPERTIES;
             return new EventStrategy(this);
         }
     }
@@ -268,4 +281,202 @@ public final class EventStrategy extends AbstractTraversalStrategy<TraversalStra
         }
     }
 
+    /**
+     * Publishes events to a bounded buffer from which a dedicated listener thread delivers them in batches so that
+     * listeners do not add latency to the traversals that raise the events. Events are delivered in the order they
+     * were added unless the {@link OverflowPolicy} says otherwise. The queue must be closed to deliver any remaining
+     * events and stop the listener thread, which interrupting the listener thread does as well. Listeners are called
+     * from the listener thread and, with {@link OverflowPolicy#CALLER_RUNS}, from the threads of the traversals at the
+     * same time, in which case they must be thread-safe.
+     */
+    public static class AsyncEventQueue implements EventQueue, AutoCloseable {
+
+        private static final Logger logger = LoggerFactory.getLogger(AsyncEventQueue.class);
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+
+        public static final int DEFAULT_CAPACITY = 8192;
+        public static final int DEFAULT_BATCH_SIZE = 256;
+
+        private final BlockingQueue<Event> eventQueue;
+        private final int batchSize;
+        private final OverflowPolicy overflowPolicy;
+        private final AtomicLong droppedEvents = new AtomicLong(0);
+        private final Thread listenerThread;
+        private volatile List<MutationListener> listeners = Collections.emptyList();
+        private volatile boolean closed = false;
+
+        /**
+         * Events are added under the read lock and the queue is closed under the write lock so that no event can be
+         * added to the queue once the listener thread has seen that it is closed.
+         */
+        private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+        public AsyncEventQueue() {
+            this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, OverflowPolicy.BLOCK);
+        }
+
+        public AsyncEventQueue(final int capacity, final int batchSize, final OverflowPolicy overflowPolicy) {
+            if (capacity < 1)
+                throw new IllegalArgumentException("The capacity of the event queue must be greater than zero");
+            if (batchSize < 1)
+                throw new IllegalArgumentException("The batch size of the event queue must be greater than zero");
+            this.eventQueue = new ArrayBlockingQueue<>(capacity);
+            this.batchSize = batchSize;
+            this.overflowPolicy = overflowPolicy;
+            this.listenerThread = new Thread(this::deliverEvents, "gremlin-event-queue-" + THREAD_COUNTER.incrementAndGet());
+            this.listenerThread.setDaemon(true);
+            this.listenerThread.start();
+        }
+
+        @Override
+        public void setListeners(final List<MutationListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void addEvent(final Event evt) {
+            this.closeLock.readLock().lock();
+            try {
+                if (this.closed)
+                    throw new IllegalStateException(String.format("The %s is closed", AsyncEventQueue.class.getSimpleName()));
+                if (!this.eventQueue.offer(evt))
+                    this.overflow(evt);
+            } finally {
+                this.closeLock.readLock().unlock();
+            }
+        }
+
+        private void overflow(final Event evt) {
+            switch (this.overflowPolicy) {
+                case BLOCK:
+                    try {
+                        this.eventQueue.put(evt);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e.getMessage(), e);
+                    }
+                    break;
+                case DROP_NEWEST:
+                    this.droppedEvents.incrementAndGet();
+                    break;
+                case DROP_OLDEST:
+                    while (!this.eventQueue.offer(evt)) {
+                        if (null != this.eventQueue.poll())
+                            this.droppedEvents.incrementAndGet();
+                    }
+                    break;
+                case CALLER_RUNS:
+                    this.fireEvent(evt);
+                    break;
+            }
+        }
+
+        /**
+         * Gets the number of events that were discarded by the {@link OverflowPolicy}.
+         */
+        public long getDroppedEventCount() {
+            return this.droppedEvents.get();
+        }
+
+        /**
+         * Stops accepting events, waits for the listener thread to deliver the events that remain in the queue and
+         * stops it.
+         */
+        @Override
+        public void close() throws InterruptedException {
+            // traversals that block on a full queue hold the read lock until the listener thread makes room
+            this.closeLock.writeLock().lock();
+            try {
+                this.closed = true;
+            } finally {
+                this.closeLock.writeLock().unlock();
+            }
+            this.listenerThread.join();
+        }
+
+        private void deliverEvents() {
+            final List<Event> batch = new ArrayList<>(this.batchSize);
+            boolean interrupted = false;
+            while (!this.closed) {
+                try {
+                    final Event first = this.eventQueue.poll(100, TimeUnit.MILLISECONDS);
+                    if (null != first)
+                        this.deliverBatch(first, batch);
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                    this.closeFromListenerThread(batch);
+                }
+            }
+
+            // no event can be added once the queue is closed so the events that remain are the last ones
+            for (Event first = this.eventQueue.poll(); first != null; first = this.eventQueue.poll()) {
+                this.deliverBatch(first, batch);
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        /**
+         * Closes the queue without blocking, as traversals that block on a full queue hold the read lock until the
+         * listener thread makes room.
+         */
+        private void closeFromListenerThread(final List<Event> batch) {
+            while (!this.closeLock.writeLock().tryLock()) {
+                final Event first = this.eventQueue.poll();
+                if (null == first)
+                    Thread.yield();
+                else
+                    this.deliverBatch(first, batch);
+            }
+            try {
+                this.closed = true;
+            } finally {
+                this.closeLock.writeLock().unlock();
+            }
+        }
+
+        private void deliverBatch(final Event first, final List<Event> batch) {
+            batch.add(first);
+            this.eventQueue.drainTo(batch, this.batchSize - 1);
+            for (final Event event : batch) {
+                this.fireEvent(event);
+            }
+            batch.clear();
+        }
+
+        private void fireEvent(final Event event) {
+            try {
+                event.fireEvent(this.listeners.iterator());
+            } catch (final Exception e) {
+                logger.warn(String.format("A %s failed to process an event", MutationListener.class.getSimpleName()), e);
+            }
+        }
+    }
+
+    /**
+     * Determines what an {@link AsyncEventQueue} does with an event when its buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Blocks the traversal that raised the event until there is room in the buffer.
+         */
+        BLOCK,
+
+        /**
+         * Discards the event that was raised.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Discards the oldest event in the buffer to make room for the event that was raised.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Fires the event to the listeners in the thread of the traversal that raised it, which means that the event
+         * may be delivered ahead of events that are still in the buffer and at the same time as the events that the
+         * listener thread delivers, so the listeners must be thread-safe.
+         */
+        CALLER_RUNS
+    }
 }
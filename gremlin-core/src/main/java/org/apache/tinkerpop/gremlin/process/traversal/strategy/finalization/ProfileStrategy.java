@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
 
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -26,26 +28,51 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSid
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalMetrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
+ * Injects a {@link ProfileStep} after every step of a traversal that is profiled. By default every call to a step is
+ * timed. The strategy can be configured with a {@code sample} that times only that fraction of the calls and
+ * extrapolates the durations, where a {@code sample} of {@code 0.0} times no call at all and only counts traversers.
+ * A strategy that only counts can also be configured to {@code countAll} traversals, in which case it injects the
+ * {@link ProfileStep} instances into traversals that do not end with {@code profile()} so that the counts can be
+ * collected from them with {@link #getMetrics(Traversal.Admin)}.
+ *
  * @author Bob Briody (http://bobbriody.com)
  */
 public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
 
-    private static final ProfileStrategy INSTANCE = new ProfileStrategy();
+    public static final String SAMPLE = "sample";
+    public static final String COUNT_ALL = "countAll";
+
+    private static final ProfileStrategy INSTANCE = new ProfileStrategy(1.0d, false);
     private static final String MARKER = Graph.Hidden.hide("gremlin.profile");
 
-    private ProfileStrategy() {
+    private final double sample;
+    private final boolean countAll;
+
+    private ProfileStrategy(final double sample, final boolean countAll) {
+        if (sample < 0.0d || sample > 1.0d)
+            throw new IllegalArgumentException("The profile sample must be between 0.0 and 1.0: " + sample);
+        if (countAll && 0.0d != sample)
+            throw new IllegalArgumentException("Only a profile sample of 0.0 can count all traversals: " + sample);
+        this.sample = sample;
+        this.countAll = countAll;
     }
 
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if ((traversal.getParent() instanceof EmptyStep || traversal.getParent() instanceof VertexProgramStep) &&
-                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal))
+        final boolean root = traversal.getParent() instanceof EmptyStep;
+        if ((root || traversal.getParent() instanceof VertexProgramStep) &&
+                ((root && this.countAll) || TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal)))
             TraversalHelper.applyTraversalRecursively(t -> t.getEndStep().addLabel(MARKER), traversal);
         if (traversal.getEndStep().getLabels().contains(MARKER)) {
             traversal.getEndStep().removeLabel(MARKER);
@@ -57,12 +84,86 @@ public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalSt
                 if (steps.get(i * 2) instanceof ProfileSideEffectStep)
                     break;
                 // Create and inject ProfileStep
-                traversal.addStep((i * 2) + 1, new ProfileStep(traversal));
+                traversal.addStep((i * 2) + 1, new ProfileStep(traversal, this.sample));
             }
         }
     }
 
+    public double getSample() {
+        return this.sample;
+    }
+
+    /**
+     * Determines if this strategy counts the traversers of every traversal and not only of those that end with
+     * {@code profile()}.
+     */
+    public boolean isCountAll() {
+        return this.countAll;
+    }
+
+    /**
+     * Gets the metrics of a traversal that was profiled without {@code profile()}, which is the case for every
+     * traversal when the strategy {@link #isCountAll()}, or nothing if it was not profiled. The traversal should be
+     * completely iterated first.
+     */
+    public static Optional<TraversalMetrics> getMetrics(final Traversal.Admin<?, ?> traversal) {
+        if (!TraversalHelper.hasStepOfClass(ProfileStep.class, traversal) ||
+                TraversalHelper.hasStepOfAssignableClass(ProfileSideEffectStep.class, traversal))
+            return Optional.empty();
+        final DefaultTraversalMetrics metrics = new DefaultTraversalMetrics();
+        metrics.setMetrics(traversal, false);
+        return Optional.of(metrics);
+    }
+
+    public static ProfileStrategy create(final Configuration configuration) {
+        return new ProfileStrategy(configuration.getDouble(SAMPLE, 1.0d), configuration.getBoolean(COUNT_ALL, false));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(SAMPLE, this.sample);
+        if (this.countAll)
+            map.put(COUNT_ALL, true);
+        return new MapConfiguration(map);
+    }
+
     public static ProfileStrategy instance() {
         return INSTANCE;
     }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private double sample = 1.0d;
+        private boolean countAll = false;
+
+        private Builder() {
+        }
+
+        /**
+         * The fraction of the calls to each profiled step that are timed, where {@code 1.0} (the default) times every
+         * call and {@code 0.0} only counts the traversers and elements that pass through each step.
+         */
+        public Builder sample(final double sample) {
+            this.sample = sample;
+            return this;
+        }
+
+        /**
+         * Counts the traversers of every traversal and not only of those that end with {@code profile()}, which adds a
+         * step to each step of the traversals and requires a {@link #sample(double)} of {@code 0.0}.
+         */
+        public Builder countAll(final boolean countAll) {
+            this.countAll = countAll;
+            return this;
+        }
+
+        public ProfileStrategy create() {
+            return new ProfileStrategy(this.sample, this.countAll);
+        }
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraverserSpill;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounds the memory that {@code dedup()} and {@code group()} use in an OLTP traversal. Once either step holds
+ * {@code threshold} distinct keys in memory, the traversers of all further keys are written to a
+ * {@link TraverserSpill} in the {@code directory} and are processed one hash partition at a time. The result of
+ * {@code group()} is still a single {@code Map} and must fit in memory. The strategy only applies to the steps of the
+ * root traversal, it does not apply to traversals that are executed with a {@code GraphComputer} and it does not apply
+ * to traversals that require the path of their traversers.
+ * <p/>
+ * <pre>
+ * g.withStrategies(SpillStrategy.build().threshold(1000000).directory("/tmp").create()).V().values("name").dedup()
+ * </pre>
+ */
+public final class SpillStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final String THRESHOLD = "threshold";
+    public static final String DIRECTORY = "directory";
+    public static final String PARTITIONS = "partitions";
+
+    private final long threshold;
+    private final String directory;
+    private final int partitions;
+
+    private SpillStrategy(final long threshold, final String directory, final int partitions) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("The spill threshold must be greater than zero: " + threshold);
+        if (partitions < 1)
+            throw new IllegalArgumentException("The number of spill partitions must be greater than zero: " + partitions);
+        this.threshold = threshold;
+        this.directory = directory;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // spilled paths could only be read back as references so traversals that require paths are not spilled
+        if (!(traversal.getParent() instanceof EmptyStep) ||
+                traversal.getTraverserRequirements().contains(TraverserRequirement.PATH) ||
+                traversal.getTraverserRequirements().contains(TraverserRequirement.LABELED_PATH))
+            return;
+        final File file = new File(this.directory);
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof DedupGlobalStep)
+                ((DedupGlobalStep) step).setSpill(this.threshold, file, this.partitions);
+            else if (step instanceof GroupStep)
+                ((GroupStep) step).setSpill(this.threshold, file, this.partitions);
+        }
+    }
+
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    public String getDirectory() {
+        return this.directory;
+    }
+
+    public int getPartitions() {
+        return this.partitions;
+    }
+
+    public static SpillStrategy create(final Configuration configuration) {
+        return new SpillStrategy(configuration.getLong(THRESHOLD, Builder.DEFAULT_THRESHOLD),
+                configuration.getString(DIRECTORY, Builder.DEFAULT_DIRECTORY),
+                configuration.getInt(PARTITIONS, Builder.DEFAULT_PARTITIONS));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, SpillStrategy.class.getCanonicalName());
+        map.put(THRESHOLD, this.threshold);
+        map.put(DIRECTORY, this.directory);
+        map.put(PARTITIONS, this.partitions);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private static final long DEFAULT_THRESHOLD = 1000000;
+        private static final String DEFAULT_DIRECTORY = System.getProperty("java.io.tmpdir");
+        private static final int DEFAULT_PARTITIONS = 64;
+
+        private long threshold = DEFAULT_THRESHOLD;
+        private String directory = DEFAULT_DIRECTORY;
+        private int partitions = DEFAULT_PARTITIONS;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of distinct keys that a step holds in memory before it spills to disk, which defaults to
+         * {@code 1000000}.
+         */
+        public Builder threshold(final long threshold) {
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * The directory of the spill files, which defaults to {@code java.io.tmpdir}.
+         */
+        public Builder directory(final String directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * The number of hash partitions of the spill files, which defaults to {@code 64}. More partitions mean that
+         * fewer keys are in memory while a partition is processed.
+         */
+        public Builder partitions(final int partitions) {
+            this.partitions = partitions;
+            return this;
+        }
+
+        public SpillStrategy create() {
+            return new SpillStrategy(this.threshold, this.directory, this.partitions);
+        }
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
 
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
@@ -37,16 +39,30 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequire
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * Inserts a {@link NoOpBarrierStep} after a flatMap step that follows another flatMap step so that the traversers
+ * which the second step emits are bulked. The barriers are adaptive: they start at {@code maxBarrierSize} and their
+ * size shrinks toward {@code minBarrierSize} while the traversers do not merge and grows back while they do. Barriers
+ * are not inserted while the traversers carry labeled paths, unless {@link PathRetractionStrategy} has retracted
+ * the path to the labels that are still required, as traversers with different paths never merge.
+ * <p/>
+ * <pre>
+ * g.withStrategies(LazyBarrierStrategy.build().maxBarrierSize(10000).minBarrierSize(100).create())
+ * </pre>
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
+    public static final String MAX_BARRIER_SIZE_KEY = "maxBarrierSize";
+    public static final String MIN_BARRIER_SIZE_KEY = "minBarrierSize";
+
     private final boolean IS_TESTING = Boolean.valueOf(System.getProperty("is.testing", "false"));
-    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy();
     private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
             CountStrategy.class,
             PathRetractionStrategy.class,
@@ -58,8 +74,20 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
 
     private static final int BIG_START_SIZE = 5;
     protected static final int MAX_BARRIER_SIZE = 2500;
+    protected static final int MIN_BARRIER_SIZE = 100;
+
+    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy(MAX_BARRIER_SIZE, MIN_BARRIER_SIZE);
+
+    private final int maxBarrierSize;
+    private final int minBarrierSize;
 
-    private LazyBarrierStrategy() {
+    private LazyBarrierStrategy(final int maxBarrierSize, final int minBarrierSize) {
+        if (maxBarrierSize < 1)
+            throw new IllegalArgumentException("The maximum barrier size must be greater than zero: " + maxBarrierSize);
+        if (minBarrierSize < 1 || minBarrierSize > maxBarrierSize)
+            throw new IllegalArgumentException("The minimum barrier size must be between 1 and the maximum barrier size: " + minBarrierSize);
+        this.maxBarrierSize = maxBarrierSize;
+        this.minBarrierSize = minBarrierSize;
     }
 
     @Override
@@ -76,8 +104,10 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
             final Step<?, ?> step = traversal.getSteps().get(i);
 
             if (step instanceof PathProcessor) {
+                // once PathRetractionStrategy has set the labels to keep, the path is retracted to those labels and
+                // traversers with equal retained labels can merge again, so start barrier'ing again
                 final Set<String> keepLabels = ((PathProcessor) step).getKeepLabels();
-                if (null != keepLabels && keepLabels.isEmpty()) // if no more path data, then start barrier'ing again
+                if (null != keepLabels)
                     labeledPath = false;
             }
             if (step instanceof FlatMapStep &&
@@ -89,7 +119,7 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                         !(step.getNextStep() instanceof Barrier) &&
                         !(step.getNextStep() instanceof NoneStep) &&
                         !(step.getNextStep() instanceof EmptyStep)) {
-                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE);
+                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, this.maxBarrierSize, this.minBarrierSize);
                     TraversalHelper.copyLabels(step, noOpBarrierStep, true);
                     TraversalHelper.insertAfterStep(noOpBarrierStep, step, traversal);
                 } else
@@ -107,7 +137,67 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         return PRIORS;
     }
 
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    public int getMinBarrierSize() {
+        return this.minBarrierSize;
+    }
+
     public static LazyBarrierStrategy instance() {
         return INSTANCE;
     }
+
+    public static LazyBarrierStrategy create(final Configuration configuration) {
+        final int maxBarrierSize = configuration.getInt(MAX_BARRIER_SIZE_KEY, MAX_BARRIER_SIZE);
+        return new LazyBarrierStrategy(maxBarrierSize,
+                configuration.getInt(MIN_BARRIER_SIZE_KEY, Math.min(MIN_BARRIER_SIZE, maxBarrierSize)));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, LazyBarrierStrategy.class.getCanonicalName());
+        map.put(MAX_BARRIER_SIZE_KEY, this.maxBarrierSize);
+        map.put(MIN_BARRIER_SIZE_KEY, this.minBarrierSize);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int maxBarrierSize = MAX_BARRIER_SIZE;
+        private Integer minBarrierSize = null;
+
+        private Builder() {
+        }
+
+        /**
+         * The size at which the barriers start and the largest size to which they grow, which defaults to
+         * {@code 2500}.
+         */
+        public Builder maxBarrierSize(final int maxBarrierSize) {
+            this.maxBarrierSize = maxBarrierSize;
+            return this;
+        }
+
+        /**
+         * The smallest size to which the barriers shrink when their traversers do not merge, which defaults to
+         * {@code 100} or the maximum size if that is smaller. A minimum size that is equal to the maximum size makes
+         * the barriers fixed in size.
+         */
+        public Builder minBarrierSize(final int minBarrierSize) {
+            this.minBarrierSize = minBarrierSize;
+            return this;
+        }
+
+        public LazyBarrierStrategy create() {
+            return new LazyBarrierStrategy(this.maxBarrierSize,
+                    null == this.minBarrierSize ? Math.min(MIN_BARRIER_SIZE, this.maxBarrierSize) : this.minBarrierSize);
+        }
+    }
 }
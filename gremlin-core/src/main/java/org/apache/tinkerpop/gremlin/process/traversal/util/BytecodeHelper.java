@@ -20,12 +20,16 @@
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.apache.tinkerpop.gremlin.util.function.Lambda;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -34,6 +38,10 @@ import java.util.function.Supplier;
  */
 public final class BytecodeHelper {
 
+    private static final Set<String> MUTATING_OPERATORS = new HashSet<>(Arrays.asList(
+            GraphTraversal.Symbols.addV, GraphTraversal.Symbols.addE, GraphTraversal.Symbols.property,
+            GraphTraversal.Symbols.drop, GraphTraversal.Symbols.program));
+
     private BytecodeHelper() {
         // public static methods only
     }
@@ -66,6 +74,25 @@ public final class BytecodeHelper {
         return Optional.empty();
     }
 
+    /**
+     * Determines if the traversal of the bytecode can not mutate the graph, which is the case if none of its
+     * instructions, including those of its child traversals, adds a mutating step or a step that runs a
+     * {@code VertexProgram}, and none of its arguments is a lambda whose effects can not be known.
+     */
+    public static boolean isReadOnly(final Bytecode bytecode) {
+        for (final Bytecode.Instruction instruction : bytecode.getStepInstructions()) {
+            if (MUTATING_OPERATORS.contains(instruction.getOperator()))
+                return false;
+        }
+        for (final Bytecode.Instruction instruction : bytecode.getInstructions()) {
+            for (final Object argument : instruction.getArguments()) {
+                if (argument instanceof Lambda || (argument instanceof Bytecode && !isReadOnly((Bytecode) argument)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
     public static void removeBindings(final Bytecode bytecode) {
         for (final Bytecode.Instruction instruction : bytecode.getInstructions()) {
             final Object[] arguments = instruction.getArguments();
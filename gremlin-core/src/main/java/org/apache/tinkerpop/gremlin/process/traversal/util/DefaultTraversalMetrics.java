@@ -153,13 +153,18 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
             // The index is necessary to ensure that step order is preserved after a merge.
             final ProfileStep step = profileSteps.get(ii);
             final MutableMetrics stepMetrics = onGraphComputer ? traversal.getSideEffects().get(step.getId()) : step.getMetrics();
+            // a step that was never called has no metrics, which may happen to traversals that are profiled without
+            // profile() and thus are not necessarily iterated through every step
+            if (null == stepMetrics)
+                continue;
 
             this.totalStepDuration += stepMetrics.getDuration(MutableMetrics.SOURCE_UNIT);
             tempMetrics.add(Pair.with(ii, stepMetrics.clone()));
         }
 
         tempMetrics.forEach(m -> {
-            final double dur = m.getValue1().getDuration(TimeUnit.NANOSECONDS) * 100.d / this.totalStepDuration;
+            // no duration is collected when profiling only counts traversers
+            final double dur = 0 == this.totalStepDuration ? 0.0d : m.getValue1().getDuration(TimeUnit.NANOSECONDS) * 100.d / this.totalStepDuration;
             m.getValue1().setAnnotation(PERCENT_DURATION_KEY, dur);
         });
 
@@ -184,8 +189,8 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
                 if (!onGraphComputer) {
                     // subtract upstream duration.
                     final long durBeforeAdjustment = metrics.getDuration(TimeUnit.NANOSECONDS);
-                    // adjust duration
-                    metrics.setDuration(metrics.getDuration(TimeUnit.NANOSECONDS) - prevDur, TimeUnit.NANOSECONDS);
+                    // adjust duration - sampled durations are extrapolated and may undershoot the upstream duration
+                    metrics.setDuration(Math.max(0, metrics.getDuration(TimeUnit.NANOSECONDS) - prevDur), TimeUnit.NANOSECONDS);
                     prevDur = durBeforeAdjustment;
                 }
 
@@ -84,9 +84,18 @@ public class MutableMetrics extends ImmutableMetrics implements Cloneable {
      * {@link #start()}.
      */
     public void stop() {
+        this.stop(1);
+    }
+
+    /**
+     * Stops the timer for this metric and increments the overall duration by the elapsed time multiplied by the
+     * {@code weight}. A weight greater than one extrapolates the duration when only every n-th call is timed. Should
+     * not be called without first calling {@link #start()}.
+     */
+    public void stop(final long weight) {
         if (finalized) throw new IllegalStateException("Metrics have been finalized and cannot be modified");
         if (-1 == this.tempTime) throw new IllegalStateException("Internal Error: Metrics has not been started. Start timer before stopping timer");
-        this.durationNs = this.durationNs + (System.nanoTime() - this.tempTime);
+        this.durationNs = this.durationNs + (System.nanoTime() - this.tempTime) * weight;
         this.tempTime = -1;
     }
 
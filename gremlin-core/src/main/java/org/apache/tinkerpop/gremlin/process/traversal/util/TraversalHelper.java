@@ -23,10 +23,18 @@ import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.AbstractLambdaTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ColumnTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ConstantTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.LoopTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.TrueTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
@@ -42,6 +50,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SubgraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
@@ -51,6 +60,7 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -89,6 +99,57 @@ public final class TraversalHelper {
         return true;
     }
 
+    /**
+     * Determines the property keys that the traversal (and its children) may read from the elements it processes.
+     * If the keys can not be determined (e.g. the traversal contains lambdas or reads all the properties of an
+     * element), then {@link Optional#empty()} is returned.
+     *
+     * @param traversal the traversal to analyze
+     * @return the accessed property keys or empty if any property may be accessed
+     */
+    public static Optional<Set<String>> getAccessedPropertyKeys(final Traversal.Admin<?, ?> traversal) {
+        final Set<String> propertyKeys = new HashSet<>();
+        return addAccessedPropertyKeys(traversal, propertyKeys) ? Optional.of(propertyKeys) : Optional.empty();
+    }
+
+    private static boolean addAccessedPropertyKeys(final Traversal.Admin<?, ?> traversal, final Set<String> propertyKeys) {
+        if (traversal instanceof ElementValueTraversal) {
+            propertyKeys.add(((ElementValueTraversal) traversal).getPropertyKey());
+            return true;
+        } else if (traversal instanceof AbstractLambdaTraversal)
+            return traversal instanceof TokenTraversal || traversal instanceof IdentityTraversal ||
+                    traversal instanceof ColumnTraversal || traversal instanceof ConstantTraversal ||
+                    traversal instanceof TrueTraversal || traversal instanceof LoopTraversal;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaHolder || step instanceof Mutating || step instanceof SubgraphStep)
+                return false;
+            if (step instanceof HasContainerHolder) {
+                for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                    propertyKeys.add(hasContainer.getKey());
+                }
+            }
+            if (step instanceof PropertiesStep || step instanceof PropertyMapStep) {
+                final String[] keys = step instanceof PropertiesStep ?
+                        ((PropertiesStep) step).getPropertyKeys() :
+                        ((PropertyMapStep) step).getPropertyKeys();
+                if (0 == keys.length)
+                    return false;
+                Collections.addAll(propertyKeys, keys);
+            }
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> global : ((TraversalParent) step).getGlobalChildren()) {
+                    if (!addAccessedPropertyKeys(global, propertyKeys))
+                        return false;
+                }
+                for (final Traversal.Admin<?, ?> local : ((TraversalParent) step).getLocalChildren()) {
+                    if (!addAccessedPropertyKeys(local, propertyKeys))
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public static boolean isLocalStarGraph(final Traversal.Admin<?, ?> traversal) {
         return 'x' != isLocalStarGraph(traversal, 'v');
     }
@@ -531,6 +531,12 @@ public final class StarGraph implements Graph, Serializable {
             if (!graphFilter.hasFilter())
                 return Optional.of(this);
             else if (graphFilter.legalVertex(this)) {
+                if (graphFilter.hasVertexPropertyKeys() && null != this.vertexProperties) {
+                    for (final String key : new HashSet<>(this.vertexProperties.keySet())) {
+                        if (GraphFilter.Legal.YES != graphFilter.checkVertexPropertyLegality(key))
+                            this.dropVertexProperties(key);
+                    }
+                }
                 if (graphFilter.hasEdgeFilter()) {
                     if (graphFilter.checkEdgeLegality(Direction.OUT).negative())
                         this.dropEdges(Direction.OUT);
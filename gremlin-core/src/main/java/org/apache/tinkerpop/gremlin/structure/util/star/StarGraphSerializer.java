@@ -94,10 +94,14 @@ public class StarGraphSerializer implements SerializerShim<StarGraph> {
             for (int i = 0; i < numberOfUniqueKeys; i++) {
                 final String vertexPropertyKey = kryo.readObject(input, String.class);
                 final int numberOfVertexPropertiesWithKey = kryo.readObject(input, Integer.class);
+                final boolean legal = this.graphFilter.checkVertexPropertyLegality(vertexPropertyKey).positive();
                 for (int j = 0; j < numberOfVertexPropertiesWithKey; j++) {
                     final Object id = kryo.readClassAndObject(input);
                     final Object value = kryo.readClassAndObject(input);
-                    starGraph.starVertex.property(VertexProperty.Cardinality.list, vertexPropertyKey, value, T.id, id);
+                    if (legal)
+                        starGraph.starVertex.property(VertexProperty.Cardinality.list, vertexPropertyKey, value, T.id, id);
+                    else if (null != starGraph.metaProperties)
+                        starGraph.metaProperties.remove(id);
                 }
             }
         }
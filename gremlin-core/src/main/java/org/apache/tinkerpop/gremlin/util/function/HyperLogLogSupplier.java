@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.function;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HyperLogLog;
+
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+public final class HyperLogLogSupplier implements Supplier<HyperLogLog>, Serializable {
+
+    private static final HyperLogLogSupplier INSTANCE = new HyperLogLogSupplier();
+
+    private HyperLogLogSupplier() {}
+
+    @Override
+    public HyperLogLog get() {
+        return new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    public static HyperLogLogSupplier instance() {
+        return INSTANCE;
+    }
+}
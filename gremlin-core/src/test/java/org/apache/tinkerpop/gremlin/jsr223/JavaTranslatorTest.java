@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.jsr223;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class JavaTranslatorTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+    private final JavaTranslator<GraphTraversalSource, GraphTraversal.Admin<Vertex, Vertex>> translator = JavaTranslator.of(g);
+
+    @Test
+    public void shouldTranslateTheSameBytecodeRepeatedly() {
+        final List<GraphTraversal<?, ?>> traversals = Arrays.asList(
+                g.V(),
+                g.V(1, 2).out().out("knows", "created").in(),
+                g.withStrategies(ReadOnlyStrategy.instance()).V().has("name", "marko").has("age", P.gt(30)).values("name"),
+                g.V().match(as("a").out().as("b"), as("b").has("name", "lop")).select("a", "b").by("name"),
+                g.V().repeat(out()).times(2).order().by(values("name")).limit(10).range(1, 3),
+                g.inject(1, null, 3).coin(0.5d).sample(2));
+        // the second round of translations uses the cached dispatches
+        for (int i = 0; i < 2; i++) {
+            for (final GraphTraversal<?, ?> traversal : traversals) {
+                final Bytecode bytecode = traversal.asAdmin().getBytecode();
+                assertEquals(bytecode, translator.translate(bytecode).getBytecode());
+            }
+        }
+    }
+
+    @Test
+    public void shouldWidenPrimitiveArguments() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("limit", 2);
+        bytecode.addStep("times", (byte) 3);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(g.V().limit(2).times(3).asAdmin().getBytecode(), translator.translate(bytecode).getBytecode());
+        }
+    }
+
+    @Test
+    public void shouldThrowOnMethodThatDoesNotExist() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("doesNotExist", "x");
+        try {
+            translator.translate(bytecode);
+            fail("The method does not exist on GraphTraversal");
+        } catch (final IllegalStateException e) {
+            assertEquals("Could not locate method: DefaultGraphTraversal.doesNotExist([x])", e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldThrowOnArgumentsThatDoNotMatch() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("limit", "x");
+        try {
+            translator.translate(bytecode);
+            fail("There is no limit() that takes a String");
+        } catch (final IllegalStateException e) {
+            assertEquals("Could not locate method: DefaultGraphTraversal.limit([x])", e.getMessage());
+        }
+    }
+}
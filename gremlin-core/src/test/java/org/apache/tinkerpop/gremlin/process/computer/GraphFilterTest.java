@@ -327,4 +327,34 @@ public class GraphFilterTest {
         assertEquals(GraphFilter.Legal.MAYBE, graphFilter.checkEdgeLegality(Direction.IN, "created"));
         assertEquals(GraphFilter.Legal.MAYBE, graphFilter.checkEdgeLegality(Direction.BOTH, "created"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldHaveProperVertexPropertyLegality() {
+        GraphFilter graphFilter = new GraphFilter();
+        assertFalse(graphFilter.hasVertexPropertyKeys());
+        assertEquals(GraphFilter.Legal.YES, graphFilter.checkVertexPropertyLegality("name"));
+        //
+        graphFilter.setVertexPropertyKeys(new HashSet<>(Arrays.asList("name", "age")));
+        assertTrue(graphFilter.hasFilter());
+        assertTrue(graphFilter.hasVertexPropertyKeys());
+        assertEquals(GraphFilter.Legal.YES, graphFilter.checkVertexPropertyLegality("name"));
+        assertEquals(GraphFilter.Legal.YES, graphFilter.checkVertexPropertyLegality("age"));
+        assertEquals(GraphFilter.Legal.YES, graphFilter.checkVertexPropertyLegality("~hidden"));
+        assertEquals(GraphFilter.Legal.NO, graphFilter.checkVertexPropertyLegality("location"));
+        //
+        graphFilter.setVertexFilter(__.has("location"));
+        assertEquals(GraphFilter.Legal.YES, graphFilter.checkVertexPropertyLegality("name"));
+        assertEquals(GraphFilter.Legal.MAYBE, graphFilter.checkVertexPropertyLegality("location"));
+        assertEquals(GraphFilter.Legal.NO, graphFilter.checkVertexPropertyLegality("weight"));
+        //
+        graphFilter.setVertexFilter(__.<Vertex>filter(t -> t.get().property("weight").isPresent()));
+        assertEquals(GraphFilter.Legal.YES, graphFilter.checkVertexPropertyLegality("name"));
+        assertEquals(GraphFilter.Legal.MAYBE, graphFilter.checkVertexPropertyLegality("location"));
+        assertEquals(GraphFilter.Legal.MAYBE, graphFilter.checkVertexPropertyLegality("weight"));
+        //
+        final GraphFilter clone = graphFilter.clone();
+        assertEquals(graphFilter, clone);
+        clone.setVertexPropertyKeys(Collections.singleton("name"));
+        assertFalse(graphFilter.equals(clone));
+    }
+}
@@ -19,6 +19,7 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import net.objecthunter.exp4j.Expression;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
@@ -28,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.both;
 import static org.junit.Assert.assertEquals;
@@ -61,4 +63,23 @@ public class MathStepTest extends StepTest {
         assertEquals(Arrays.asList("ac", "b", "_", "x", "z2"), new ArrayList<>(MathStep.getVariables("(ac + b / _) + log2 (x^3)^z2 + b + (tan (log10 ac / sqrt b))")));
     }
 
+    @Test
+    public void shouldEvaluateLikeExpression() {
+        final Random random = new Random(42);
+        for (final String equation : Arrays.asList("1 + 2", "a + b / 2", "sin a + b", "-a + 3 % b", "2^-a * -b",
+                "(a + b / _) + log2 (x^3)^z", "pi * a + e", "((a + b) * (a - b)) / abs(b - 100)")) {
+            final MathStep.TinkerExpression expression = new MathStep.TinkerExpression(equation, MathStep.getVariables(equation));
+            final MathStep.Evaluator evaluator = new MathStep.Evaluator(expression);
+            // the evaluator is reused for every set of values
+            for (int i = 0; i < 10; i++) {
+                final Expression expected = new Expression(expression.getExpression());
+                for (int j = 0; j < evaluator.variables.length; j++) {
+                    evaluator.values[j] = random.nextInt(10) + 1;
+                    expected.setVariable(evaluator.variables[j], evaluator.values[j]);
+                }
+                assertEquals(equation, expected.evaluate(), evaluator.evaluate(), 0.0d);
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NoOpBarrierStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                __.barrier(),
+                __.barrier(10),
+                __.barrier(100)
+        );
+    }
+
+    @Test
+    public void shouldShrinkWhenTraversersDoNotMerge() {
+        final Traversal.Admin<Integer, Integer> traversal = stream(IntStream.range(0, 10000));
+        final NoOpBarrierStep<Integer> barrier = new NoOpBarrierStep<>(traversal, 1000, 10);
+        traversal.addStep(barrier);
+        assertTrue(barrier.isAdaptive());
+        assertEquals(1000, barrier.getBarrierSize());
+        long bulk = 0L;
+        while (traversal.hasNext()) {
+            bulk += traversal.nextTraverser().bulk();
+        }
+        assertEquals(10000L, bulk);
+        assertEquals(10, barrier.getBarrierSize());
+    }
+
+    @Test
+    public void shouldGrowWhenTraversersMerge() {
+        final Traversal.Admin<Integer, Integer> traversal = stream(IntStream.range(0, 100000).map(i -> i < 5000 ? i : i % 10));
+        final NoOpBarrierStep<Integer> barrier = new NoOpBarrierStep<>(traversal, 1000, 10);
+        traversal.addStep(barrier);
+        int traversers = 0;
+        long bulk = 0L;
+        int smallest = barrier.getBarrierSize();
+        while (traversal.hasNext()) {
+            final Traverser.Admin<Integer> traverser = traversal.nextTraverser();
+            traversers++;
+            bulk += traverser.bulk();
+            smallest = Math.min(smallest, barrier.getBarrierSize());
+        }
+        assertEquals(100000L, bulk);
+        assertTrue(smallest < 100);
+        assertEquals(1000, barrier.getBarrierSize());
+        // the repeated numbers were bulked
+        assertTrue(traversers < 20000);
+    }
+
+    @Test
+    public void shouldNotAdaptFixedBarriers() {
+        final Traversal.Admin<Integer, Integer> traversal = stream(IntStream.range(0, 10000));
+        final NoOpBarrierStep<Integer> barrier = new NoOpBarrierStep<>(traversal, 1000);
+        traversal.addStep(barrier);
+        assertFalse(barrier.isAdaptive());
+        while (traversal.hasNext()) {
+            traversal.nextTraverser();
+        }
+        assertEquals(1000, barrier.getBarrierSize());
+    }
+
+    /**
+     * A traversal that emits the numbers one traverser at a time, as {@code inject()} would already bulk them.
+     */
+    private static Traversal.Admin<Integer, Integer> stream(final IntStream numbers) {
+        final List<Integer> list = numbers.boxed().collect(Collectors.toList());
+        return __.inject(0).<Integer>flatMap(t -> list.iterator()).asAdmin();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowMinimumAboveMaximum() {
+        new NoOpBarrierStep<>(__.identity().asAdmin(), 10, 100);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CountMinSketchTest {
+
+    @Test
+    public void shouldNeverUnderestimate() {
+        final CountMinSketch<Integer> sketch = new CountMinSketch<>(10, 3, 64);
+        for (int i = 0; i < 10000; i++) {
+            sketch.add(i % 1000, 1);
+        }
+        assertEquals(10000L, sketch.getTotal());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(sketch.estimate(i) >= 10);
+        }
+    }
+
+    @Test
+    public void shouldFindHeavyHitters() {
+        final CountMinSketch<String> sketch = new CountMinSketch<>(3);
+        for (int i = 0; i < 100000; i++) {
+            sketch.add("x" + i, 1);
+        }
+        sketch.add("a", 5000).add("b", 3000);
+        for (int i = 0; i < 4000; i++) {
+            sketch.add("c", 1);
+        }
+        final Map<String, Long> heavyHitters = sketch.getHeavyHitters();
+        assertEquals(Arrays.asList("a", "c", "b"), new ArrayList<>(heavyHitters.keySet()));
+        // the overestimation is bounded by e / width of the total
+        final long bound = (long) Math.ceil(Math.E / CountMinSketch.DEFAULT_WIDTH * sketch.getTotal());
+        assertEquals(5000L, heavyHitters.get("a"), bound);
+        assertEquals(4000L, heavyHitters.get("c"), bound);
+        assertEquals(3000L, heavyHitters.get("b"), bound);
+    }
+
+    @Test
+    public void shouldMergeHeavyHitters() {
+        final CountMinSketch<String> a = new CountMinSketch<>(2);
+        final CountMinSketch<String> b = new CountMinSketch<>(2);
+        a.add("x", 10).add("y", 8).add("z", 7);
+        b.add("z", 9).add("w", 1);
+        final Map<String, Long> heavyHitters = a.merge(b).getHeavyHitters();
+        assertEquals(Arrays.asList("z", "x"), new ArrayList<>(heavyHitters.keySet()));
+        assertEquals(16L, heavyHitters.get("z").longValue());
+        assertEquals(10L, heavyHitters.get("x").longValue());
+        assertEquals(35L, a.getTotal());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotMergeDifferentDimensions() {
+        new CountMinSketch<String>(2, 5, 2048).merge(new CountMinSketch<>(2, 4, 2048));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void shouldEstimateSmallCardinalities() {
+        final HyperLogLog hll = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        assertEquals(0L, hll.cardinality());
+        hll.add("marko").add("marko").add(1).add(1L).add(T.label).add(Arrays.asList(1, 2));
+        // integral numbers of different types are the same key as they are for dedup()
+        assertEquals(4L, hll.cardinality());
+    }
+
+    @Test
+    public void shouldEstimateLargeCardinalities() {
+        for (final int precision : new int[]{10, 14}) {
+            final HyperLogLog hll = new HyperLogLog(precision);
+            for (int i = 0; i < 1000000; i++) {
+                hll.add("v" + i);
+                hll.add("v" + (i / 2));
+            }
+            final double error = 1.04d / Math.sqrt(1 << precision);
+            assertEquals(1000000d, hll.cardinality(), 1000000d * error * 4);
+        }
+    }
+
+    @Test
+    public void shouldMergeLikeTheUnion() {
+        final HyperLogLog a = new HyperLogLog(12);
+        final HyperLogLog b = new HyperLogLog(12);
+        final HyperLogLog union = new HyperLogLog(12);
+        for (int i = 0; i < 30000; i++) {
+            (i % 3 == 0 ? a : b).add(i);
+            union.add(i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            a.add(i);
+        }
+        assertEquals(union.cardinality(), a.merge(b).cardinality());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotMergeDifferentPrecisions() {
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowLargePrecision() {
+        new HyperLogLog(19);
+    }
+}
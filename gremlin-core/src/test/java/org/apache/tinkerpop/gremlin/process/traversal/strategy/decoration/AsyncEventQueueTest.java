@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.Event;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncEventQueueTest {
+
+    private static Event vertexAdded(final int id) {
+        return new Event.VertexAddedEvent(new DetachedVertex(id, Vertex.DEFAULT_LABEL, Collections.emptyMap()));
+    }
+
+    @Test
+    public void shouldDeliverEventsInOrder() throws Exception {
+        final RecordingListener listener = new RecordingListener(null);
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(16, 4, EventStrategy.OverflowPolicy.BLOCK);
+        queue.setListeners(Collections.singletonList(listener));
+        for (int i = 0; i < 100; i++) {
+            queue.addEvent(vertexAdded(i));
+        }
+        queue.close();
+
+        assertEquals(100, listener.ids.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, listener.ids.get(i));
+        }
+        assertEquals(0, queue.getDroppedEventCount());
+    }
+
+    @Test
+    public void shouldDropNewestEventsWhenFull() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final RecordingListener listener = new RecordingListener(latch);
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(2, 1, EventStrategy.OverflowPolicy.DROP_NEWEST);
+        queue.setListeners(Collections.singletonList(listener));
+        // the first event blocks the listener thread so that the next two fill the buffer
+        queue.addEvent(vertexAdded(0));
+        assertTrue(listener.started.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < 6; i++) {
+            queue.addEvent(vertexAdded(i));
+        }
+        latch.countDown();
+        queue.close();
+
+        assertEquals(3, queue.getDroppedEventCount());
+        assertEquals(3, listener.ids.size());
+        assertEquals(0, listener.ids.get(0));
+        assertEquals(1, listener.ids.get(1));
+        assertEquals(2, listener.ids.get(2));
+    }
+
+    @Test
+    public void shouldDropOldestEventsWhenFull() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final RecordingListener listener = new RecordingListener(latch);
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(2, 1, EventStrategy.OverflowPolicy.DROP_OLDEST);
+        queue.setListeners(Collections.singletonList(listener));
+        queue.addEvent(vertexAdded(0));
+        assertTrue(listener.started.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < 6; i++) {
+            queue.addEvent(vertexAdded(i));
+        }
+        latch.countDown();
+        queue.close();
+
+        assertEquals(3, queue.getDroppedEventCount());
+        assertEquals(3, listener.ids.size());
+        assertEquals(0, listener.ids.get(0));
+        assertEquals(4, listener.ids.get(1));
+        assertEquals(5, listener.ids.get(2));
+    }
+
+    @Test
+    public void shouldFireInCallerWhenFull() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final RecordingListener listener = new RecordingListener(latch);
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(1, 1, EventStrategy.OverflowPolicy.CALLER_RUNS);
+        queue.setListeners(Collections.singletonList(listener));
+        queue.addEvent(vertexAdded(0));
+        assertTrue(listener.started.await(10, TimeUnit.SECONDS));
+        queue.addEvent(vertexAdded(1));
+        // the buffer is full so this event is fired by the calling thread
+        queue.addEvent(vertexAdded(2));
+        assertEquals(1, listener.callerIds.size());
+        latch.countDown();
+        queue.close();
+
+        assertEquals(0, queue.getDroppedEventCount());
+        assertEquals(3, listener.ids.size());
+        assertTrue(listener.ids.containsAll(Arrays.asList(0, 1, 2)));
+    }
+
+    @Test
+    public void shouldKeepDeliveringWhenListenerFails() throws Exception {
+        final RecordingListener listener = new RecordingListener(null);
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(16, 4, EventStrategy.OverflowPolicy.BLOCK);
+        queue.setListeners(Arrays.asList(listener, new FailingListener()));
+        queue.addEvent(vertexAdded(0));
+        queue.addEvent(vertexAdded(1));
+        queue.close();
+
+        // the failing listener does not stop the delivery of the events that follow
+        assertEquals(2, listener.ids.size());
+        try {
+            queue.addEvent(vertexAdded(2));
+            fail("The queue is closed");
+        } catch (final IllegalStateException ignored) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldDeliverEveryAcceptedEventWhenClosedWhileEventsAreAdded() throws Exception {
+        for (int run = 0; run < 20; run++) {
+            final RecordingListener listener = new RecordingListener(null);
+            final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(4, 2, EventStrategy.OverflowPolicy.BLOCK);
+            queue.setListeners(Collections.singletonList(listener));
+            final AtomicInteger accepted = new AtomicInteger(0);
+            final List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                producers.add(new Thread(() -> {
+                    try {
+                        while (true) {
+                            queue.addEvent(vertexAdded(0));
+                            accepted.incrementAndGet();
+                        }
+                    } catch (final IllegalStateException ignored) {
+                        // the queue is closed
+                    }
+                }));
+            }
+            producers.forEach(Thread::start);
+            Thread.sleep(10);
+            queue.close();
+            for (final Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(accepted.get(), listener.ids.size());
+        }
+    }
+
+    @Test
+    public void shouldCloseWhenListenerThreadIsInterrupted() throws Exception {
+        final RecordingListener listener = new RecordingListener(null);
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue(16, 4, EventStrategy.OverflowPolicy.BLOCK);
+        queue.setListeners(Collections.singletonList(listener));
+        queue.addEvent(vertexAdded(0));
+        assertTrue(listener.started.await(10, TimeUnit.SECONDS));
+        queue.addEvent(vertexAdded(1));
+        listener.listenerThread.interrupt();
+        listener.listenerThread.join(10000);
+        assertFalse(listener.listenerThread.isAlive());
+
+        assertEquals(Arrays.asList(0, 1), listener.ids);
+        try {
+            queue.addEvent(vertexAdded(2));
+            fail("The queue is closed");
+        } catch (final IllegalStateException ignored) {
+            // expected
+        }
+        queue.close();
+    }
+
+    @Test
+    public void shouldDefaultToReferenceDetachment() throws Exception {
+        final EventStrategy.AsyncEventQueue queue = new EventStrategy.AsyncEventQueue();
+        assertEquals(EventStrategy.Detachment.REFERENCE, EventStrategy.build().eventQueue(queue).create().getDetachment());
+        assertEquals(EventStrategy.Detachment.DETACHED_NO_PROPERTIES,
+                EventStrategy.build().eventQueue(queue).detach(EventStrategy.Detachment.DETACHED_NO_PROPERTIES).create().getDetachment());
+        assertEquals(EventStrategy.Detachment.DETACHED_WITH_PROPERTIES, EventStrategy.build().create().getDetachment());
+        queue.close();
+    }
+
+    private static class RecordingListener extends EmptyMutationListener {
+        private final CountDownLatch latch;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final List<Object> ids = Collections.synchronizedList(new ArrayList<>());
+        private final List<Object> callerIds = Collections.synchronizedList(new ArrayList<>());
+        private final Thread callerThread = Thread.currentThread();
+        private volatile Thread listenerThread = null;
+
+        private RecordingListener(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void vertexAdded(final Vertex vertex) {
+            this.ids.add(vertex.id());
+            if (Thread.currentThread() == this.callerThread)
+                this.callerIds.add(vertex.id());
+            else
+                this.listenerThread = Thread.currentThread();
+            this.started.countDown();
+            if (null != this.latch && Thread.currentThread() != this.callerThread) {
+                try {
+                    this.latch.await();
+                } catch (final InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private static class FailingListener extends EmptyMutationListener {
+        @Override
+        public void vertexAdded(final Vertex vertex) {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    private static class EmptyMutationListener implements MutationListener {
+        @Override
+        public void vertexAdded(final Vertex vertex) {
+        }
+
+        @Override
+        public void vertexRemoved(final Vertex vertex) {
+        }
+
+        @Override
+        public void vertexPropertyChanged(final Vertex element, final VertexProperty oldValue, final Object setValue, final Object... vertexPropertyKeyValues) {
+        }
+
+        @Override
+        public void vertexPropertyRemoved(final VertexProperty vertexProperty) {
+        }
+
+        @Override
+        public void edgeAdded(final Edge edge) {
+        }
+
+        @Override
+        public void edgeRemoved(final Edge edge) {
+        }
+
+        @Override
+        public void edgePropertyChanged(final Edge element, final Property oldValue, final Object setValue) {
+        }
+
+        @Override
+        public void edgePropertyRemoved(final Edge element, final Property property) {
+        }
+
+        @Override
+        public void vertexPropertyPropertyChanged(final VertexProperty element, final Property oldValue, final Object setValue) {
+        }
+
+        @Override
+        public void vertexPropertyPropertyRemoved(final VertexProperty element, final Property property) {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProfileStrategyTest {
+
+    private static final Integer[] NUMBERS = IntStream.range(0, 1000).boxed().toArray(Integer[]::new);
+
+    private static TraversalMetrics profile(final ProfileStrategy strategy) {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(strategy);
+        return g.inject(NUMBERS).filter(t -> t.get() % 2 == 0).map(t -> t.get() * 2).profile().next();
+    }
+
+    @Test
+    public void shouldCountEveryTraverserWhenSampling() {
+        for (final double sample : new double[]{1.0d, 0.1d, 0.01d, 0.0d}) {
+            final TraversalMetrics metrics = profile(ProfileStrategy.build().sample(sample).create());
+            assertEquals(3, metrics.getMetrics().size());
+            assertEquals(1000, metrics.getMetrics(0).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+            assertEquals(500, metrics.getMetrics(1).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+            assertEquals(500, metrics.getMetrics(2).getCount(TraversalMetrics.TRAVERSER_COUNT_ID).longValue());
+            for (final Metrics m : metrics.getMetrics()) {
+                assertTrue(m.getDuration(TimeUnit.NANOSECONDS) >= 0);
+            }
+        }
+    }
+
+    @Test
+    public void shouldOnlyCountWhenNotSampling() {
+        final TraversalMetrics metrics = profile(ProfileStrategy.build().sample(0.0d).create());
+        assertEquals(0, metrics.getDuration(TimeUnit.NANOSECONDS));
+        for (final Metrics m : metrics.getMetrics()) {
+            assertEquals(0, m.getDuration(TimeUnit.NANOSECONDS));
+            assertEquals(0.0d, (double) m.getAnnotation(TraversalMetrics.PERCENT_DURATION_KEY), 0.0d);
+        }
+    }
+
+    @Test
+    public void shouldCountTraversalsWithoutProfileWhenCountingAll() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(ProfileStrategy.build().sample(0.0d).countAll(true).create());
+        final Traversal.Admin<Integer, Integer> traversal = g.inject(NUMBERS).filter(t -> t.get() % 2 == 0).map(t -> t.get() * 2).asAdmin();
+        assertEquals(500, traversal.toList().size());
+        final TraversalMetrics metrics = ProfileStrategy.getMetrics(traversal).get();
+        assertEquals(3, metrics.getMetrics().size());
+        assertEquals(1000, metrics.getMetrics(0).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+        assertEquals(500, metrics.getMetrics(1).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+        assertEquals(500, metrics.getMetrics(2).getCount(TraversalMetrics.TRAVERSER_COUNT_ID).longValue());
+    }
+
+    @Test
+    public void shouldNotInstrumentTraversalsWithoutProfile() {
+        for (final ProfileStrategy strategy : Arrays.asList(ProfileStrategy.instance(),
+                ProfileStrategy.build().sample(0.5d).create(), ProfileStrategy.build().sample(0.0d).create())) {
+            final Traversal.Admin<Integer, Integer> traversal = EmptyGraph.instance().traversal().withStrategies(strategy)
+                    .inject(NUMBERS).filter(t -> t.get() % 2 == 0).asAdmin();
+            traversal.applyStrategies();
+            assertFalse(TraversalHelper.hasStepOfClass(ProfileStep.class, traversal));
+            assertEquals(500, traversal.toList().size());
+            assertFalse(ProfileStrategy.getMetrics(traversal).isPresent());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldOnlyCountAllTraversalsWhenNotSampling() {
+        ProfileStrategy.build().sample(0.5d).countAll(true).create();
+    }
+
+    @Test
+    public void shouldRoundTripConfiguration() {
+        assertEquals(1.0d, ProfileStrategy.instance().getSample(), 0.0d);
+        final ProfileStrategy strategy = ProfileStrategy.build().sample(0.25d).create();
+        assertEquals(0.25d, ProfileStrategy.create(strategy.getConfiguration()).getSample(), 0.0d);
+        assertFalse(ProfileStrategy.create(strategy.getConfiguration()).isCountAll());
+        assertTrue(ProfileStrategy.create(ProfileStrategy.build().sample(0.0d).countAll(true).create().getConfiguration()).isCountAll());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowSampleGreaterThanOne() {
+        ProfileStrategy.build().sample(1.5d).create();
+    }
+}
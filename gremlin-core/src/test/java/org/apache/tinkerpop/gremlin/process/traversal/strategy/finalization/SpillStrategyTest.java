@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.count;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.identity;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SpillStrategyTest {
+
+    // every number from 0 to 999 occurs three times in a random order
+    private static final Integer[] NUMBERS = IntStream.range(0, 3000).map(i -> (i * 7919) % 3000 % 1000).boxed().toArray(Integer[]::new);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private GraphTraversalSource spilling(final int threshold) {
+        return EmptyGraph.instance().traversal().withStrategies(SpillStrategy.build()
+                .threshold(threshold).directory(this.folder.getRoot().getAbsolutePath()).partitions(8).create());
+    }
+
+    private int spillFiles() {
+        return this.folder.getRoot().list().length;
+    }
+
+    @Test
+    public void shouldDedupWhenSpilling() throws Exception {
+        for (final int threshold : new int[]{1, 10, 999, 1000, 5000}) {
+            final Traversal<Integer, Integer> traversal = spilling(threshold).inject(NUMBERS).dedup();
+            final List<Integer> numbers = traversal.toList();
+            assertEquals(1000, numbers.size());
+            assertEquals(1000, new HashSet<>(numbers).size());
+            // the spill files are deleted once the spilled traversers were emitted
+            assertEquals(0, spillFiles());
+            traversal.close();
+        }
+    }
+
+    @Test
+    public void shouldDedupByWhenSpilling() throws Exception {
+        final List<Integer> numbers = spilling(3).inject(NUMBERS).dedup().by(n -> (Integer) n % 10).toList();
+        assertEquals(10, numbers.size());
+        assertEquals(10, new HashSet<>(numbers).size());
+    }
+
+    @Test
+    public void shouldDeleteSpillFilesOnClose() throws Exception {
+        final Traversal<Integer, Integer> traversal = spilling(10).inject(NUMBERS).dedup();
+        for (int i = 0; i < 20; i++) {
+            traversal.next();
+        }
+        assertTrue(spillFiles() > 0);
+        traversal.close();
+        assertEquals(0, spillFiles());
+    }
+
+    @Test
+    public void shouldGroupWhenSpilling() throws Exception {
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.put(i, 3l);
+        }
+        for (final int threshold : new int[]{1, 100, 1000}) {
+            assertEquals(expected, spilling(threshold).inject(NUMBERS).<Integer, Long>group().by(identity()).by(count()).next());
+            assertEquals(expected.keySet(), spilling(threshold).inject(NUMBERS).<Integer, List<Integer>>group().next().keySet());
+            assertEquals(0, spillFiles());
+        }
+        final Map<Integer, List<Integer>> groups = spilling(10).inject(NUMBERS).<Integer, List<Integer>>group().by(n -> (Integer) n % 100).next();
+        assertEquals(100, groups.size());
+        for (final Map.Entry<Integer, List<Integer>> entry : groups.entrySet()) {
+            assertEquals(30, entry.getValue().size());
+            assertTrue(entry.getValue().stream().allMatch(n -> n % 100 == entry.getKey()));
+        }
+    }
+
+    @Test
+    public void shouldNotSpillTraversersWithPaths() throws Exception {
+        final Traversal<Integer, Integer> traversal = spilling(10).inject(NUMBERS).as("a").dedup();
+        for (int i = 0; i < 20; i++) {
+            traversal.next();
+        }
+        assertEquals(0, spillFiles());
+        traversal.close();
+    }
+
+    @Test
+    public void shouldRoundTripConfiguration() {
+        final SpillStrategy strategy = SpillStrategy.build().threshold(10).directory("spill").partitions(4).create();
+        final SpillStrategy copy = SpillStrategy.create(strategy.getConfiguration());
+        assertEquals(10, copy.getThreshold());
+        assertEquals("spill", copy.getDirectory());
+        assertEquals(4, copy.getPartitions());
+        assertEquals(1000000, SpillStrategy.create(new MapConfiguration(new HashMap<>())).getThreshold());
+    }
+}
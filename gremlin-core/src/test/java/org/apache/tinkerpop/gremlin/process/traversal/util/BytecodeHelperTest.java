@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.util.function.Lambda;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BytecodeHelperTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Test
+    public void shouldDetermineReadOnlyBytecode() {
+        assertTrue(BytecodeHelper.isReadOnly(g.V(1).valueMap().asAdmin().getBytecode()));
+        assertTrue(BytecodeHelper.isReadOnly(g.withSack(1).V().out("knows").where(__.values("age").is(30)).group().by("name").asAdmin().getBytecode()));
+        assertTrue(BytecodeHelper.isReadOnly(g.V().properties("name").asAdmin().getBytecode()));
+    }
+
+    @Test
+    public void shouldDetermineMutatingBytecode() {
+        assertFalse(BytecodeHelper.isReadOnly(g.addV("person").asAdmin().getBytecode()));
+        assertFalse(BytecodeHelper.isReadOnly(g.V().addE("knows").to(__.V(2)).asAdmin().getBytecode()));
+        assertFalse(BytecodeHelper.isReadOnly(g.V().property("name", "marko").asAdmin().getBytecode()));
+        assertFalse(BytecodeHelper.isReadOnly(g.V().drop().asAdmin().getBytecode()));
+        assertFalse(BytecodeHelper.isReadOnly(g.V().union(__.out(), __.sideEffect(__.drop())).asAdmin().getBytecode()));
+        assertFalse(BytecodeHelper.isReadOnly(g.V().coalesce(__.out(), __.addV()).asAdmin().getBytecode()));
+    }
+
+    @Test
+    public void shouldNotConsiderBytecodeWithLambdasReadOnly() {
+        assertFalse(BytecodeHelper.isReadOnly(g.V().map(Lambda.function("it.get()")).asAdmin().getBytecode()));
+        assertFalse(BytecodeHelper.isReadOnly(g.V().where(__.filter(Lambda.predicate("true"))).asAdmin().getBytecode()));
+    }
+}
@@ -48,6 +48,9 @@ import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -421,4 +424,17 @@ public class TraversalHelperTest {
         final Traversal<?,?> traversal = __.V().repeat(__.out().simplePath());
         assertTrue(TraversalHelper.anyStepRecursively(s -> s instanceof PathFilterStep, traversal.asAdmin()));
     }
+
+    @Test
+    public void shouldGetAccessedPropertyKeys() {
+        assertEquals(new HashSet<>(Arrays.asList("name", "age", "weight")),
+                TraversalHelper.getAccessedPropertyKeys(__.V().has("age").outE().has("weight").inV().values("name").asAdmin()).get());
+        assertEquals(new HashSet<>(Arrays.asList("name", "age")),
+                TraversalHelper.getAccessedPropertyKeys(__.V().order().by("age").group().by("name").by(__.count()).asAdmin()).get());
+        assertEquals(Collections.emptySet(), TraversalHelper.getAccessedPropertyKeys(__.V().out().count().asAdmin()).get());
+        assertFalse(TraversalHelper.getAccessedPropertyKeys(__.V().valueMap().asAdmin()).isPresent());
+        assertFalse(TraversalHelper.getAccessedPropertyKeys(__.V().where(__.values()).asAdmin()).isPresent());
+        assertFalse(TraversalHelper.getAccessedPropertyKeys(__.V().map(t -> t.get()).values("name").asAdmin()).isPresent());
+        assertFalse(TraversalHelper.getAccessedPropertyKeys(__.V().property("name", "marko").asAdmin()).isPresent());
+    }
 }
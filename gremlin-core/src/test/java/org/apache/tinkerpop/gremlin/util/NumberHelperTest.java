@@ -419,4 +419,34 @@ public class NumberHelperTest {
             }
         }
     }
+
+    @Test
+    public void shouldIgnoreNaNInMinMaxOfDoubles() {
+        final Number nan = Double.NaN, one = 1D;
+        assertEquals(one, min(nan, one));
+        assertEquals(one, min(one, nan));
+        assertEquals(one, max(nan, one));
+        assertEquals(one, max(one, nan));
+        assertEquals(one, min((Comparable) nan, (Comparable) one));
+        assertEquals(one, max((Comparable) one, (Comparable) nan));
+        assertTrue(Double.isNaN(min(nan, nan).doubleValue()));
+    }
+
+    @Test
+    public void shouldComputeLongsAndDoublesExactly() {
+        assertEquals(Long.MAX_VALUE, add(Long.MAX_VALUE - 1L, 1L));
+        assertEquals(Long.MIN_VALUE, sub(Long.MIN_VALUE + 1L, 1L));
+        assertEquals(3L, div(7L, 2L));
+        assertEquals(3.5D, div(7L, 2L, true));
+        assertEquals(0.1D + 0.2D, add(0.1D, 0.2D));
+        assertEquals(-0D, mul(-1D, 0D));
+        assertEquals(Double.POSITIVE_INFINITY, div(1D, 0D));
+        assertEquals(0, compare(0D, 0D).intValue());
+        assertTrue(compare(Double.NaN, 1D) > 0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void shouldNotDivideLongsByZero() {
+        div(1L, 0L);
+    }
 }
@@ -138,6 +138,24 @@ namespace Gremlin.Net.Process.Traversal
             return Wrap<S, E>(this);
         }
 
+        /// <summary>
+        ///     Adds the approxCountDistinct step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal<S, long> ApproxCountDistinct ()
+        {
+            Bytecode.AddStep("approxCountDistinct");
+            return Wrap<S, long>(this);
+        }
+
+        /// <summary>
+        ///     Adds the approxGroupCount step to this <see cref="GraphTraversal{SType, EType}" />.
+        /// </summary>
+        public GraphTraversal<S, IDictionary<K, long>> ApproxGroupCount<K> (int k)
+        {
+            Bytecode.AddStep("approxGroupCount", k);
+            return Wrap<S, IDictionary<K, long>>(this);
+        }
+
         /// <summary>
         ///     Adds the as step to this <see cref="GraphTraversal{SType, EType}" />.
         /// </summary>
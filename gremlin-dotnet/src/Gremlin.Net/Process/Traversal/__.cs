@@ -108,6 +108,22 @@ namespace Gremlin.Net.Process.Traversal
                 : new GraphTraversal<object, object>().And(andTraversals);            
         }
 
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the approxCountDistinct step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, long> ApproxCountDistinct()
+        {
+            return new GraphTraversal<object, long>().ApproxCountDistinct();            
+        }
+
+        /// <summary>
+        ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the approxGroupCount step to that traversal.
+        /// </summary>
+        public static GraphTraversal<object, IDictionary<K, long>> ApproxGroupCount<K>(int k)
+        {
+            return new GraphTraversal<object, IDictionary<K, long>>().ApproxGroupCount<K>(k);            
+        }
+
         /// <summary>
         ///     Spawns a <see cref="GraphTraversal{SType, EType}" /> and adds the as step to that traversal.
         /// </summary>
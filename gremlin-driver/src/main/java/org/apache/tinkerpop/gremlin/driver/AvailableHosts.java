@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The hosts of a {@link LoadBalancingStrategy} held in an array that is replaced when a host is added or removed, so
+ * that selecting hosts for a request neither locks nor copies the hosts.
+ */
+final class AvailableHosts {
+
+    private static final Host[] EMPTY = new Host[0];
+
+    private volatile Host[] hosts = EMPTY;
+
+    synchronized void addAll(final Collection<Host> hosts) {
+        final Set<Host> set = new LinkedHashSet<>(Arrays.asList(this.hosts));
+        set.addAll(hosts);
+        this.hosts = set.toArray(EMPTY);
+    }
+
+    synchronized void add(final Host host) {
+        for (final Host h : this.hosts) {
+            if (h.equals(host)) return;
+        }
+        final Host[] added = Arrays.copyOf(this.hosts, this.hosts.length + 1);
+        added[this.hosts.length] = host;
+        this.hosts = added;
+    }
+
+    synchronized void remove(final Host host) {
+        final Set<Host> set = new LinkedHashSet<>(Arrays.asList(this.hosts));
+        if (set.remove(host))
+            this.hosts = set.toArray(EMPTY);
+    }
+
+    Host[] get() {
+        return this.hosts;
+    }
+
+    /**
+     * Iterates the hosts that are available, starting with {@code first} if it is not {@code null} and then wrapping
+     * around the hosts from index {@code start}. Whether a host is available is checked as the iteration reaches it.
+     */
+    static Iterator<Host> iterator(final Host[] hosts, final int start, final Host first) {
+        return new Iterator<Host>() {
+            private int remaining = hosts.length;
+            private int index = Math.floorMod(start, Math.max(hosts.length, 1));
+            private Host next = null != first && first.isAvailable() ? first : null;
+
+            @Override
+            public boolean hasNext() {
+                while (null == this.next && this.remaining > 0) {
+                    final Host host = hosts[this.index];
+                    this.index = (this.index + 1) % hosts.length;
+                    this.remaining--;
+                    if (host != first && host.isAvailable())
+                        this.next = host;
+                }
+                return null != this.next;
+            }
+
+            @Override
+            public Host next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                final Host host = this.next;
+                this.next = null;
+                return host;
+            }
+        };
+    }
+}
@@ -23,11 +23,14 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -36,10 +39,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -84,6 +90,20 @@ public abstract class Client {
      */
     protected abstract Connection chooseConnection(final RequestMessage msg) throws TimeoutException, ConnectionException;
 
+    /**
+     * Chooses a {@link Connection} to write the message to without blocking the calling thread while the connections
+     * are saturated. By default this calls {@link #chooseConnection(RequestMessage)}.
+     */
+    protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+        final CompletableFuture<Connection> future = new CompletableFuture<>();
+        try {
+            future.complete(chooseConnection(msg));
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
     /**
      * Asynchronous close of the {@code Client}.
      */
@@ -148,6 +168,29 @@ public abstract class Client {
         throw new UnsupportedOperationException("This implementation does not support Traversal submission - use a sessionless Client created with from the alias() method");
     }
 
+    /**
+     * Submit a batch of {@link Bytecode} to the server in a single request. The server iterates the traversals one
+     * after the other on the same thread and, for graphs that support transactions, commits them together once the
+     * last one is iterated. The returned list holds the results of each traversal at the index of its
+     * {@link Bytecode} in the batch.
+     */
+    public List<List<Result>> submitBatch(final List<Bytecode> batch) {
+        try {
+            return submitBatchAsync(batch).get();
+        } catch (UnsupportedOperationException uoe) {
+            throw uoe;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * An asynchronous version of {@link #submitBatch(List)}.
+     */
+    public CompletableFuture<List<List<Result>>> submitBatchAsync(final List<Bytecode> batch) {
+        throw new UnsupportedOperationException("This implementation does not support Traversal submission - use a sessionless Client created with from the alias() method");
+    }
+
     /**
      * Initializes the client which typically means that a connection is established to the server.  Depending on the
      * implementation and configuration this blocking call may take some time.  This method will be called
@@ -275,25 +318,45 @@ public abstract class Client {
         if (!initialized)
             init();
 
-        final CompletableFuture<ResultSet> future = new CompletableFuture<>();
-        Connection connection = null;
+        final long hedgeDelay = hedgeDelay(msg);
+        return hedgeDelay < 0 ? send(msg) : sendHedged(msg, hedgeDelay);
+    }
+
+    private CompletableFuture<ResultSet> send(final RequestMessage msg) {
+        final CompletableFuture<Connection> connectionFuture = chooseConnectionAsync(msg);
+
+        // failures that are known right away, like a timeout because there is no available host, are still thrown
+        // to the caller rather than through the returned future
         try {
-            // the connection is returned to the pool once the response has been completed...see Connection.write()
-            // the connection may be returned to the pool with the host being marked as "unavailable"
-            connection = chooseConnection(msg);
-            connection.write(msg, future);
-            return future;
-        } catch (TimeoutException toe) {
-            // there was a timeout borrowing a connection
-            throw new RuntimeException(toe);
-        } catch (ConnectionException ce) {
-            throw new RuntimeException(ce);
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
-        } finally {
+            connectionFuture.getNow(null);
+        } catch (CompletionException ce) {
             if (logger.isDebugEnabled())
-                logger.debug("Submitted {} to - {}", msg, null == connection ? "connection not initialized" : connection.toString());
+                logger.debug("Submitted {} to - connection not initialized", msg);
+            throw new RuntimeException(ce.getCause());
         }
+
+        // the write happens once a connection is borrowed which does not block the calling thread when all of the
+        // connections are busy
+        final CompletableFuture<ResultSet> future = new CompletableFuture<>();
+        connectionFuture.whenComplete((connection, t) -> {
+            if (t != null) {
+                // there was a timeout borrowing a connection or the pool was closed
+                future.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                return;
+            }
+
+            try {
+                // the connection is returned to the pool once the response has been completed...see Connection.write()
+                // the connection may be returned to the pool with the host being marked as "unavailable"
+                connection.write(msg, future);
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+            } finally {
+                if (logger.isDebugEnabled())
+                    logger.debug("Submitted {} to - {}", msg, connection);
+            }
+        });
+        return future;
     }
 
     public abstract boolean isClosing();
@@ -319,6 +382,77 @@ public abstract class Client {
         return cluster;
     }
 
+    /**
+     * Gets the time in nanoseconds to wait for the response to a message before it is sent to a second {@link Host}
+     * or -1 if the message is not to be hedged. Only sessionless read-only traversals are hedged and only once
+     * enough responses were seen to know the percentile of their latencies.
+     */
+    private long hedgeDelay(final RequestMessage msg) {
+        // the argument may be a string if the message was not built in Java
+        final Optional<Boolean> hedge = Optional.ofNullable(msg.getArgs().remove(Tokens.ARGS_HEDGE))
+                .map(arg -> Boolean.parseBoolean(arg.toString()));
+        if (!hedge.orElse(cluster.getHedgingPercentile() > 0) || msg.optionalArgs(Tokens.ARGS_HOST).isPresent()
+                || !Tokens.OPS_BYTECODE.equals(msg.getOp()))
+            return -1;
+
+        final Object gremlin = msg.getArgs().get(Tokens.ARGS_GREMLIN);
+        return gremlin instanceof Bytecode && BytecodeHelper.isReadOnly((Bytecode) gremlin) ?
+                cluster.responseLatencies().getLatency() : -1;
+    }
+
+    /**
+     * Sends the message to the first {@link Host} selected by the {@link LoadBalancingStrategy} and, if it did not
+     * read all of its results after the delay, to the second. The returned future completes with the
+     * {@link ResultSet} of the request that read all of its results first while the results of the other are
+     * discarded as they arrive, as there is no way to cancel a sessionless request on the server. It completes
+     * exceptionally only if every request that was sent failed.
+     */
+    private CompletableFuture<ResultSet> sendHedged(final RequestMessage msg, final long delay) {
+        final Iterator<Host> hosts = cluster.loadBalancingStrategy().select(msg);
+        if (!hosts.hasNext())
+            return send(msg);
+
+        final Host first = hosts.next();
+        if (!hosts.hasNext())
+            return send(RequestMessage.from(msg).addArg(Tokens.ARGS_HOST, first).create());
+        final Host second = hosts.next();
+
+        final CompletableFuture<ResultSet> hedged = new CompletableFuture<>();
+        final AtomicInteger outstanding = new AtomicInteger(1);
+        race(send(RequestMessage.from(msg).addArg(Tokens.ARGS_HOST, first).create()), hedged, outstanding);
+
+        final ScheduledFuture<?> hedge = cluster.executor().schedule(() -> {
+            if (hedged.isDone()) return;
+            logger.debug("Hedging {} on {} as {} did not respond within {} ms", msg.getRequestId(), second, first,
+                    TimeUnit.NANOSECONDS.toMillis(delay));
+            outstanding.incrementAndGet();
+            try {
+                race(send(RequestMessage.from(msg).overrideRequestId(UUID.randomUUID())
+                        .addArg(Tokens.ARGS_HOST, second).create()), hedged, outstanding);
+            } catch (Exception ex) {
+                if (outstanding.decrementAndGet() == 0)
+                    hedged.completeExceptionally(ex);
+            }
+        }, delay, TimeUnit.NANOSECONDS);
+        hedged.whenComplete((rs, t) -> hedge.cancel(false));
+
+        return hedged;
+    }
+
+    private static void race(final CompletableFuture<ResultSet> request, final CompletableFuture<ResultSet> hedged,
+                             final AtomicInteger outstanding) {
+        request.thenCompose(rs -> {
+            // the results are only read completely if the queue is not bounded
+            rs.unbound();
+            return rs.allItemsAvailableAsync().thenApply(v -> rs);
+        }).whenComplete((rs, t) -> {
+            if (null == t)
+                hedged.complete(rs);
+            else if (outstanding.decrementAndGet() == 0)
+                hedged.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+        });
+    }
+
     protected Map<String,String> makeDefaultAliasMap(final String graphOrTraversalSource) {
         final Map<String,String> aliases = new HashMap<>();
         aliases.put("g", graphOrTraversalSource);
@@ -442,6 +576,27 @@ public abstract class Client {
          */
         @Override
         protected Connection chooseConnection(final RequestMessage msg) throws TimeoutException, ConnectionException {
+            return choosePool(msg).borrowConnection(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Uses a {@link LoadBalancingStrategy} to choose the best {@link Host} and then borrows a connection from that
+         * host's connection pool without blocking.
+         */
+        @Override
+        protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+            final ConnectionPool pool;
+            try {
+                pool = choosePool(msg);
+            } catch (TimeoutException toe) {
+                final CompletableFuture<Connection> future = new CompletableFuture<>();
+                future.completeExceptionally(toe);
+                return future;
+            }
+            return pool.borrowConnectionAsync(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
+        }
+
+        private ConnectionPool choosePool(final RequestMessage msg) throws TimeoutException {
             final Iterator<Host> possibleHosts;
             if (msg.optionalArgs(Tokens.ARGS_HOST).isPresent()) {
                 // TODO: not sure what should be done if unavailable - select new host and re-submit traversal?
@@ -458,8 +613,7 @@ public abstract class Client {
                 throw new TimeoutException("Timed out while waiting for an available host - check the client configuration and connectivity to the server if this message persists");
 
             final Host bestHost = possibleHosts.next();
-            final ConnectionPool pool = hostConnectionPools.get(bestHost);
-            return pool.borrowConnection(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
+            return hostConnectionPools.get(bestHost);
         }
 
         /**
@@ -521,6 +675,38 @@ public abstract class Client {
             }
         }
 
+        @Override
+        public CompletableFuture<List<List<Result>>> submitBatchAsync(final List<Bytecode> batch) {
+            if (batch.isEmpty())
+                throw new IllegalArgumentException("The batch must contain at least one Bytecode");
+
+            final CompletableFuture<ResultSet> resultSet;
+            try {
+                resultSet = submitAsync(buildMessage(RequestMessage.build(Tokens.OPS_BATCH)
+                        .processor("traversal").addArg(Tokens.ARGS_GREMLIN, new ArrayList<>(batch))).create());
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+
+            // each result comes back tagged with the index of the traversal that produced it
+            return resultSet.thenCompose(ResultSet::all).thenApply(tagged -> {
+                final List<List<Result>> results = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    results.add(new ArrayList<>());
+                }
+                for (final Result result : tagged) {
+                    final List<?> pair = (List<?>) result.getObject();
+                    final List<Result> traversalResults = results.get(((Number) pair.get(0)).intValue());
+                    // traversers are bulked by the server so each one is expanded into as many results as its bulk
+                    final Traverser<?> traverser = (Traverser<?>) pair.get(1);
+                    for (long i = 0; i < traverser.bulk(); i++) {
+                        traversalResults.add(new Result(traverser.get()));
+                    }
+                }
+                return results;
+            });
+        }
+
         @Override
         public CompletableFuture<ResultSet> submitAsync(final RequestMessage msg) {
             final RequestMessage.Builder builder = RequestMessage.from(msg);
@@ -569,6 +755,15 @@ public abstract class Client {
             return client.chooseConnection(msg);
         }
 
+        /**
+         * Delegates to the underlying {@link org.apache.tinkerpop.gremlin.driver.Client.ClusteredClient}.
+         */
+        @Override
+        protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+            if (close.isDone()) throw new IllegalStateException("Client is closed");
+            return client.chooseConnectionAsync(msg);
+        }
+
         /**
          * Prevents messages from being sent from this {@code Client}. Note that calling this method does not call
          * close on the {@code Client} that created it.
@@ -636,6 +831,14 @@ public abstract class Client {
             return connectionPool.borrowConnection(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
         }
 
+        /**
+         * Since the session is bound to a single host, simply borrow a connection from that pool without blocking.
+         */
+        @Override
+        protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+            return connectionPool.borrowConnectionAsync(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
+        }
+
         /**
          * Randomly choose an available {@link Host} to bind the session too and initialize the {@link ConnectionPool}.
          */
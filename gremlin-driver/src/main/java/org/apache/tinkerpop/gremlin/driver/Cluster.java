@@ -25,6 +25,7 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.EventLoopGroup;
@@ -174,8 +175,10 @@ public final class Cluster {
                 .keyPassword(settings.connectionPool.keyPassword)
                 .nioPoolSize(settings.nioPoolSize)
                 .workerPoolSize(settings.workerPoolSize)
+                .hedgingPercentile(settings.hedgingPercentile)
                 .reconnectInterval(settings.connectionPool.reconnectInterval)
                 .resultIterationBatchSize(settings.connectionPool.resultIterationBatchSize)
+                .maxResultQueueSize(settings.connectionPool.maxResultQueueSize)
                 .channelizer(settings.connectionPool.channelizer)
                 .maxContentLength(settings.connectionPool.maxContentLength)
                 .maxWaitForConnection(settings.connectionPool.maxWaitForConnection)
@@ -285,6 +288,14 @@ public final class Cluster {
         return manager.workerPoolSize;
     }
 
+    /**
+     * Gets the percentile of the response latencies after which read-only traversals are hedged, where 0 means that
+     * they are not hedged.
+     */
+    public int getHedgingPercentile() {
+        return manager.hedgingPercentile;
+    }
+
     /**
      * Get the {@link MessageSerializer} MIME types supported.
      */
@@ -350,6 +361,13 @@ public final class Cluster {
         return manager.connectionPoolSettings.resultIterationBatchSize;
     }
 
+    /**
+     * Gets the maximum number of results of a request that are held on the client before reading pauses.
+     */
+    public int getMaxResultQueueSize() {
+        return manager.connectionPoolSettings.maxResultQueueSize;
+    }
+
     /**
      * Gets the maximum amount of time to wait for a connection to be borrowed from the connection pool.
      */
@@ -434,6 +452,10 @@ public final class Cluster {
         return manager.loadBalancingStrategy;
     }
 
+    ResponseLatencies responseLatencies() {
+        return manager.responseLatencies;
+    }
+
     AuthProperties authProperties() {
         return manager.authProps;
     }
@@ -472,6 +494,7 @@ public final class Cluster {
         private MessageSerializer serializer = Serializers.GRYO_V3D0.simpleInstance();
         private int nioPoolSize = Runtime.getRuntime().availableProcessors();
         private int workerPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int hedgingPercentile = 0;
         private int minConnectionPoolSize = ConnectionPool.MIN_POOL_SIZE;
         private int maxConnectionPoolSize = ConnectionPool.MAX_POOL_SIZE;
         private int minSimultaneousUsagePerConnection = ConnectionPool.MIN_SIMULTANEOUS_USAGE_PER_CONNECTION;
@@ -483,6 +506,7 @@ public final class Cluster {
         private int maxContentLength = Connection.MAX_CONTENT_LENGTH;
         private int reconnectInterval = Connection.RECONNECT_INTERVAL;
         private int resultIterationBatchSize = Connection.RESULT_ITERATION_BATCH_SIZE;
+        private int maxResultQueueSize = Connection.MAX_RESULT_QUEUE_SIZE;
         private long keepAliveInterval = Connection.KEEP_ALIVE_INTERVAL;
         private String channelizer = Channelizer.WebSocketChannelizer.class.getName();
         private boolean enableSsl = false;
@@ -519,6 +543,19 @@ public final class Cluster {
             return this;
         }
 
+        /**
+         * Hedges read-only traversals, which are sent to a second host if the first did not read all of the results
+         * within the given percentile of the recent response latencies, where the request that completes first is
+         * used and the results of the other are discarded. A traversal is read-only if its bytecode has no mutating
+         * steps and no lambdas. Hedging can also be turned on or off for a single request by adding the
+         * {@link Tokens#ARGS_HEDGE} argument to a {@link RequestMessage} that is submitted with
+         * {@link Client#submitAsync(RequestMessage)}. The default value is 0 which does not hedge traversals.
+         */
+        public Builder hedgingPercentile(final int percentile) {
+            this.hedgingPercentile = percentile;
+            return this;
+        }
+
         /**
          * Set the {@link MessageSerializer} to use given its MIME type.  Note that setting this value this way
          * will not allow specific configuration of the serializer itself.  If specific configuration is required
@@ -682,6 +719,18 @@ public final class Cluster {
             return this;
         }
 
+        /**
+         * The maximum number of results of a request that are held on the client before the connection stops
+         * reading until they are consumed, which in turn makes the server pause the iteration of the results. Reading
+         * pauses for all of the requests on the connection, so results should be consumed as they arrive, for
+         * instance with {@link ResultSet#iterator()}. The default value is 0 which means that the results are not
+         * limited.
+         */
+        public Builder maxResultQueueSize(final int size) {
+            this.maxResultQueueSize = size;
+            return this;
+        }
+
         /**
          * The maximum amount of time to wait for a connection to be borrowed from the connection pool.
          */
@@ -836,6 +885,8 @@ public final class Cluster {
     }
 
     class Manager {
+        private static final int DEFAULT_HEDGING_PERCENTILE = 95;
+
         private final ConcurrentMap<InetSocketAddress, Host> hosts = new ConcurrentHashMap<>();
         private boolean initialized;
         private final List<InetSocketAddress> contactPoints;
@@ -843,6 +894,7 @@ public final class Cluster {
         private final MessageSerializer serializer;
         private final Settings.ConnectionPoolSettings connectionPoolSettings;
         private final LoadBalancingStrategy loadBalancingStrategy;
+        private final ResponseLatencies responseLatencies;
         private final AuthProperties authProps;
         private final Optional<SslContext> sslContextOptional;
 
@@ -850,6 +902,7 @@ public final class Cluster {
 
         private final int nioPoolSize;
         private final int workerPoolSize;
+        private final int hedgingPercentile;
         private final int port;
 
         private final AtomicReference<CompletableFuture<Void>> closeFuture = new AtomicReference<>();
@@ -875,6 +928,7 @@ public final class Cluster {
             connectionPoolSettings.maxContentLength = builder.maxContentLength;
             connectionPoolSettings.reconnectInterval = builder.reconnectInterval;
             connectionPoolSettings.resultIterationBatchSize = builder.resultIterationBatchSize;
+            connectionPoolSettings.maxResultQueueSize = builder.maxResultQueueSize;
             connectionPoolSettings.enableSsl = builder.enableSsl;
             connectionPoolSettings.trustCertChainFile = builder.trustCertChainFile;
             connectionPoolSettings.keyCertChainFile = builder.keyCertChainFile;
@@ -887,8 +941,12 @@ public final class Cluster {
 
             nioPoolSize = builder.nioPoolSize;
             workerPoolSize = builder.workerPoolSize;
+            hedgingPercentile = builder.hedgingPercentile;
             port = builder.port;
 
+            // a request may be hedged on its own even if the cluster does not hedge requests
+            this.responseLatencies = new ResponseLatencies(hedgingPercentile > 0 ? hedgingPercentile : DEFAULT_HEDGING_PERCENTILE);
+
             this.factory = new Factory(builder.nioPoolSize);
             this.serializer = builder.serializer;
             this.executor = Executors.newScheduledThreadPool(builder.workerPoolSize,
@@ -938,12 +996,18 @@ public final class Cluster {
             if (builder.resultIterationBatchSize < 1)
                 throw new IllegalArgumentException("resultIterationBatchSize must be greater than zero");
 
+            if (builder.maxResultQueueSize < 0)
+                throw new IllegalArgumentException("maxResultQueueSize must be greater than or equal to zero");
+
             if (builder.nioPoolSize < 1)
                 throw new IllegalArgumentException("nioPoolSize must be greater than zero");
 
             if (builder.workerPoolSize < 1)
                 throw new IllegalArgumentException("workerPoolSize must be greater than zero");
 
+            if (builder.hedgingPercentile < 0 || builder.hedgingPercentile > 99)
+                throw new IllegalArgumentException("hedgingPercentile must be between 0 and 99");
+
         }
 
         synchronized void init() {
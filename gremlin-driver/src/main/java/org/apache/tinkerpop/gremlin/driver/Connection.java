@@ -67,6 +67,7 @@ final class Connection {
 
     public static final int RECONNECT_INTERVAL = 1000;
     public static final int RESULT_ITERATION_BATCH_SIZE = 64;
+    public static final int MAX_RESULT_QUEUE_SIZE = 0;
     public static final long KEEP_ALIVE_INTERVAL = 1800000;
 
     /**
@@ -88,6 +89,11 @@ final class Connection {
     private final AtomicBoolean shutdownInitiated = new AtomicBoolean(false);
     private final AtomicReference<ScheduledFuture> keepAliveFuture = new AtomicReference<>();
 
+    /**
+     * The number of requests whose {@link ResultQueue} is full, which pauses reading from the channel.
+     */
+    private int readsPaused = 0;
+
     public Connection(final URI uri, final ConnectionPool pool, final int maxInProcess) throws ConnectionException {
         this.uri = uri;
         this.cluster = pool.getCluster();
@@ -195,6 +201,7 @@ final class Connection {
         // once there is a completed write, then create a traverser for the result set and complete
         // the promise so that the client knows that that it can start checking for results.
         final Connection thisConnection = this;
+        final long start = System.nanoTime();
 
         final ChannelPromise requestPromise = channel.newPromise()
                 .addListener(f -> {
@@ -208,6 +215,15 @@ final class Connection {
                         final LinkedBlockingQueue<Result> resultLinkedBlockingQueue = new LinkedBlockingQueue<>();
                         final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
 
+                        // track the load and the response latency of the host for the LoadBalancingStrategy and the
+                        // response latencies of the cluster for hedging
+                        pool.host.requestStarted();
+                        readCompleted.whenComplete((v, t) -> {
+                            final long latency = System.nanoTime() - start;
+                            pool.host.requestCompleted(latency);
+                            cluster.responseLatencies().record(latency);
+                        });
+
                         // the callback for when the read was successful, meaning that ResultQueue.markComplete()
                         // was called
                         readCompleted.thenAcceptAsync(v -> {
@@ -243,7 +259,8 @@ final class Connection {
                             return null;
                         });
 
-                        final ResultQueue handler = new ResultQueue(resultLinkedBlockingQueue, readCompleted);
+                        final ResultQueue handler = new ResultQueue(resultLinkedBlockingQueue, readCompleted,
+                                cluster.connectionPoolSettings().maxResultQueueSize, thisConnection::setAutoRead);
                         pending.put(requestMessage.getRequestId(), handler);
                         cluster.executor().submit(() -> future.complete(
                                 new ResultSet(handler, cluster.executor(), readCompleted, requestMessage, pool.host)));
@@ -274,6 +291,19 @@ final class Connection {
         return requestPromise;
     }
 
+    /**
+     * Stops reading from the channel while any request has a full {@link ResultQueue}. As the server only writes
+     * while the channel is writable, the unread responses cause it to pause the iteration of the results.
+     */
+    private synchronized void setAutoRead(final boolean autoRead) {
+        readsPaused += autoRead ? -1 : 1;
+        if (readsPaused == (autoRead ? 0 : 1)) {
+            if (logger.isDebugEnabled())
+                logger.debug("{} reading on {}", autoRead ? "Resume" : "Pause", this.getConnectionInfo());
+            channel.config().setAutoRead(autoRead);
+        }
+    }
+
     public void returnToPool() {
         try {
             if (pool != null) pool.returnConnection(this);
@@ -20,24 +20,24 @@ package org.apache.tinkerpop.gremlin.driver;
 
 import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
-import org.apache.tinkerpop.gremlin.util.TimeUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -67,9 +67,11 @@ final class ConnectionPool {
 
     private final AtomicReference<CompletableFuture<Void>> closeFuture = new AtomicReference<>();
 
-    private volatile int waiter = 0;
-    private final Lock waitLock = new ReentrantLock(true);
-    private final Condition hasAvailableConnection = waitLock.newCondition();
+    /**
+     * The borrowers that wait for a connection in the order of their arrival. A waiter is completed with a borrowed
+     * connection when one becomes available or exceptionally when it times out or the pool is closed.
+     */
+    private final Queue<CompletableFuture<Connection>> waiters = new ConcurrentLinkedQueue<>();
 
     public ConnectionPool(final Host host, final Client client) {
         this(host, client, Optional.empty(), Optional.empty());
@@ -110,10 +112,48 @@ final class ConnectionPool {
         return cluster.connectionPoolSettings();
     }
 
+    /**
+     * Borrows a connection and blocks until one is available or the timeout passes.
+     */
     public Connection borrowConnection(final long timeout, final TimeUnit unit) throws TimeoutException, ConnectionException {
+        final CompletableFuture<Connection> future = borrowConnectionAsync(timeout, unit);
+        try {
+            try {
+                return future.get(timeout, unit);
+            } catch (TimeoutException te) {
+                // the executor may be too busy to time the waiter out itself
+                if (future.completeExceptionally(te)) {
+                    waiters.remove(future);
+                    considerUnavailable();
+                }
+                return future.get();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            // the waiter may have been completed in the meantime in which case its connection has to go back
+            if (future.cancel(false))
+                waiters.remove(future);
+            else
+                future.thenAccept(this::releaseUnusedConnection);
+            throw new TimeoutException();
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof TimeoutException)
+                throw (TimeoutException) ee.getCause();
+            if (ee.getCause() instanceof ConnectionException)
+                throw (ConnectionException) ee.getCause();
+            throw new RuntimeException(ee.getCause());
+        }
+    }
+
+    /**
+     * Borrows a connection without blocking. If all connections are saturated the returned future completes once a
+     * connection becomes available, or completes exceptionally with a {@code TimeoutException} after the timeout or
+     * with a {@link ConnectionException} if the pool is closed.
+     */
+    public CompletableFuture<Connection> borrowConnectionAsync(final long timeout, final TimeUnit unit) {
         logger.debug("Borrowing connection from pool on {} - timeout in {} {}", host, timeout, unit);
 
-        if (isClosed()) throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
+        if (isClosed()) return shutdown();
 
         final Connection leastUsedConn = selectLeastUsed();
 
@@ -132,8 +172,7 @@ final class ConnectionPool {
         }
 
         if (null == leastUsedConn) {
-            if (isClosed())
-                throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
+            if (isClosed()) return shutdown();
             logger.debug("Pool was initialized but a connection could not be selected earlier - waiting for connection on {}", host);
             return waitForConnection(timeout, unit);
         }
@@ -161,7 +200,7 @@ final class ConnectionPool {
             if (leastUsedConn.borrowed.compareAndSet(borrowed, borrowed + 1)) {
                 if (logger.isDebugEnabled())
                     logger.debug("Return least used {} on {}", leastUsedConn.getConnectionInfo(), host);
-                return leastUsedConn;
+                return CompletableFuture.completedFuture(leastUsedConn);
             }
         }
     }
@@ -224,9 +263,9 @@ final class ConnectionPool {
 
         logger.info("Signalled closing of connection pool on {} with core size of {}", host, minPoolSize);
 
-        announceAllAvailableConnection();
         final CompletableFuture<Void> future = killAvailableConnections();
         closeFuture.set(future);
+        failWaiters();
         return future;
     }
 
@@ -330,51 +369,31 @@ final class ConnectionPool {
         }
     }
 
-    private Connection waitForConnection(final long timeout, final TimeUnit unit) throws TimeoutException, ConnectionException {
-        long start = System.nanoTime();
-        long remaining = timeout;
-        long to = timeout;
-        do {
-            try {
-                awaitAvailableConnection(remaining, unit);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                to = 0;
-            }
+    private CompletableFuture<Connection> waitForConnection(final long timeout, final TimeUnit unit) {
+        logger.debug("Wait {} {} for an available connection on {}", timeout, unit, host);
 
-            if (isClosed())
-                throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
-
-            final Connection leastUsed = selectLeastUsed();
-            if (leastUsed != null) {
-                while (true) {
-                    final int inFlight = leastUsed.borrowed.get();
-                    final int availableInProcess = leastUsed.availableInProcess();
-                    if (inFlight >= availableInProcess) {
-                        logger.debug("Least used {} on {} has requests borrowed [{}] >= availableInProcess [{}] - may timeout waiting for connection",
-                                leastUsed, host, inFlight, availableInProcess);
-                        break;
-                    }
-
-                    if (leastUsed.borrowed.compareAndSet(inFlight, inFlight + 1)) {
-                        if (logger.isDebugEnabled())
-                            logger.debug("Return least used {} on {} after waiting", leastUsed.getConnectionInfo(), host);
-                        return leastUsed;
-                    }
-                }
-            }
+        final CompletableFuture<Connection> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
 
-            remaining = to - TimeUtil.timeSince(start, unit);
-            logger.debug("Continue to wait for connection on {} if {} > 0", host, remaining);
-        } while (remaining > 0);
+        final ScheduledFuture<?> timeoutFuture = cluster.executor().schedule(() -> {
+            if (waiter.completeExceptionally(new TimeoutException())) {
+                waiters.remove(waiter);
+                logger.debug("Timed-out waiting for connection on {} - possibly unavailable", host);
 
-        logger.debug("Timed-out waiting for connection on {} - possibly unavailable", host);
+                // if we timeout borrowing a connection that might mean the host is dead (or the timeout was super
+                // short). either way supply a function to reconnect
+                this.considerUnavailable();
+            }
+        }, timeout, unit);
+        waiter.whenComplete((connection, t) -> timeoutFuture.cancel(false));
 
-        // if we timeout borrowing a connection that might mean the host is dead (or the timeout was super short).
-        // either way supply a function to reconnect
-        this.considerUnavailable();
+        // the pool may have been closed or a connection may have been returned before the waiter was queued
+        if (isClosed())
+            failWaiters();
+        else
+            announceAvailableConnection();
 
-        throw new TimeoutException();
+        return waiter;
     }
 
     private void considerUnavailable() {
@@ -418,17 +437,56 @@ final class ConnectionPool {
     private void announceAvailableConnection() {
         logger.debug("Announce connection available on {}", host);
 
-        if (waiter == 0)
-            return;
+        // hand connections to the waiters for as long as there are both
+        while (!waiters.isEmpty()) {
+            final Connection connection = borrowForWaiter();
+            if (null == connection)
+                return;
 
-        waitLock.lock();
-        try {
-            hasAvailableConnection.signal();
-        } finally {
-            waitLock.unlock();
+            CompletableFuture<Connection> waiter;
+            boolean handedOver = false;
+            while (!handedOver && (waiter = waiters.poll()) != null) {
+                handedOver = waiter.complete(connection);
+            }
+
+            if (!handedOver) {
+                releaseUnusedConnection(connection);
+                return;
+            }
+
+            if (logger.isDebugEnabled())
+                logger.debug("Return least used {} on {} after waiting", connection.getConnectionInfo(), host);
+        }
+    }
+
+    private Connection borrowForWaiter() {
+        final Connection leastUsed = selectLeastUsed();
+        if (null == leastUsed)
+            return null;
+
+        while (true) {
+            final int inFlight = leastUsed.borrowed.get();
+            final int availableInProcess = leastUsed.availableInProcess();
+            if (inFlight >= availableInProcess) {
+                logger.debug("Least used {} on {} has requests borrowed [{}] >= availableInProcess [{}] - may timeout waiting for connection",
+                        leastUsed, host, inFlight, availableInProcess);
+                return null;
+            }
+
+            if (leastUsed.borrowed.compareAndSet(inFlight, inFlight + 1))
+                return leastUsed;
         }
     }
 
+    /**
+     * Gives back a connection that was borrowed for a waiter that no longer wanted it.
+     */
+    private void releaseUnusedConnection(final Connection connection) {
+        // the connection may have been destroyed while it was borrowed in which case it is closed now
+        if (connection.borrowed.decrementAndGet() == 0 && bin.remove(connection))
+            connection.closeAsync();
+    }
+
     private Connection selectLeastUsed() {
         int minInFlight = Integer.MAX_VALUE;
         Connection leastBusy = null;
@@ -442,29 +500,17 @@ final class ConnectionPool {
         return leastBusy;
     }
 
-    private void awaitAvailableConnection(long timeout, TimeUnit unit) throws InterruptedException {
-        logger.debug("Wait {} {} for an available connection on {} with {}", timeout, unit, host, Thread.currentThread());
-
-        waitLock.lock();
-        waiter++;
-        try {
-            hasAvailableConnection.await(timeout, unit);
-        } finally {
-            waiter--;
-            waitLock.unlock();
+    private void failWaiters() {
+        CompletableFuture<Connection> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.completeExceptionally(new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown"));
         }
     }
 
-    private void announceAllAvailableConnection() {
-        if (waiter == 0)
-            return;
-
-        waitLock.lock();
-        try {
-            hasAvailableConnection.signalAll();
-        } finally {
-            waitLock.unlock();
-        }
+    private CompletableFuture<Connection> shutdown() {
+        final CompletableFuture<Connection> future = new CompletableFuture<>();
+        future.completeExceptionally(new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown"));
+        return future;
     }
 
     public String getPoolInfo() {
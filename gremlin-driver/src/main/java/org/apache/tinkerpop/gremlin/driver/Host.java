@@ -26,6 +26,8 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -42,6 +44,14 @@ public final class Host {
     private final Cluster cluster;
     private final String hostLabel;
 
+    /**
+     * The weight of the latest response latency in the exponentially weighted moving average of the latency.
+     */
+    static final double LATENCY_SMOOTHING = 0.2d;
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private final AtomicLong latency = new AtomicLong(Double.doubleToLongBits(-1d));
+
     final AtomicReference<Boolean> retryInProgress = new AtomicReference<>(Boolean.FALSE);
     ScheduledFuture<?> retryThread = null;
 
@@ -64,6 +74,43 @@ public final class Host {
         return isAvailable;
     }
 
+    /**
+     * The number of requests that were written to this host and whose responses were not completely read yet.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * The exponentially weighted moving average of the time in nanoseconds from writing a request to this host to
+     * reading the last of its responses, which is zero until the first response was read.
+     */
+    public double getLatency() {
+        return Math.max(0d, Double.longBitsToDouble(latency.get()));
+    }
+
+    /**
+     * Determines if a response was read from this host and thus if {@link #getLatency()} is meaningful.
+     */
+    boolean hasLatency() {
+        return Double.longBitsToDouble(latency.get()) >= 0d;
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void requestCompleted(final long latencyNanos) {
+        inFlight.decrementAndGet();
+        long bits, update;
+        do {
+            bits = latency.get();
+            final double average = Double.longBitsToDouble(bits);
+            update = Double.doubleToLongBits(average < 0d ?
+                    latencyNanos : average + LATENCY_SMOOTHING * (latencyNanos - average));
+        } while (!latency.compareAndSet(bits, update));
+    }
+
     void makeAvailable() {
         isAvailable = true;
     }
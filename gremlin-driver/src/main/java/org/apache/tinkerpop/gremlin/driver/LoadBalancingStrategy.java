@@ -20,12 +20,10 @@ package org.apache.tinkerpop.gremlin.driver;
 
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Random;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -51,7 +49,7 @@ public interface LoadBalancingStrategy extends Host.Listener {
      */
     public static class RoundRobin implements LoadBalancingStrategy {
 
-        private final CopyOnWriteArrayList<Host> availableHosts = new CopyOnWriteArrayList<>();
+        private final AvailableHosts availableHosts = new AvailableHosts();
         private final AtomicInteger index = new AtomicInteger();
 
         @Override
@@ -62,43 +60,85 @@ public interface LoadBalancingStrategy extends Host.Listener {
 
         @Override
         public Iterator<Host> select(final RequestMessage msg) {
-            final List<Host> hosts = new ArrayList<>();
-
-            // a host could be marked as dead in which case we dont need to send messages to it - just skip it for
-            // now. it might come back online later
-            availableHosts.iterator().forEachRemaining(host -> {
-                if (host.isAvailable()) hosts.add(host);
-            });
-
             final int startIndex = index.getAndIncrement();
 
             if (startIndex > Integer.MAX_VALUE - 10000)
                 index.set(0);
 
-            return new Iterator<Host>() {
-
-                private int currentIndex = startIndex;
-                private int remainingHosts = hosts.size();
-
-                @Override
-                public boolean hasNext() {
-                    return remainingHosts > 0;
-                }
-
-                @Override
-                public Host next() {
-                    remainingHosts--;
-                    int c = currentIndex++ % hosts.size();
-                    if (c < 0)
-                        c += hosts.size();
-                    return hosts.get(c);
-                }
-            };
+            // a host could be marked as dead in which case we dont need to send messages to it - the iterator just
+            // skips it for now. it might come back online later
+            return AvailableHosts.iterator(availableHosts.get(), startIndex, null);
+        }
+
+        @Override
+        public void onAvailable(final Host host) {
+            this.availableHosts.add(host);
+        }
+
+        @Override
+        public void onUnavailable(final Host host) {
+            this.availableHosts.remove(host);
+        }
+
+        @Override
+        public void onNew(final Host host) {
+            onAvailable(host);
+        }
+
+        @Override
+        public void onRemove(final Host host) {
+            onUnavailable(host);
+        }
+    }
+
+    /**
+     * A strategy that picks two available hosts at random and selects the one with the lower load, where the load of
+     * a {@link Host} is the number of its requests in flight plus one times its average response latency. Hosts are
+     * compared by their requests in flight alone while either of them has not answered a request yet. Comparing
+     * two random hosts rather than all of them keeps the selection cheap and keeps a host that just became fast from
+     * receiving every request at once, while a host that is slow, for instance because of a garbage collection pause
+     * or a heavy query, quickly receives fewer requests. The remaining available hosts follow the selected host.
+     */
+    public static class PowerOfTwoChoices implements LoadBalancingStrategy {
+
+        private final AvailableHosts availableHosts = new AvailableHosts();
+
+        @Override
+        public void initialize(final Cluster cluster, final Collection<Host> hosts) {
+            this.availableHosts.addAll(hosts);
+        }
+
+        @Override
+        public Iterator<Host> select(final RequestMessage msg) {
+            final Host[] hosts = availableHosts.get();
+            if (hosts.length < 2)
+                return AvailableHosts.iterator(hosts, 0, null);
+
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final int first = random.nextInt(hosts.length);
+            int second = random.nextInt(hosts.length - 1);
+            if (second >= first) second++;
+            return AvailableHosts.iterator(hosts, first, choose(hosts[first], hosts[second]));
+        }
+
+        private static Host choose(final Host a, final Host b) {
+            if (!a.isAvailable()) return b;
+            if (!b.isAvailable()) return a;
+
+            // a host without a response has no latency yet, which would make its load zero however many of its
+            // requests are in flight, so the hosts are compared by their requests in flight instead
+            if (!a.hasLatency() || !b.hasLatency())
+                return b.getInFlight() < a.getInFlight() ? b : a;
+            return load(b) < load(a) ? b : a;
+        }
+
+        private static double load(final Host host) {
+            return (host.getInFlight() + 1) * host.getLatency();
         }
 
         @Override
         public void onAvailable(final Host host) {
-            this.availableHosts.addIfAbsent(host);
+            this.availableHosts.add(host);
         }
 
         @Override
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The response latencies of the most recent requests of a {@link Cluster} from which a percentile is estimated to
+ * decide how long to wait for a response before a request is hedged on a second {@link Host}. The percentile is
+ * recomputed after every {@link #RECOMPUTE_INTERVAL} samples rather than on each request.
+ */
+final class ResponseLatencies {
+
+    static final int SAMPLES = 1024;
+    static final int RECOMPUTE_INTERVAL = 64;
+
+    private final int percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong count = new AtomicLong(0);
+    private volatile long latency = -1;
+
+    ResponseLatencies(final int percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(final long latencyNanos) {
+        final long index = count.getAndIncrement();
+        samples.set((int) (index % SAMPLES), latencyNanos);
+        if ((index + 1) % RECOMPUTE_INTERVAL == 0)
+            recompute(Math.min(index + 1, SAMPLES));
+    }
+
+    /**
+     * The latency in nanoseconds below which the configured percentile of the recent responses arrived, or -1 until
+     * {@link #RECOMPUTE_INTERVAL} responses were recorded.
+     */
+    long getLatency() {
+        return latency;
+    }
+
+    private void recompute(final long size) {
+        final long[] sorted = new long[(int) size];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        latency = sorted[(int) Math.min(sorted.length - 1, (long) Math.ceil(percentile / 100d * sorted.length) - 1)];
+    }
+}
@@ -36,10 +36,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * A queue of incoming {@link Result} objects.  The queue is updated by the {@link Handler.GremlinResponseHandler}
- * until a response terminator is identified.
+ * until a response terminator is identified. If the queue has a maximum size, reading from the connection is paused
+ * while the queue holds that many results, which leaves the unread responses in the network buffers until the server
+ * stops writing further results, and is resumed once the consumer has taken half of them.
  *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
@@ -56,9 +59,26 @@ final class ResultQueue {
 
     private final Queue<Pair<CompletableFuture<List<Result>>,Integer>> waiting = new ConcurrentLinkedQueue<>();
 
+    private final int maxSize;
+    private final Consumer<Boolean> autoRead;
+    private boolean readPaused = false;
+    private volatile boolean bounded;
+
     public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete) {
+        this(resultLinkedBlockingQueue, readComplete, 0, autoRead -> {});
+    }
+
+    /**
+     * Creates a queue that calls {@code autoRead} with {@code false} when it holds {@code maxSize} results and with
+     * {@code true} once it holds half of them. A {@code maxSize} of zero means that the queue is not bounded.
+     */
+    public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete,
+                       final int maxSize, final Consumer<Boolean> autoRead) {
         this.resultLinkedBlockingQueue = resultLinkedBlockingQueue;
         this.readComplete = readComplete;
+        this.maxSize = maxSize;
+        this.autoRead = autoRead;
+        this.bounded = maxSize > 0;
     }
 
     /**
@@ -69,6 +89,7 @@ final class ResultQueue {
     public void add(final Result result) {
         this.resultLinkedBlockingQueue.offer(result);
         tryDrainNextWaiting(false);
+        applyBackpressure();
     }
 
     /**
@@ -140,6 +161,7 @@ final class ResultQueue {
         waiting.add(Pair.with(result, items));
 
         tryDrainNextWaiting(false);
+        applyBackpressure();
 
         return result;
     }
@@ -161,6 +183,15 @@ final class ResultQueue {
     void drainTo(final Collection<Result> collection) {
         if (error.get() != null) throw new RuntimeException(error.get());
         resultLinkedBlockingQueue.drainTo(collection);
+        applyBackpressure();
+    }
+
+    /**
+     * Stops bounding the queue, which is needed when the consumer only takes the results once all of them were read.
+     */
+    void unbound() {
+        bounded = false;
+        applyBackpressure();
     }
 
     void markComplete() {
@@ -172,12 +203,36 @@ final class ResultQueue {
         this.readComplete.complete(null);
 
         this.drainAllWaiting();
+        applyBackpressure();
     }
 
     void markError(final Throwable throwable) {
         error.set(throwable);
         this.readComplete.completeExceptionally(throwable);
         this.drainAllWaiting();
+        applyBackpressure();
+    }
+
+    /**
+     * Pauses reading from the connection while the queue is full and resumes it once the queue is half empty. A
+     * waiting future that expects more results than the maximum size raises the limit so that it can be completed.
+     */
+    private synchronized void applyBackpressure() {
+        if (!readPaused && !bounded)
+            return;
+
+        final Pair<CompletableFuture<List<Result>>, Integer> nextWaiting = waiting.peek();
+        final int limit = Math.max(maxSize, null == nextWaiting ? 0 : nextWaiting.getValue1());
+        final int size = resultLinkedBlockingQueue.size();
+        if (readPaused) {
+            if (!bounded || readComplete.isDone() || size <= limit / 2) {
+                readPaused = false;
+                autoRead.accept(true);
+            }
+        } else if (!readComplete.isDone() && size >= limit) {
+            readPaused = true;
+            autoRead.accept(false);
+        }
     }
 
     /**
@@ -202,6 +257,7 @@ final class ResultQueue {
                 future.completeExceptionally(error.get());
 
             waiting.remove(nextWaiting);
+            applyBackpressure();
         }
     }
 
@@ -124,9 +124,12 @@ public final class ResultSet implements Iterable<Result> {
      * The returned {@link CompletableFuture} completes when all reads are complete for this request and the
      * entire result has been accounted for on the client. While this method is named "all" it really refers to
      * retrieving all remaining items in the set.  For large result sets it is preferred to use
-     * {@link Iterator} or {@link Stream} options, as the results will be held in memory at once.
+     * {@link Iterator} or {@link Stream} options, as the results will be held in memory at once. For the same
+     * reason, calling this method lifts the limit that {@link Cluster.Builder#maxResultQueueSize(int)} places on the
+     * results buffered for this request.
      */
     public CompletableFuture<List<Result>> all() {
+        resultQueue.unbound();
         return readCompleted.thenApplyAsync(it -> {
             final List<Result> list = new ArrayList<>();
             resultQueue.drainTo(list);
@@ -134,6 +137,13 @@ public final class ResultSet implements Iterable<Result> {
         }, executor);
     }
 
+    /**
+     * Lifts the limit on the results that are buffered for this request.
+     */
+    void unbound() {
+        resultQueue.unbound();
+    }
+
     /**
      * Stream items with a blocking iterator.
      */
@@ -73,6 +73,12 @@ final class Settings {
      */
     public int workerPoolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * The percentile of the recent response latencies after which a read-only traversal is sent to a second host,
+     * where the response that completes first is used. The default value is 0 which disables hedging.
+     */
+    public int hedgingPercentile = 0;
+
     /**
      * The username to submit on requests that require authentication.
      */
@@ -126,6 +132,9 @@ final class Settings {
         if (conf.containsKey("workerPoolSize"))
             settings.workerPoolSize = conf.getInt("workerPoolSize");
 
+        if (conf.containsKey("hedgingPercentile"))
+            settings.hedgingPercentile = conf.getInt("hedgingPercentile");
+
         if (conf.containsKey("username"))
             settings.username = conf.getString("username");
 
@@ -211,6 +220,9 @@ final class Settings {
             if (connectionPoolConf.containsKey("resultIterationBatchSize"))
                 cpSettings.resultIterationBatchSize = connectionPoolConf.getInt("resultIterationBatchSize");
 
+            if (connectionPoolConf.containsKey("maxResultQueueSize"))
+                cpSettings.maxResultQueueSize = connectionPoolConf.getInt("maxResultQueueSize");
+
             if (connectionPoolConf.containsKey("keepAliveInterval"))
                 cpSettings.keepAliveInterval = connectionPoolConf.getLong("keepAliveInterval");
 
@@ -320,6 +332,13 @@ final class Settings {
          */
         public int resultIterationBatchSize = Connection.RESULT_ITERATION_BATCH_SIZE;
 
+        /**
+         * The maximum number of results of a request that are held on the client before reading from the connection
+         * pauses until the results are consumed, which in turn pauses the iteration of the results on the server. The
+         * default value is 0 which means that the results are not limited.
+         */
+        public int maxResultQueueSize = Connection.MAX_RESULT_QUEUE_SIZE;
+
         /**
          * The constructor for the channel that connects to the server. This value should be the fully qualified
          * class name of a Gremlin Driver {@link Channelizer} implementation.  By default this value is set to
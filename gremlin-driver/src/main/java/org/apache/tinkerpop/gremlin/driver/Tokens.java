@@ -27,6 +27,7 @@ public final class Tokens {
     private Tokens() {}
 
     public static final String OPS_AUTHENTICATION = "authentication";
+    public static final String OPS_BATCH = "batch";
     public static final String OPS_BYTECODE = "bytecode";
     public static final String OPS_EVAL = "eval";
     public static final String OPS_INVALID = "invalid";
@@ -42,6 +43,7 @@ public final class Tokens {
     public static final String ARGS_LANGUAGE = "language";
     public static final String ARGS_SCRIPT_EVAL_TIMEOUT = "scriptEvaluationTimeout";
     public static final String ARGS_HOST = "host";
+    public static final String ARGS_HEDGE = "hedge";
     public static final String ARGS_SESSION = "session";
     public static final String ARGS_MANAGE_TRANSACTION = "manageTransaction";
     public static final String ARGS_SASL = "sasl";
@@ -60,6 +60,9 @@ public class ClusterBuilderTest {
                 {"reconnectIntervalNeg1", Cluster.build().reconnectInterval(-1), "reconnectInterval must be greater than zero"},
                 {"resultIterationBatchSize0", Cluster.build().resultIterationBatchSize(0), "resultIterationBatchSize must be greater than zero"},
                 {"resultIterationBatchSizeNeg1", Cluster.build().resultIterationBatchSize(-1), "resultIterationBatchSize must be greater than zero"},
+                {"maxResultQueueSizeNeg1", Cluster.build().maxResultQueueSize(-1), "maxResultQueueSize must be greater than or equal to zero"},
+                {"hedgingPercentileNeg1", Cluster.build().hedgingPercentile(-1), "hedgingPercentile must be between 0 and 99"},
+                {"hedgingPercentile100", Cluster.build().hedgingPercentile(100), "hedgingPercentile must be between 0 and 99"},
                 {"nioPoolSize0", Cluster.build().nioPoolSize(0), "nioPoolSize must be greater than zero"},
                 {"nioPoolSizeNeg1", Cluster.build().nioPoolSize(-1), "nioPoolSize must be greater than zero"},
                 {"workerPoolSize0", Cluster.build().workerPoolSize(0), "workerPoolSize must be greater than zero"},
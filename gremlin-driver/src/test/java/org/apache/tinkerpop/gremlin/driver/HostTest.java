@@ -24,6 +24,8 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -38,4 +40,23 @@ public class HostTest {
         assertEquals("ws://localhost:8182/gremlin", webSocketUri.toString());
     }
 
+    @Test
+    public void shouldTrackInFlightRequestsAndAverageLatency() {
+        final Host host = new Host(new InetSocketAddress("localhost", 8182), Cluster.open());
+        assertEquals(0, host.getInFlight());
+        assertEquals(0d, host.getLatency(), 0d);
+        assertFalse(host.hasLatency());
+
+        host.requestStarted();
+        host.requestStarted();
+        assertEquals(2, host.getInFlight());
+        host.requestCompleted(1000L);
+        assertEquals(1, host.getInFlight());
+        assertEquals(1000d, host.getLatency(), 0d);
+        assertTrue(host.hasLatency());
+        host.requestCompleted(2000L);
+        assertEquals(0, host.getInFlight());
+        assertEquals(1000d + Host.LATENCY_SMOOTHING * 1000d, host.getLatency(), 0.000001d);
+    }
+
 }
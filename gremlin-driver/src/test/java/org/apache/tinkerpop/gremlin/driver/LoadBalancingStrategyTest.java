@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class LoadBalancingStrategyTest {
+
+    private final RequestMessage msg = RequestMessage.build("eval").create();
+    private Cluster cluster;
+    private List<Host> hosts;
+
+    @Before
+    public void setup() {
+        this.cluster = Cluster.open();
+        this.hosts = Arrays.asList(host(8182), host(8183), host(8184));
+    }
+
+    private Host host(final int port) {
+        final Host host = new Host(new InetSocketAddress("localhost", port), this.cluster);
+        host.makeAvailable();
+        return host;
+    }
+
+    @Test
+    public void shouldRoundRobinOverAvailableHosts() {
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.RoundRobin();
+        strategy.initialize(this.cluster, this.hosts);
+        final Host first = strategy.select(this.msg).next();
+        assertEquals(this.hosts.get((this.hosts.indexOf(first) + 1) % 3), strategy.select(this.msg).next());
+        assertEquals(new HashSet<>(this.hosts), new HashSet<>(IteratorUtils.list(strategy.select(this.msg))));
+
+        this.hosts.get(1).makeUnavailable(h -> false);
+        for (int i = 0; i < 6; i++) {
+            final List<Host> selected = IteratorUtils.list(strategy.select(this.msg));
+            assertEquals(2, selected.size());
+            assertFalse(selected.contains(this.hosts.get(1)));
+        }
+
+        strategy.onRemove(this.hosts.get(0));
+        assertEquals(Arrays.asList(this.hosts.get(2)), IteratorUtils.list(strategy.select(this.msg)));
+    }
+
+    @Test
+    public void shouldSelectTheLessLoadedOfTwoHosts() {
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.PowerOfTwoChoices();
+        strategy.initialize(this.cluster, this.hosts.subList(0, 2));
+        final Host slow = this.hosts.get(0);
+        final Host fast = this.hosts.get(1);
+        slow.requestStarted();
+        slow.requestCompleted(50000000L);
+        fast.requestStarted();
+        fast.requestCompleted(1000000L);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Arrays.asList(fast, slow), IteratorUtils.list(strategy.select(this.msg)));
+        }
+
+        // requests in flight add to the load of a host
+        for (int i = 0; i < 60; i++) {
+            fast.requestStarted();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Arrays.asList(slow, fast), IteratorUtils.list(strategy.select(this.msg)));
+        }
+
+        slow.makeUnavailable(h -> false);
+        assertEquals(Arrays.asList(fast), IteratorUtils.list(strategy.select(this.msg)));
+    }
+
+    @Test
+    public void shouldCompareRequestsInFlightOfHostsWithoutLatency() {
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.PowerOfTwoChoices();
+        strategy.initialize(this.cluster, this.hosts.subList(0, 2));
+        final Host answering = this.hosts.get(0);
+        final Host stalled = this.hosts.get(1);
+        answering.requestStarted();
+        answering.requestCompleted(1000000L);
+
+        // a host that never answered has no latency but still must not receive every request
+        for (int i = 0; i < 20; i++) {
+            stalled.requestStarted();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Arrays.asList(answering, stalled), IteratorUtils.list(strategy.select(this.msg)));
+        }
+
+        // a new host is preferred while it has fewer requests in flight
+        for (int i = 0; i < 25; i++) {
+            answering.requestStarted();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Arrays.asList(stalled, answering), IteratorUtils.list(strategy.select(this.msg)));
+        }
+    }
+
+    @Test
+    public void shouldSelectEveryAvailableHost() {
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.PowerOfTwoChoices();
+        strategy.initialize(this.cluster, this.hosts);
+        for (int i = 0; i < 10; i++) {
+            final List<Host> selected = IteratorUtils.list(strategy.select(this.msg));
+            assertEquals(3, selected.size());
+            assertEquals(new HashSet<>(this.hosts), new HashSet<>(selected));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResponseLatenciesTest {
+
+    @Test
+    public void shouldNotEstimateLatencyBeforeEnoughSamples() {
+        final ResponseLatencies latencies = new ResponseLatencies(95);
+        for (int i = 1; i < ResponseLatencies.RECOMPUTE_INTERVAL; i++) {
+            latencies.record(i);
+        }
+        assertEquals(-1, latencies.getLatency());
+        latencies.record(ResponseLatencies.RECOMPUTE_INTERVAL);
+        assertEquals(61, latencies.getLatency());
+    }
+
+    @Test
+    public void shouldEstimatePercentileOfRecentSamples() {
+        final ResponseLatencies latencies = new ResponseLatencies(90);
+        for (int i = 0; i < ResponseLatencies.SAMPLES; i++) {
+            latencies.record(1000000);
+        }
+        assertEquals(1000000, latencies.getLatency());
+
+        // the older samples are replaced by the recent ones
+        for (int i = 1; i <= ResponseLatencies.SAMPLES; i++) {
+            latencies.record(i);
+        }
+        assertEquals(922, latencies.getLatency());
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -406,4 +409,62 @@ public class ResultQueueTest extends AbstractResultQueueTest {
         assertEquals("daniel", list.get("d"));
         assertEquals("marko", list.get("m"));
     }
+
+    @Test
+    public void shouldPauseReadingWhileFull() throws Exception {
+        final List<Boolean> autoRead = new ArrayList<>();
+        final ResultQueue bounded = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 4, autoRead::add);
+
+        for (int i = 0; i < 3; i++) {
+            bounded.add(new Result(i));
+        }
+        assertThat(autoRead.isEmpty(), is(true));
+        bounded.add(new Result(3));
+        assertEquals(Collections.singletonList(false), autoRead);
+
+        // resumes once half of the results were consumed
+        assertEquals(1, bounded.await(1).get().size());
+        assertEquals(1, autoRead.size());
+        assertEquals(1, bounded.await(1).get().size());
+        assertEquals(Arrays.asList(false, true), autoRead);
+
+        bounded.add(new Result(4));
+        bounded.add(new Result(5));
+        assertEquals(Arrays.asList(false, true, false), autoRead);
+        bounded.markComplete();
+        assertEquals(Arrays.asList(false, true, false, true), autoRead);
+        assertEquals(4, bounded.await(10).get().size());
+    }
+
+    @Test
+    public void shouldNotPauseReadingBeforeAwaitedResultsArrive() throws Exception {
+        final List<Boolean> autoRead = new ArrayList<>();
+        final ResultQueue bounded = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 2, autoRead::add);
+
+        final CompletableFuture<List<Result>> future = bounded.await(5);
+        for (int i = 0; i < 4; i++) {
+            bounded.add(new Result(i));
+        }
+        assertThat(autoRead.isEmpty(), is(true));
+        bounded.add(new Result(4));
+        assertEquals(5, future.get().size());
+        assertThat(autoRead.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldResumeReadingWhenUnbound() throws Exception {
+        final List<Boolean> autoRead = new ArrayList<>();
+        final ResultQueue bounded = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 2, autoRead::add);
+
+        bounded.add(new Result(0));
+        bounded.add(new Result(1));
+        assertEquals(Collections.singletonList(false), autoRead);
+        bounded.unbound();
+        assertEquals(Arrays.asList(false, true), autoRead);
+        for (int i = 2; i < 10; i++) {
+            bounded.add(new Result(i));
+        }
+        assertEquals(Arrays.asList(false, true), autoRead);
+        assertEquals(10, bounded.size());
+    }
 }
@@ -59,6 +59,8 @@ public class SettingsTest {
         conf.setProperty("connectionPool.maxContentLength", 800);
         conf.setProperty("connectionPool.reconnectInterval", 900);
         conf.setProperty("connectionPool.resultIterationBatchSize", 1100);
+        conf.setProperty("connectionPool.maxResultQueueSize", 1200);
+        conf.setProperty("hedgingPercentile", 99);
         conf.setProperty("connectionPool.channelizer", "channelizer0");
 
         final Settings settings = Settings.from(conf);
@@ -87,6 +89,8 @@ public class SettingsTest {
         assertEquals(800, settings.connectionPool.maxContentLength);
         assertEquals(900, settings.connectionPool.reconnectInterval);
         assertEquals(1100, settings.connectionPool.resultIterationBatchSize);
+        assertEquals(1200, settings.connectionPool.maxResultQueueSize);
+        assertEquals(99, settings.hedgingPercentile);
         assertEquals("channelizer0", settings.connectionPool.channelizer);
     }
 }
@@ -232,6 +232,26 @@ class GraphTraversal extends Traversal {
     return this;
   }
   
+  /**
+   * Graph traversal approxCountDistinct method.
+   * @param {...Object} args
+   * @returns {GraphTraversal}
+   */
+  approxCountDistinct(...args) {
+    this.bytecode.addStep('approxCountDistinct', args);
+    return this;
+  }
+  
+  /**
+   * Graph traversal approxGroupCount method.
+   * @param {...Object} args
+   * @returns {GraphTraversal}
+   */
+  approxGroupCount(...args) {
+    this.bytecode.addStep('approxGroupCount', args);
+    return this;
+  }
+  
   /**
    * Graph traversal as method.
    * @param {...Object} args
@@ -1159,6 +1179,8 @@ const statics = {
   addV: (...args) => callOnEmptyTraversal('addV', args),
   aggregate: (...args) => callOnEmptyTraversal('aggregate', args),
   and: (...args) => callOnEmptyTraversal('and', args),
+  approxCountDistinct: (...args) => callOnEmptyTraversal('approxCountDistinct', args),
+  approxGroupCount: (...args) => callOnEmptyTraversal('approxGroupCount', args),
   as: (...args) => callOnEmptyTraversal('as', args),
   barrier: (...args) => callOnEmptyTraversal('barrier', args),
   both: (...args) => callOnEmptyTraversal('both', args),
@@ -145,6 +145,14 @@ class GraphTraversal(Traversal):
         self.bytecode.add_step("and", *args)
         return self
 
+    def approxCountDistinct(self, *args):
+        self.bytecode.add_step("approxCountDistinct", *args)
+        return self
+
+    def approxGroupCount(self, *args):
+        self.bytecode.add_step("approxGroupCount", *args)
+        return self
+
     def as_(self, *args):
         self.bytecode.add_step("as", *args)
         return self
@@ -540,6 +548,14 @@ class __(object):
     def and_(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).and_(*args)
 
+    @classmethod
+    def approxCountDistinct(cls, *args):
+        return cls.graph_traversal(None, None, Bytecode()).approxCountDistinct(*args)
+
+    @classmethod
+    def approxGroupCount(cls, *args):
+        return cls.graph_traversal(None, None, Bytecode()).approxGroupCount(*args)
+
     @classmethod
     def as_(cls, *args):
         return cls.graph_traversal(None, None, Bytecode()).as_(*args)
@@ -894,6 +910,14 @@ def and_(*args):
     return __.and_(*args)
 statics.add_static('and_', and_)
 
+def approxCountDistinct(*args):
+    return __.approxCountDistinct(*args)
+statics.add_static('approxCountDistinct', approxCountDistinct)
+
+def approxGroupCount(*args):
+    return __.approxGroupCount(*args)
+statics.add_static('approxGroupCount', approxGroupCount)
+
 def as_(*args):
     return __.as_(*args)
 statics.add_static('as_', as_)
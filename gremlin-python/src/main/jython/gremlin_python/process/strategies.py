@@ -130,8 +130,12 @@ class InlineFilterStrategy(TraversalStrategy):
 
 
 class LazyBarrierStrategy(TraversalStrategy):
-    def __init__(self):
+    def __init__(self, max_barrier_size=None, min_barrier_size=None):
         TraversalStrategy.__init__(self)
+        if max_barrier_size is not None:
+            self.configuration["maxBarrierSize"] = max_barrier_size
+        if min_barrier_size is not None:
+            self.configuration["minBarrierSize"] = min_barrier_size
 
 
 class MatchPredicateStrategy(TraversalStrategy):
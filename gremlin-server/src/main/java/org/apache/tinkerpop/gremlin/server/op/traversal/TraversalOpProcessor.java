@@ -32,8 +32,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
@@ -45,6 +49,8 @@ import org.apache.tinkerpop.gremlin.server.op.AbstractOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.server.util.SideEffectIterator;
+import org.apache.tinkerpop.gremlin.server.util.TraversalResultCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalShapeMetrics;
 import org.apache.tinkerpop.gremlin.server.util.TraverserIterator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
@@ -63,6 +69,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Future;
@@ -104,16 +111,57 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
      */
     public static final long DEFAULT_CACHE_MAX_SIZE = 1000;
 
+    /**
+     * Configuration setting for the maximum number of distinct traversal shapes to keep metrics for.
+     */
+    public static final String CONFIG_SHAPE_METRICS_MAX_SIZE = "shapeMetricsMaxSize";
+
+    /**
+     * Default size of the max number of traversal shapes with metrics, where zero disables them.
+     */
+    public static final long DEFAULT_SHAPE_METRICS_MAX_SIZE = 0;
+
+    /**
+     * Configuration setting for the estimated number of bytes that the cached results of read-only traversals may take.
+     */
+    public static final String CONFIG_RESULT_CACHE_MAX_WEIGHT = "resultCacheMaxWeight";
+
+    /**
+     * Default weight of the cached results, where zero disables the result cache.
+     */
+    public static final long DEFAULT_RESULT_CACHE_MAX_WEIGHT = 0;
+
+    /**
+     * Configuration setting for how long the results of a read-only traversal will be cached.
+     */
+    public static final String CONFIG_RESULT_CACHE_EXPIRATION_TIME = "resultCacheExpirationTime";
+
+    /**
+     * Default time that cached results are kept is one minute.
+     */
+    public static final long DEFAULT_RESULT_CACHE_EXPIRATION_TIME = 60000;
+
     static {
         DEFAULT_SETTINGS.className = TraversalOpProcessor.class.getCanonicalName();
         DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
             put(CONFIG_CACHE_EXPIRATION_TIME, DEFAULT_CACHE_EXPIRATION_TIME);
             put(CONFIG_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+            put(CONFIG_SHAPE_METRICS_MAX_SIZE, DEFAULT_SHAPE_METRICS_MAX_SIZE);
+            put(CONFIG_RESULT_CACHE_MAX_WEIGHT, DEFAULT_RESULT_CACHE_MAX_WEIGHT);
+            put(CONFIG_RESULT_CACHE_EXPIRATION_TIME, DEFAULT_RESULT_CACHE_EXPIRATION_TIME);
         }};
     }
 
     protected static Cache<UUID, TraversalSideEffects> cache = null;
 
+    private static final ProfileStrategy COUNT_ALL_STRATEGY = ProfileStrategy.build().sample(0.0d).countAll(true).create();
+
+    protected static TraversalShapeMetrics shapeMetrics = new TraversalShapeMetrics(
+            MetricManager.INSTANCE.getRegistry(), name(GremlinServer.class, "op", "traversal", "shape"), DEFAULT_SHAPE_METRICS_MAX_SIZE);
+
+    protected static TraversalResultCache resultCache = new TraversalResultCache(
+            DEFAULT_RESULT_CACHE_MAX_WEIGHT, DEFAULT_RESULT_CACHE_EXPIRATION_TIME);
+
     private static final Bindings EMPTY_BINDINGS = new SimpleBindings();
 
     public TraversalOpProcessor() {
@@ -145,6 +193,22 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
 
         logger.info("Initialized cache for {} with size {} and expiration time of {} ms",
                 TraversalOpProcessor.class.getSimpleName(), maxSize, expirationTime);
+
+        final long shapeMetricsMaxSize = Long.parseLong(processorSettings.config.getOrDefault(
+                TraversalOpProcessor.CONFIG_SHAPE_METRICS_MAX_SIZE, DEFAULT_SHAPE_METRICS_MAX_SIZE).toString());
+        shapeMetrics = new TraversalShapeMetrics(MetricManager.INSTANCE.getRegistry(),
+                name(GremlinServer.class, "op", "traversal", "shape"), shapeMetricsMaxSize);
+        if (shapeMetricsMaxSize > 0)
+            logger.info("Initialized metrics for up to {} traversal shapes", shapeMetricsMaxSize);
+
+        final long resultCacheMaxWeight = Long.parseLong(processorSettings.config.getOrDefault(
+                TraversalOpProcessor.CONFIG_RESULT_CACHE_MAX_WEIGHT, DEFAULT_RESULT_CACHE_MAX_WEIGHT).toString());
+        final long resultCacheExpirationTime = Long.parseLong(processorSettings.config.getOrDefault(
+                TraversalOpProcessor.CONFIG_RESULT_CACHE_EXPIRATION_TIME, DEFAULT_RESULT_CACHE_EXPIRATION_TIME).toString());
+        resultCache = new TraversalResultCache(resultCacheMaxWeight, resultCacheExpirationTime);
+        if (resultCacheMaxWeight > 0)
+            logger.info("Initialized result cache with a weight of {} bytes and expiration time of {} ms",
+                    resultCacheMaxWeight, resultCacheExpirationTime);
     }
 
     @Override
@@ -158,6 +222,10 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                 validateTraversalSourceAlias(ctx, message, validateTraversalRequest(message));
                 op = this::iterateBytecodeTraversal;
                 break;
+            case Tokens.OPS_BATCH:
+                validateTraversalSourceAlias(ctx, message, validateBatchRequest(message));
+                op = this::iterateBatchTraversals;
+                break;
             case Tokens.OPS_GATHER:
                 final Optional<String> sideEffectForGather = message.optionalArgs(Tokens.ARGS_SIDE_EFFECT);
                 if (!sideEffectForGather.isPresent()) {
@@ -242,6 +310,16 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         return validatedAliases(message).get();
     }
 
+    private static Map<String, String> validateBatchRequest(final RequestMessage message) throws OpProcessorException {
+        final Optional<Object> batch = message.optionalArgs(Tokens.ARGS_GREMLIN);
+        if (!batch.isPresent() || !(batch.get() instanceof List) || ((List) batch.get()).isEmpty()) {
+            final String msg = String.format("A message with [%s] op code requires a [%s] argument that is a non-empty List of Bytecode.", Tokens.OPS_BATCH, Tokens.ARGS_GREMLIN);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).statusMessage(msg).create());
+        }
+
+        return validatedAliases(message).get();
+    }
+
     private static Optional<Map<String, String>> validatedAliases(final RequestMessage message) throws OpProcessorException {
         final Optional<Map<String, String>> aliases = message.optionalArgs(Tokens.ARGS_ALIASES);
         if (!aliases.isPresent()) {
@@ -334,87 +412,197 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         final RequestMessage msg = context.getRequestMessage();
         logger.debug("Traversal request {} for in thread {}", msg.getRequestId(), Thread.currentThread().getName());
 
-        // right now the TraversalOpProcessor can take a direct GraphSON representation of Bytecode or directly take
-        // deserialized Bytecode object.
-        final Object bytecodeObj = msg.getArgs().get(Tokens.ARGS_GREMLIN);
-        final Bytecode bytecode = bytecodeObj instanceof Bytecode ? (Bytecode) bytecodeObj :
-                mapper.readValue(bytecodeObj.toString(), Bytecode.class);
+        final Bytecode bytecode = toBytecode(msg.getArgs().get(Tokens.ARGS_GREMLIN));
 
         // earlier validation in selection of this op method should free us to cast this without worry
         final Map<String, String> aliases = (Map<String, String>) msg.optionalArgs(Tokens.ARGS_ALIASES).get();
 
-        // timeout override
-        final long seto = msg.getArgs().containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT) ?
-                Long.parseLong(msg.getArgs().get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT).toString()) : context.getSettings().scriptEvaluationTimeout;
-
         final GraphManager graphManager = context.getGraphManager();
         final String traversalSourceName = aliases.entrySet().iterator().next().getValue();
         final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
 
-        final Traversal.Admin<?, ?> traversal;
-        try {
-            final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
-                traversal = JavaTranslator.of(g).translate(bytecode);
-            else
-                traversal = context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
-        } catch (Exception ex) {
-            logger.error("Could not deserialize the Traversal instance", ex);
-            throw new OpProcessorException("Could not deserialize the Traversal instance",
-                    ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_SERIALIZATION)
-                            .statusMessage(ex.getMessage())
-                            .statusAttributeException(ex).create());
-        }
+        final Traversal.Admin<?, ?> traversal = translate(context, g, traversalSourceName, bytecode);
+
+        final Optional<TraversalResultCache.Key> cacheKey = resultCache.keyOf(traversalSourceName, g.getGraph(), bytecode);
+        final boolean mutating = resultCache.isEnabled() && !cacheKey.isPresent() && !BytecodeHelper.isReadOnly(bytecode);
 
         final Timer.Context timerContext = traversalOpTimer.time();
+        final Optional<TraversalShapeMetrics.Shape> shape = shapeMetrics.getShape(bytecode);
+        final Optional<Timer.Context> shapeTimerContext = shape.map(s -> s.latency().time());
         final FutureTask<Void> evalFuture = new FutureTask<>(() -> {
-            final ChannelHandlerContext ctx = context.getChannelHandlerContext();
             final Graph graph = g.getGraph();
 
             try {
                 beforeProcessing(graph, context);
+                if (mutating) resultCache.invalidate(graph);
 
                 try {
-                    // compile the traversal - without it getEndStep() has nothing in it
-                    traversal.applyStrategies();
-                    handleIterator(context, new TraverserIterator(traversal), graph);
-                } catch (Exception ex) {
-                    Throwable t = ex;
-                    if (ex instanceof UndeclaredThrowableException)
-                        t = t.getCause();
-
-                    if (t instanceof InterruptedException || t instanceof TraversalInterruptedException) {
-                        final String errorMessage = String.format("A timeout occurred during traversal evaluation of [%s] - consider increasing the limit given to scriptEvaluationTimeout", msg);
-                        logger.warn(errorMessage);
-                        ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT)
-                                .statusMessage(errorMessage)
-                                .statusAttributeException(ex).create());
-                        onError(graph, context);
+                    final Optional<List<Object>> cachedResults = cacheKey.flatMap(resultCache::get);
+                    if (cachedResults.isPresent()) {
+                        handleIterator(context, cachedResults.get().iterator(), graph);
                     } else {
-                        logger.warn(String.format("Exception processing a Traversal on iteration for request [%s].", msg.getRequestId()), ex);
-                        ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
-                                .statusMessage(ex.getMessage())
-                                .statusAttributeException(ex).create());
-                        onError(graph, context);
+                        // count the traversers of each step for the shape metrics unless the traversal profiles itself
+                        if (shape.isPresent() && !TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal))
+                            traversal.setStrategies(traversal.getStrategies().clone().addStrategies(COUNT_ALL_STRATEGY));
+
+                        // compile the traversal - without it getEndStep() has nothing in it
+                        final Optional<Timer.Context> strategiesTimerContext = shape.map(s -> s.strategies().time());
+                        traversal.applyStrategies();
+                        strategiesTimerContext.ifPresent(Timer.Context::stop);
+                        final TraverserIterator itty = shape.isPresent() ?
+                                new ShapeTraverserIterator(traversal, shape.get()) : new TraverserIterator(traversal);
+
+                        // side-effects are not cached with the results so traversals that have them are not cached
+                        final Optional<TraversalResultCache.CachingIterator> cachingItty = cacheKey
+                                .filter(k -> traversal.getSideEffects().isEmpty())
+                                .map(k -> resultCache.caching(k, itty));
+                        handleIterator(context, cachingItty.isPresent() ? cachingItty.get() : itty, graph);
+                        cachingItty.ifPresent(TraversalResultCache.CachingIterator::complete);
+                        if (shape.isPresent()) {
+                            shape.get().results().update(((ShapeTraverserIterator) itty).getResultCount());
+                            ProfileStrategy.getMetrics(traversal).ifPresent(shape.get()::count);
+                        }
                     }
+                } catch (Exception ex) {
+                    handleIterationException(context, graph, ex);
                 }
             } catch (Exception ex) {
                 logger.warn(String.format("Exception processing a Traversal on request [%s].", msg.getRequestId()), ex);
-                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
+                context.getChannelHandlerContext().writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
                         .statusMessage(ex.getMessage())
                         .statusAttributeException(ex).create());
                 onError(graph, context);
             } finally {
+                // invalidate again as traversals that started during the mutation may have cached what it changed
+                if (mutating) resultCache.invalidate(graph);
                 timerContext.stop();
+                shapeTimerContext.ifPresent(Timer.Context::stop);
             }
 
             return null;
         });
 
         final Future<?> executionFuture = context.getGremlinExecutor().getExecutorService().submit(evalFuture);
-        if (seto > 0) {
+        if (seto(context) > 0) {
             // Schedule a timeout in the thread pool for future execution
-            context.getScheduledExecutorService().schedule(() -> executionFuture.cancel(true), seto, TimeUnit.MILLISECONDS);
+            context.getScheduledExecutorService().schedule(() -> executionFuture.cancel(true), seto(context), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Iterates a batch of traversals one after the other on the same worker thread and in the same transaction. The
+     * results of all the traversals are written to the same response stream where each result is a two item
+     * {@code List} of the index of its traversal in the batch and its {@code Traverser}.
+     */
+    private void iterateBatchTraversals(final Context context) throws Exception {
+        final RequestMessage msg = context.getRequestMessage();
+        logger.debug("Traversal batch request {} for in thread {}", msg.getRequestId(), Thread.currentThread().getName());
+
+        // earlier validation in selection of this op method should free us to cast this without worry
+        final List<Object> batch = (List<Object>) msg.getArgs().get(Tokens.ARGS_GREMLIN);
+        final Map<String, String> aliases = (Map<String, String>) msg.optionalArgs(Tokens.ARGS_ALIASES).get();
+
+        final GraphManager graphManager = context.getGraphManager();
+        final String traversalSourceName = aliases.entrySet().iterator().next().getValue();
+        final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
+
+        // the results of a batch are not cached but any of its traversals may mutate the graph
+        final List<Traversal.Admin<?, ?>> traversals = new ArrayList<>(batch.size());
+        boolean mutates = false;
+        for (final Object bytecodeObj : batch) {
+            final Bytecode bytecode = toBytecode(bytecodeObj);
+            mutates = mutates || (resultCache.isEnabled() && !BytecodeHelper.isReadOnly(bytecode));
+            traversals.add(translate(context, g, traversalSourceName, bytecode));
+        }
+        final boolean mutating = mutates;
+
+        final Timer.Context timerContext = traversalOpTimer.time();
+        final FutureTask<Void> evalFuture = new FutureTask<>(() -> {
+            final Graph graph = g.getGraph();
+
+            try {
+                beforeProcessing(graph, context);
+                if (mutating) resultCache.invalidate(graph);
+
+                try {
+                    // a single commit follows the last result of the last traversal and any failure rolls back the
+                    // whole batch
+                    handleIterator(context, new BatchTraverserIterator(traversals), graph);
+                } catch (Exception ex) {
+                    handleIterationException(context, graph, ex);
+                }
+            } catch (Exception ex) {
+                logger.warn(String.format("Exception processing a Traversal batch on request [%s].", msg.getRequestId()), ex);
+                context.getChannelHandlerContext().writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
+                        .statusMessage(ex.getMessage())
+                        .statusAttributeException(ex).create());
+                onError(graph, context);
+            } finally {
+                if (mutating) resultCache.invalidate(graph);
+                timerContext.stop();
+            }
+
+            return null;
+        });
+
+        final Future<?> executionFuture = context.getGremlinExecutor().getExecutorService().submit(evalFuture);
+        if (seto(context) > 0) {
+            // the timeout applies to the batch as a whole
+            context.getScheduledExecutorService().schedule(() -> executionFuture.cancel(true), seto(context), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Bytecode toBytecode(final Object bytecodeObj) throws Exception {
+        // right now the TraversalOpProcessor can take a direct GraphSON representation of Bytecode or directly take
+        // deserialized Bytecode object.
+        return bytecodeObj instanceof Bytecode ? (Bytecode) bytecodeObj :
+                mapper.readValue(bytecodeObj.toString(), Bytecode.class);
+    }
+
+    private static long seto(final Context context) {
+        // timeout override
+        final RequestMessage msg = context.getRequestMessage();
+        return msg.getArgs().containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT) ?
+                Long.parseLong(msg.getArgs().get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT).toString()) : context.getSettings().scriptEvaluationTimeout;
+    }
+
+    private static Traversal.Admin<?, ?> translate(final Context context, final TraversalSource g, final String traversalSourceName,
+                                                   final Bytecode bytecode) throws OpProcessorException {
+        try {
+            final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
+            if (!lambdaLanguage.isPresent())
+                return JavaTranslator.of(g).translate(bytecode);
+            else
+                return context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
+        } catch (Exception ex) {
+            logger.error("Could not deserialize the Traversal instance", ex);
+            throw new OpProcessorException("Could not deserialize the Traversal instance",
+                    ResponseMessage.build(context.getRequestMessage()).code(ResponseStatusCode.SERVER_ERROR_SERIALIZATION)
+                            .statusMessage(ex.getMessage())
+                            .statusAttributeException(ex).create());
+        }
+    }
+
+    private void handleIterationException(final Context context, final Graph graph, final Exception ex) {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+        Throwable t = ex;
+        if (ex instanceof UndeclaredThrowableException)
+            t = t.getCause();
+
+        if (t instanceof InterruptedException || t instanceof TraversalInterruptedException) {
+            final String errorMessage = String.format("A timeout occurred during traversal evaluation of [%s] - consider increasing the limit given to scriptEvaluationTimeout", msg);
+            logger.warn(errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT)
+                    .statusMessage(errorMessage)
+                    .statusAttributeException(ex).create());
+            onError(graph, context);
+        } else {
+            logger.warn(String.format("Exception processing a Traversal on iteration for request [%s].", msg.getRequestId()), ex);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
+                    .statusMessage(ex.getMessage())
+                    .statusAttributeException(ex).create());
+            onError(graph, context);
         }
     }
 
@@ -529,6 +717,10 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     // thread as the eval.  as eval occurs in the GremlinExecutor there's no way to get back to the
                     // thread that processed the eval of the script so, we have to push serialization down into that
                     Frame frame = null;
+                    final Iterator results = itty instanceof TraversalResultCache.CachingIterator ?
+                            ((TraversalResultCache.CachingIterator) itty).getResults() : itty;
+                    final Timer.Context serializationTimerContext = results instanceof ShapeTraverserIterator ?
+                            ((ShapeTraverserIterator) results).getShape().serialization().time() : null;
                     try {
                         frame = makeFrame(ctx, msg, serializer, useBinary, aggregate, code, generateMetaData(ctx, msg, code, itty));
                     } catch (Exception ex) {
@@ -540,6 +732,8 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                         // at that point
                         onError(graph, context);
                         break;
+                    } finally {
+                        if (serializationTimerContext != null) serializationTimerContext.stop();
                     }
 
                     try {
@@ -587,4 +781,69 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
             }
         }
     }
+
+    /**
+     * A {@link TraverserIterator} that counts the results (including their bulk) for the metrics of the shape of its
+     * traversal.
+     */
+    private static class ShapeTraverserIterator extends TraverserIterator {
+        private final TraversalShapeMetrics.Shape shape;
+        private long resultCount = 0;
+
+        public ShapeTraverserIterator(final Traversal.Admin traversal, final TraversalShapeMetrics.Shape shape) {
+            super(traversal);
+            this.shape = shape;
+        }
+
+        public TraversalShapeMetrics.Shape getShape() {
+            return this.shape;
+        }
+
+        public long getResultCount() {
+            return this.resultCount;
+        }
+
+        @Override
+        public Object next() {
+            final Object result = super.next();
+            this.resultCount += ((Traverser) result).bulk();
+            return result;
+        }
+    }
+
+    /**
+     * Iterates the traversals of a batch one after the other, compiling each only once the previous one is exhausted,
+     * and tags each {@code Traverser} with the index of its traversal in the batch.
+     */
+    private static class BatchTraverserIterator implements Iterator<Object> {
+        private final List<Traversal.Admin<?, ?>> traversals;
+        private int index = -1;
+        private TraverserIterator current = null;
+
+        public BatchTraverserIterator(final List<Traversal.Admin<?, ?>> traversals) {
+            this.traversals = traversals;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == this.current || !this.current.hasNext()) {
+                if (this.index + 1 >= this.traversals.size())
+                    return false;
+                final Traversal.Admin<?, ?> traversal = this.traversals.get(++this.index);
+                traversal.applyStrategies();
+                this.current = new TraverserIterator(traversal);
+            }
+            return true;
+        }
+
+        @Override
+        public Object next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            final List<Object> tagged = new ArrayList<>(2);
+            tagged.add(this.index);
+            tagged.add(this.current.next());
+            return tagged;
+        }
+    }
 }
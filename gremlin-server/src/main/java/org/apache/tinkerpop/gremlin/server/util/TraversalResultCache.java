@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.configuration.ConfigurationConverter;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.TraversalStrategyProxy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of read-only traversals that are submitted to Gremlin Server as {@link Bytecode}. The results are
+ * keyed by the name of the traversal source and the normalized {@link Bytecode}, where bindings are replaced with
+ * their values. Only traversals that pass {@link BytecodeHelper#isReadOnly(Bytecode)} and whose results are not random,
+ * as with {@code sample()}, {@code coin()} or an {@code Order.shuffle}, can be cached. The entries are
+ * weighted by an estimate of the memory that their results take, expire after a fixed time and are invalidated for a
+ * {@link Graph} when a traversal that may mutate it is processed. Mutations that do not go through the cache, like
+ * those of scripts, only become visible once the entries expire.
+ */
+public final class TraversalResultCache {
+
+    private final long maxWeight;
+    private final Cache<Key, Entry> entries;
+    private long generation = 0;
+
+    /**
+     * Creates a cache that holds results with an estimated weight of at most {@code maxWeight} bytes for
+     * {@code expirationTime} milliseconds, where a {@code maxWeight} of zero disables the cache.
+     */
+    public TraversalResultCache(final long maxWeight, final long expirationTime) {
+        this.maxWeight = maxWeight;
+        this.entries = maxWeight <= 0 ? null : Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, Entry entry) -> entry.weight)
+                .expireAfterWrite(expirationTime, TimeUnit.MILLISECONDS)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return null != this.entries;
+    }
+
+    /**
+     * Gets the key for the results of the {@link Bytecode} or nothing if the cache is disabled or the traversal may
+     * mutate the graph.
+     */
+    public Optional<Key> keyOf(final String traversalSourceName, final Graph graph, final Bytecode bytecode) {
+        if (!this.isEnabled() || !BytecodeHelper.isReadOnly(bytecode) || isRandom(bytecode))
+            return Optional.empty();
+        synchronized (this) {
+            return Optional.of(new Key(traversalSourceName, graph, normalize(bytecode), this.generation));
+        }
+    }
+
+    /**
+     * Gets the cached results for the key, if there are any.
+     */
+    public Optional<List<Object>> get(final Key key) {
+        if (!this.isEnabled()) return Optional.empty();
+        final Entry entry = this.entries.getIfPresent(key);
+        return null == entry ? Optional.empty() : Optional.of(entry.results);
+    }
+
+    /**
+     * Wraps the iterator of the results for the key so that they are collected as they are iterated.
+     */
+    public CachingIterator caching(final Key key, final Iterator<Object> results) {
+        return new CachingIterator(key, results);
+    }
+
+    /**
+     * Removes the results of all the traversals of the {@link Graph}. The results of traversals that are being
+     * iterated while the graph is invalidated are not cached as they may have missed the mutation.
+     */
+    public synchronized void invalidate(final Graph graph) {
+        if (!this.isEnabled()) return;
+        this.generation++;
+        this.entries.asMap().keySet().removeIf(key -> key.graph == graph);
+    }
+
+    /**
+     * The number of traversals that currently have cached results.
+     */
+    public long size() {
+        if (!this.isEnabled()) return 0;
+        this.entries.cleanUp();
+        return this.entries.estimatedSize();
+    }
+
+    private synchronized void put(final Key key, final List<Object> results, final long weight) {
+        if (key.generation == this.generation)
+            this.entries.put(key, new Entry(Collections.unmodifiableList(results), (int) Math.min(weight, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Determines if the results of the {@link Bytecode} are random, in which case caching them would change them
+     * rather than just answer faster.
+     */
+    static boolean isRandom(final Bytecode bytecode) {
+        for (final Bytecode.Instruction instruction : bytecode.getInstructions()) {
+            final String operator = instruction.getOperator();
+            if (operator.equals(GraphTraversal.Symbols.sample) || operator.equals(GraphTraversal.Symbols.coin))
+                return true;
+            for (final Object argument : instruction.getArguments()) {
+                if (isRandomArgument(argument))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRandomArgument(final Object argument) {
+        if (argument == Order.shuffle)
+            return true;
+        else if (argument instanceof Bytecode.Binding)
+            return isRandomArgument(((Bytecode.Binding) argument).value());
+        else if (argument instanceof Bytecode)
+            return isRandom((Bytecode) argument);
+        else if (argument instanceof Traversal)
+            return isRandom(((Traversal) argument).asAdmin().getBytecode());
+        else if (argument instanceof Object[]) {
+            for (final Object item : (Object[]) argument) {
+                if (isRandomArgument(item))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Object> normalize(final Bytecode bytecode) {
+        return Arrays.asList(normalize(bytecode.getSourceInstructions()), normalize(bytecode.getStepInstructions()));
+    }
+
+    private static List<Object> normalize(final List<Bytecode.Instruction> instructions) {
+        final List<Object> normalized = new ArrayList<>(instructions.size());
+        for (final Bytecode.Instruction instruction : instructions) {
+            final List<Object> items = new ArrayList<>(instruction.getArguments().length + 1);
+            items.add(instruction.getOperator());
+            for (final Object argument : instruction.getArguments()) {
+                items.add(normalizeArgument(argument));
+            }
+            normalized.add(items);
+        }
+        return normalized;
+    }
+
+    private static Object normalizeArgument(final Object argument) {
+        if (argument instanceof Bytecode.Binding)
+            return normalizeArgument(((Bytecode.Binding) argument).value());
+        else if (argument instanceof Bytecode)
+            return normalize((Bytecode) argument);
+        else if (argument instanceof Traversal)
+            return normalize(((Traversal) argument).asAdmin().getBytecode());
+        else if (argument instanceof TraversalStrategyProxy)
+            return Arrays.asList(((TraversalStrategyProxy) argument).getStrategyClass(),
+                    ConfigurationConverter.getMap(((TraversalStrategyProxy) argument).getConfiguration()));
+        else if (argument instanceof TraversalStrategy)
+            return Arrays.asList(argument.getClass(),
+                    ConfigurationConverter.getMap(((TraversalStrategy) argument).getConfiguration()));
+        else if (argument instanceof Object[])
+            return Arrays.asList((Object[]) argument);
+        else
+            return argument;
+    }
+
+    /**
+     * Estimates the number of bytes that a result takes in memory.
+     */
+    static long weigh(final Object object) {
+        if (null == object)
+            return 8;
+        else if (object instanceof Traverser)
+            return 24 + weigh(((Traverser) object).get());
+        else if (object instanceof String)
+            return 40 + 2L * ((String) object).length();
+        else if (object instanceof Number || object instanceof Boolean || object instanceof Enum)
+            return 16;
+        else if (object instanceof Element) {
+            long weight = 48 + weigh(((Element) object).id()) + weigh(((Element) object).label());
+            if (object instanceof Property)
+                weight += weigh(((Property) object).orElse(null));
+            final Iterator<? extends Property> properties = ((Element) object).properties();
+            while (properties.hasNext()) {
+                weight += weigh(properties.next());
+            }
+            return weight;
+        } else if (object instanceof Property)
+            return 32 + weigh(((Property) object).key()) + weigh(((Property) object).orElse(null));
+        else if (object instanceof Path)
+            return 32 + weigh(((Path) object).objects()) + weigh(((Path) object).labels());
+        else if (object instanceof Map) {
+            long weight = 48;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                weight += 32 + weigh(entry.getKey()) + weigh(entry.getValue());
+            }
+            return weight;
+        } else if (object instanceof Collection) {
+            long weight = 32;
+            for (final Object item : (Collection<?>) object) {
+                weight += 8 + weigh(item);
+            }
+            return weight;
+        } else
+            return 64;
+    }
+
+    /**
+     * Identifies the results of a traversal. Keys are equal when their traversal source names and normalized
+     * {@link Bytecode} are equal.
+     */
+    public static final class Key {
+        private final String traversalSourceName;
+        private final Graph graph;
+        private final List<Object> bytecode;
+        private final long generation;
+
+        private Key(final String traversalSourceName, final Graph graph, final List<Object> bytecode, final long generation) {
+            this.traversalSourceName = traversalSourceName;
+            this.graph = graph;
+            this.bytecode = bytecode;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Key &&
+                    this.traversalSourceName.equals(((Key) object).traversalSourceName) &&
+                    this.bytecode.equals(((Key) object).bytecode);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.traversalSourceName.hashCode() * 31 + this.bytecode.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private final List<Object> results;
+        private final int weight;
+
+        private Entry(final List<Object> results, final int weight) {
+            this.results = results;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Collects the results that are iterated and caches them once the iteration is complete. Results that are
+     * heavier than the whole cache are not collected.
+     */
+    public final class CachingIterator implements Iterator<Object> {
+        private final Key key;
+        private final Iterator<Object> results;
+        private List<Object> collected = new ArrayList<>();
+        private long weight = 0;
+        private boolean exhausted = false;
+
+        private CachingIterator(final Key key, final Iterator<Object> results) {
+            this.key = key;
+            this.results = results;
+        }
+
+        public Iterator<Object> getResults() {
+            return this.results;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext = this.results.hasNext();
+            if (!hasNext) this.exhausted = true;
+            return hasNext;
+        }
+
+        @Override
+        public Object next() {
+            final Object result = this.results.next();
+            if (null != this.collected) {
+                this.weight += weigh(result);
+                if (this.weight > maxWeight)
+                    this.collected = null;
+                else
+                    this.collected.add(result);
+            }
+            return result;
+        }
+
+        /**
+         * Caches the collected results if all of them were iterated.
+         */
+        public void complete() {
+            if (this.exhausted && null != this.collected)
+                put(this.key, this.collected, this.weight);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.TraversalStrategyProxy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.util.function.Lambda;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Maintains metrics for each "shape" of traversal that is submitted to Gremlin Server, where the shape is the
+ * {@link Bytecode} with all of its literal arguments removed. For each shape there is a {@code latency} timer (which
+ * also counts the requests), a {@code strategies} timer for strategy application, a {@code serialization} timer and a
+ * {@code results} histogram of the number of results returned per request. Traversals that do not end with
+ * {@code profile()} are counted by a {@code ProfileStrategy} that counts all traversals and also add the traverser and
+ * element counts of each of their steps to {@code steps} counters. The number of shapes is bounded and the
+ * metrics of a shape that is evicted are removed from the {@code MetricRegistry}.
+ */
+public final class TraversalShapeMetrics {
+
+    /**
+     * Literal arguments of the {@link Bytecode} are replaced with this placeholder in the shape.
+     */
+    public static final String LITERAL = "_";
+
+    private static final int MAX_NAME_LENGTH = 200;
+
+    private final MetricRegistry registry;
+    private final String prefix;
+    private final Cache<String, Shape> shapes;
+
+    /**
+     * The shape that holds each metric name, as shapes that differ only in characters that are not safe for
+     * reporters convert to the same name.
+     */
+    private final ConcurrentMap<String, Shape> names = new ConcurrentHashMap<>();
+
+    /**
+     * Creates metrics for at most {@code maxShapes} distinct shapes, where a {@code maxShapes} of zero disables them.
+     */
+    public TraversalShapeMetrics(final MetricRegistry registry, final String prefix, final long maxShapes) {
+        this.registry = registry;
+        this.prefix = prefix;
+        this.shapes = maxShapes <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxShapes)
+                .executor(Runnable::run)
+                .removalListener((RemovalListener<String, Shape>) (shape, metrics, cause) -> metrics.remove())
+                .build();
+    }
+
+    /**
+     * Gets the metrics for the shape of the {@link Bytecode} or nothing if shape metrics are disabled.
+     */
+    public Optional<Shape> getShape(final Bytecode bytecode) {
+        if (null == this.shapes) return Optional.empty();
+        return Optional.of(this.shapes.get(shapeOf(bytecode), Shape::new));
+    }
+
+    /**
+     * The number of shapes that currently have metrics.
+     */
+    public long size() {
+        if (null == this.shapes) return 0;
+        this.shapes.cleanUp();
+        return this.shapes.estimatedSize();
+    }
+
+    /**
+     * Converts the {@link Bytecode} to a string like {@code g.V().has(_,_).out(_)} where literals are removed, but step
+     * names, tokens, predicates, strategies and child traversals are retained.
+     */
+    public static String shapeOf(final Bytecode bytecode) {
+        final StringBuilder builder = new StringBuilder("g");
+        appendInstructions(builder, bytecode);
+        return builder.toString();
+    }
+
+    private static void appendInstructions(final StringBuilder builder, final Bytecode bytecode) {
+        for (final Bytecode.Instruction instruction : bytecode.getInstructions()) {
+            builder.append('.').append(instruction.getOperator()).append('(');
+            final Object[] arguments = instruction.getArguments();
+            for (int i = 0; i < arguments.length; i++) {
+                if (i > 0) builder.append(',');
+                appendArgument(builder, arguments[i]);
+            }
+            builder.append(')');
+        }
+    }
+
+    private static void appendArgument(final StringBuilder builder, final Object argument) {
+        if (argument instanceof Bytecode) {
+            builder.append("__");
+            appendInstructions(builder, (Bytecode) argument);
+        } else if (argument instanceof Traversal) {
+            builder.append("__");
+            appendInstructions(builder, ((Traversal) argument).asAdmin().getBytecode());
+        } else if (argument instanceof ConnectiveP) {
+            builder.append(argument instanceof AndP ? "and" : "or").append('(');
+            boolean first = true;
+            for (final P<?> p : ((ConnectiveP<?>) argument).getPredicates()) {
+                if (!first) builder.append(',');
+                appendArgument(builder, p);
+                first = false;
+            }
+            builder.append(')');
+        } else if (argument instanceof P) {
+            final Object biPredicate = ((P) argument).getBiPredicate();
+            builder.append(biPredicate instanceof Enum ? ((Enum) biPredicate).name() : "test").append('(').append(LITERAL).append(')');
+        } else if (argument instanceof Enum) {
+            builder.append(((Enum) argument).getDeclaringClass().getSimpleName()).append('.').append(((Enum) argument).name());
+        } else if (argument instanceof Lambda)
+            builder.append("lambda");
+        else if (argument instanceof TraversalStrategyProxy)
+            builder.append(((TraversalStrategyProxy) argument).getStrategyClass().getSimpleName());
+        else if (argument instanceof TraversalStrategy)
+            builder.append(argument.getClass().getSimpleName());
+        else if (argument instanceof Class)
+            builder.append(((Class) argument).getSimpleName());
+        else
+            builder.append(LITERAL);
+    }
+
+    /**
+     * Converts the shape to a metric name segment that is safe for the file, JMX and Graphite reporters.
+     */
+    static String nameOf(final String shape) {
+        final String name = shape.replaceAll("[^A-Za-z0-9_(),]", "_");
+        return name.length() <= MAX_NAME_LENGTH ? name :
+                name.substring(0, MAX_NAME_LENGTH - 9) + "_" + String.format("%08x", shape.hashCode());
+    }
+
+    /**
+     * Claims a metric name for the shape. A shape that converts to the same name as another live shape gets a numeric
+     * suffix, while an evicted instance of the same shape whose metrics were not removed yet gives up its name.
+     */
+    private String claimName(final Shape shape) {
+        final String base = nameOf(shape.getShape());
+        String name = base;
+        int suffix = 0;
+        while (true) {
+            final Shape owner = this.names.putIfAbsent(name, shape);
+            if (null == owner)
+                return name;
+            if (owner.getShape().equals(shape.getShape()))
+                owner.remove();
+            else
+                name = base + "_" + ++suffix;
+        }
+    }
+
+    /**
+     * The metrics of a single traversal shape.
+     */
+    public final class Shape {
+        private final String shape;
+        private final Timer latency = new Timer();
+        private final Timer strategies = new Timer();
+        private final Timer serialization = new Timer();
+        private final Histogram results = new Histogram(new ExponentiallyDecayingReservoir());
+        private final String name;
+        private final Map<String, Counter> steps = new HashMap<>();
+        private boolean removed = false;
+
+        private Shape(final String shape) {
+            this.shape = shape;
+            this.name = claimName(this);
+            register(name(prefix, name, "latency"), this.latency);
+            register(name(prefix, name, "strategies"), this.strategies);
+            register(name(prefix, name, "serialization"), this.serialization);
+            register(name(prefix, name, "results"), this.results);
+        }
+
+        public String getShape() {
+            return this.shape;
+        }
+
+        /**
+         * Times the whole request and thus also counts the requests of this shape.
+         */
+        public Timer latency() {
+            return this.latency;
+        }
+
+        /**
+         * Times the application of the traversal strategies.
+         */
+        public Timer strategies() {
+            return this.strategies;
+        }
+
+        /**
+         * Times the serialization of the response messages.
+         */
+        public Timer serialization() {
+            return this.serialization;
+        }
+
+        /**
+         * The number of results returned per request.
+         */
+        public Histogram results() {
+            return this.results;
+        }
+
+        /**
+         * Adds the traverser and element counts of each step of a traversal of this shape that was profiled without
+         * {@code profile()}, as it is when the {@code ProfileStrategy} counts all traversals, to counters named by the position
+         * and the class of the step.
+         */
+        public synchronized void count(final TraversalMetrics metrics) {
+            if (this.removed) return;
+            int position = 0;
+            for (final Metrics step : metrics.getMetrics()) {
+                // the arguments of a step may hold literals so only its class is part of the name
+                final String stepName = name(prefix, this.name, "steps",
+                        nameOf(position++ + "_" + step.getName().split("\\(", 2)[0]));
+                this.counter(name(stepName, "traversers")).inc(countOf(step, TraversalMetrics.TRAVERSER_COUNT_ID));
+                this.counter(name(stepName, "elements")).inc(countOf(step, TraversalMetrics.ELEMENT_COUNT_ID));
+            }
+        }
+
+        private Counter counter(final String name) {
+            return this.steps.computeIfAbsent(name, n -> {
+                final Counter counter = new Counter();
+                register(n, counter);
+                return counter;
+            });
+        }
+
+        private long countOf(final Metrics step, final String key) {
+            final Long count = step.getCount(key);
+            return null == count ? 0 : count;
+        }
+
+        private void register(final String name, final Metric metric) {
+            registry.register(name, metric);
+        }
+
+        private synchronized void remove() {
+            if (this.removed) return;
+            this.removed = true;
+            registry.removeMatching((name, metric) -> metric == this.latency || metric == this.strategies ||
+                    metric == this.serialization || metric == this.results || this.steps.containsValue(metric));
+            names.remove(this.name, this);
+        }
+    }
+}
@@ -26,8 +26,10 @@ import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
 import org.apache.tinkerpop.gremlin.driver.handler.WebSocketClientHandler;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV3d0;
 import org.apache.tinkerpop.gremlin.driver.ser.JsonBuilderGryoSerializer;
@@ -35,8 +37,14 @@ import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV1d0;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
 import org.apache.tinkerpop.gremlin.jsr223.ScriptFileGremlinPlugin;
 import org.apache.tinkerpop.gremlin.server.channel.NioChannelizer;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.util.Log4jRecordingAppender;
 import org.apache.tinkerpop.gremlin.util.TimeUtil;
@@ -51,6 +59,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,10 +73,12 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -78,14 +91,18 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+import static org.hamcrest.number.OrderingComparison.lessThan;
 import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assume.assumeThat;
 
 /**
  * Integration tests for gremlin-driver configurations and settings.
@@ -148,6 +165,12 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldWorkOverNioTransport":
                 settings.channelizer = NioChannelizer.class.getName();
                 break;
+            case "shouldHedgeReadOnlyTraversals":
+                // listen on the IPv4 and IPv6 loopback addresses so that the driver can connect to the server as two hosts
+                if (isIPv6LoopbackAvailable()) settings.host = "::";
+                // the hedged request must not wait for the slow one to release the only thread of the pool
+                settings.gremlinPool = 2;
+                break;
             case "shouldFailWithBadClientSideSerialization":
                 final List<String> custom = Arrays.asList(
                         JsonBuilder.class.getName() + ";" + JsonBuilderGryoSerializer.class.getName(),
@@ -651,6 +674,191 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
                 assertTrue(expected.containsAll(((List<Result>) refs[r].get()).stream().map(resultItem -> new Integer(resultItem.getInt())).collect(Collectors.toList()))));
     }
 
+    @Test
+    public void shouldNotBlockSubmitAsyncWhileConnectionsAreBusy() throws Exception {
+        final Cluster cluster = TestClientFactory.build()
+                .minConnectionPoolSize(1)
+                .maxConnectionPoolSize(1)
+                .minSimultaneousUsagePerConnection(1)
+                .maxSimultaneousUsagePerConnection(1)
+                .minInProcessPerConnection(0)
+                .maxInProcessPerConnection(1)
+                .maxWaitForConnection(30000)
+                .create();
+        final Client client = cluster.connect();
+
+        try {
+            final ResultSet first = client.submitAsync("Thread.sleep(2000);0").get(30, TimeUnit.SECONDS);
+
+            // the single connection is busy with the first request so the other requests wait for it without
+            // blocking the thread that submits them
+            final long start = System.nanoTime();
+            final List<CompletableFuture<List<Result>>> futures = IntStream.range(1, 4)
+                    .mapToObj(i -> client.submitAsync("Thread.sleep(500);" + i).thenCompose(ResultSet::all))
+                    .collect(Collectors.toList());
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1000L));
+            assertFalse(futures.get(0).isDone());
+
+            assertEquals(0, first.all().get(30, TimeUnit.SECONDS).get(0).getInt());
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i + 1, futures.get(i).get(30, TimeUnit.SECONDS).get(0).getInt());
+            }
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldTimeoutAsyncBorrowWhileConnectionsAreBusy() throws Exception {
+        final Cluster cluster = TestClientFactory.build()
+                .minConnectionPoolSize(1)
+                .maxConnectionPoolSize(1)
+                .minSimultaneousUsagePerConnection(1)
+                .maxSimultaneousUsagePerConnection(1)
+                .minInProcessPerConnection(0)
+                .maxInProcessPerConnection(1)
+                .maxWaitForConnection(500)
+                .create();
+        final Client client = cluster.connect();
+
+        try {
+            final ResultSet first = client.submitAsync("Thread.sleep(3000);1").get(30, TimeUnit.SECONDS);
+            final CompletableFuture<ResultSet> second = client.submitAsync("2");
+            try {
+                second.get(30, TimeUnit.SECONDS);
+                fail("Should have timed out waiting for a connection");
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause(), instanceOf(TimeoutException.class));
+            }
+            assertEquals(1, first.all().get(30, TimeUnit.SECONDS).get(0).getInt());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldPauseReadingWhileResultQueueIsFull() throws Exception {
+        final Cluster cluster = TestClientFactory.build()
+                .maxResultQueueSize(16)
+                .resultIterationBatchSize(8)
+                .create();
+        final Client client = cluster.connect();
+
+        try {
+            final ResultSet results = client.submit("(0..<10000).collect{'x' * 1000}");
+
+            // nothing is consumed so the client should stop reading long before the server wrote all of the results
+            Thread.sleep(2000);
+            assertThat(results.getAvailableItemCount(), lessThan(5000));
+            assertThat(results.allItemsAvailable(), is(false));
+
+            final AtomicInteger count = new AtomicInteger(0);
+            results.iterator().forEachRemaining(r -> count.incrementAndGet());
+            assertEquals(10000, count.get());
+
+            // the connection reads again after the queue was drained
+            assertEquals(2, client.submit("1+1").all().get().get(0).getInt());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldHedgeReadOnlyTraversals() throws Exception {
+        assumeThat("IPv6 loopback address is not available", isIPv6LoopbackAvailable(), is(true));
+
+        // the first traversal of "gslow" after it is armed takes a while so that it is hedged
+        final GraphManager graphManager = server.getServerGremlinExecutor().getGraphManager();
+        graphManager.putTraversalSource("gslow", graphManager.getTraversalSource("gmodern")
+                .withStrategies(SleepOnceStrategy.instance()));
+
+        // both contact points are the same server but they are different hosts to the driver
+        final Cluster cluster = Cluster.build("127.0.0.1").addContactPoint("::1")
+                .port(TestClientFactory.PORT)
+                .hedgingPercentile(1)
+                .create();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+        try {
+            final Client client = cluster.connect().init();
+            final Client modern = client.alias("gmodern");
+            assertEquals(2, cluster.availableHosts().size());
+            for (int i = 0; i < 200; i++) {
+                assertEquals(6L, modern.submit(g.V().count()).one().getLong());
+                assertEquals(Arrays.asList("josh", "vadas"), modern.submit(g.V().has("name", "marko").out("knows").values("name").order())
+                        .all().get().stream().map(Result::getString).collect(Collectors.toList()));
+            }
+
+            // the results are read from the request that was sent to the second host while the first one sleeps
+            SleepOnceStrategy.arm();
+            final RequestMessage hedged = RequestMessage.build(Tokens.OPS_BYTECODE).processor("traversal")
+                    .addArg(Tokens.ARGS_GREMLIN, g.V().count().asAdmin().getBytecode())
+                    .addArg(Tokens.ARGS_ALIASES, Collections.singletonMap("g", "gslow")).create();
+            long start = System.nanoTime();
+            final ResultSet hedgedResults = client.submitAsync(hedged).get();
+            assertEquals(6L, hedgedResults.one().getLong());
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(SleepOnceStrategy.SLEEP_MILLIS));
+            assertNotEquals(hedged.getRequestId(), hedgedResults.getOriginalRequestMessage().getRequestId());
+
+            // hedging is turned off for a single request, where the argument may also be a string
+            SleepOnceStrategy.arm();
+            final RequestMessage unhedged = RequestMessage.build(Tokens.OPS_BYTECODE).processor("traversal")
+                    .addArg(Tokens.ARGS_GREMLIN, g.V().count().asAdmin().getBytecode())
+                    .addArg(Tokens.ARGS_ALIASES, Collections.singletonMap("g", "gslow"))
+                    .addArg(Tokens.ARGS_HEDGE, "false").create();
+            start = System.nanoTime();
+            final ResultSet unhedgedResults = client.submitAsync(unhedged).get();
+            assertEquals(6L, unhedgedResults.one().getLong());
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(SleepOnceStrategy.SLEEP_MILLIS));
+            assertEquals(unhedged.getRequestId(), unhedgedResults.getOriginalRequestMessage().getRequestId());
+
+            // mutations are never sent twice
+            final Client empty = cluster.connect().alias("ggraph");
+            final long count = empty.submit(g.V().count()).one().getLong();
+            for (int i = 0; i < 100; i++) {
+                empty.submit(g.addV("person").property("i", i)).all().get();
+            }
+            assertEquals(count + 100, empty.submit(g.V().count()).one().getLong());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldSubmitBatchOfTraversals() throws Exception {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        for (final Serializers serializer : Arrays.asList(Serializers.GRYO_V3D0, Serializers.GRAPHSON_V3D0)) {
+            final Cluster cluster = TestClientFactory.build().serializer(serializer).create();
+            try {
+                final Client client = cluster.connect().alias("gmodern");
+                final List<List<Result>> results = client.submitBatch(Arrays.asList(
+                        g.V().count().asAdmin().getBytecode(),
+                        g.V().hasLabel("nothing").asAdmin().getBytecode(),
+                        g.V().has("name", "marko").out("knows").values("name").order().asAdmin().getBytecode(),
+                        g.V().out().values("name").asAdmin().getBytecode()));
+                assertEquals(4, results.size());
+                assertEquals(6L, results.get(0).get(0).getLong());
+                assertEquals(0, results.get(1).size());
+                assertEquals(Arrays.asList("josh", "vadas"), results.get(2).stream()
+                        .map(Result::getString).collect(Collectors.toList()));
+
+                // "lop" is returned as a single traverser with a bulk of three
+                assertEquals(Arrays.asList("josh", "lop", "lop", "lop", "ripple", "vadas"), results.get(3).stream()
+                        .map(Result::getString).sorted().collect(Collectors.toList()));
+
+                try {
+                    client.submitBatch(Arrays.asList(g.V().count().asAdmin().getBytecode(),
+                            g.V().values("name").math("_ / 0").asAdmin().getBytecode()));
+                    fail("The batch should fail as one of its traversals fails");
+                } catch (Exception ex) {
+                    assertThat(ExceptionUtils.getRootCause(ex), instanceOf(ResponseException.class));
+                }
+            } finally {
+                cluster.close();
+            }
+        }
+    }
+
     @Test
     public void shouldCloseWithServerDown() throws Exception {
         final Cluster cluster = TestClientFactory.open();
@@ -1496,6 +1704,48 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
         cluster.close();
     }
 
+    private static boolean isIPv6LoopbackAvailable() {
+        try (final ServerSocket socket = new ServerSocket(0, 1, InetAddress.getByName("::1"))) {
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Sleeps while it is applied to the first root traversal after it was armed.
+     */
+    public static class SleepOnceStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy>
+            implements TraversalStrategy.DecorationStrategy {
+
+        static final long SLEEP_MILLIS = 3000;
+
+        private static final SleepOnceStrategy INSTANCE = new SleepOnceStrategy();
+        private static final AtomicBoolean armed = new AtomicBoolean(false);
+
+        private SleepOnceStrategy() {
+        }
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            if (traversal.getParent() instanceof EmptyStep && armed.compareAndSet(true, false)) {
+                try {
+                    Thread.sleep(SLEEP_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        static void arm() {
+            armed.set(true);
+        }
+
+        public static SleepOnceStrategy instance() {
+            return INSTANCE;
+        }
+    }
+
     private void assertFutureTimeout(final CompletableFuture<List<Result>> futureFirst) {
         try
         {
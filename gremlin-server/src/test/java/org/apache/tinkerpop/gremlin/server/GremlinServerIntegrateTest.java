@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.server;
 
+import com.codahale.metrics.MetricRegistry;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -56,6 +57,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.server.handler.OpSelectorHandler;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.standard.StandardOpProcessor;
+import org.apache.tinkerpop.gremlin.server.op.traversal.TraversalOpProcessor;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -247,6 +250,26 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldTimeOutRemoteTraversal":
                 settings.scriptEvaluationTimeout = 500;
                 break;
+            case "shouldRecordMetricsPerTraversalShape":
+                final Settings.ProcessorSettings processorSettingsShapes = new Settings.ProcessorSettings();
+                processorSettingsShapes.className = TraversalOpProcessor.class.getName();
+                processorSettingsShapes.config = new HashMap<String,Object>() {{
+                    put(TraversalOpProcessor.CONFIG_CACHE_EXPIRATION_TIME, TraversalOpProcessor.DEFAULT_CACHE_EXPIRATION_TIME);
+                    put(TraversalOpProcessor.CONFIG_CACHE_MAX_SIZE, TraversalOpProcessor.DEFAULT_CACHE_MAX_SIZE);
+                    put(TraversalOpProcessor.CONFIG_SHAPE_METRICS_MAX_SIZE, 10);
+                }};
+                settings.processors.add(processorSettingsShapes);
+                break;
+            case "shouldCacheResultsOfReadOnlyTraversals":
+                final Settings.ProcessorSettings processorSettingsResults = new Settings.ProcessorSettings();
+                processorSettingsResults.className = TraversalOpProcessor.class.getName();
+                processorSettingsResults.config = new HashMap<String,Object>() {{
+                    put(TraversalOpProcessor.CONFIG_CACHE_EXPIRATION_TIME, TraversalOpProcessor.DEFAULT_CACHE_EXPIRATION_TIME);
+                    put(TraversalOpProcessor.CONFIG_CACHE_MAX_SIZE, TraversalOpProcessor.DEFAULT_CACHE_MAX_SIZE);
+                    put(TraversalOpProcessor.CONFIG_RESULT_CACHE_MAX_WEIGHT, 1000000);
+                }};
+                settings.processors.add(processorSettingsResults);
+                break;
             case "shouldPingChannelIfClientDies":
                 settings.keepAliveInterval = 1000;
                 break;
@@ -329,6 +352,54 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         assertThat(recordingAppender.logContainsAny(".*Checking channel - sending ping to client after idle period of .*$"), is(true));
     }
 
+    @Test
+    public void shouldRecordMetricsPerTraversalShape() throws Exception {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withRemote(conf);
+        assertEquals(3, g.inject(1, 2, 3).toList().size());
+        assertEquals(2, g.inject(4, 5).toList().size());
+
+        final String prefix = MetricRegistry.name(GremlinServer.class, "op", "traversal", "shape", "g_inject(_,_,_)");
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+
+        // the metrics are recorded after the last response is written so give the server a moment to catch up
+        final long start = System.currentTimeMillis();
+        while (registry.getTimers().get(MetricRegistry.name(prefix, "latency")).getCount() == 0 &&
+                System.currentTimeMillis() - start < 5000) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, registry.getTimers().get(MetricRegistry.name(prefix, "latency")).getCount());
+        assertEquals(1, registry.getTimers().get(MetricRegistry.name(prefix, "strategies")).getCount());
+        assertEquals(1, registry.getTimers().get(MetricRegistry.name(prefix, "serialization")).getCount());
+        assertEquals(3, registry.getHistograms().get(MetricRegistry.name(prefix, "results")).getSnapshot().getMax());
+        assertEquals(3, registry.getCounters().get(MetricRegistry.name(prefix, "steps", "0_InjectStep", "traversers")).getCount());
+        assertTrue(registry.getTimers().containsKey(MetricRegistry.name(GremlinServer.class, "op", "traversal", "shape", "g_inject(_,_)", "latency")));
+    }
+
+    @Test
+    public void shouldCacheResultsOfReadOnlyTraversals() throws Exception {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withRemote(conf);
+        final Cluster cluster = TestClientFactory.open();
+        try {
+            final Client client = cluster.connect();
+            final Client ggraph = client.alias("ggraph");
+            final long count = g.V().count().next();
+            assertEquals(count, ggraph.submit(EmptyGraph.instance().traversal().V().count()).one().getLong());
+
+            // mutations from scripts do not invalidate the cache so the cached count is returned until it expires
+            client.submit("g.addV('person')").all().get();
+            assertEquals(count, g.V().count().next().longValue());
+            assertEquals(count + 1, g.V().id().count().next().longValue());
+
+            // mutations from traversals invalidate the results of every traversal source of the graph
+            g.addV("person").iterate();
+            assertEquals(count + 2, g.V().count().next().longValue());
+            assertEquals(count + 2, ggraph.submit(EmptyGraph.instance().traversal().V().count()).one().getLong());
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldTimeOutRemoteTraversal() throws Exception {
         final Graph graph = EmptyGraph.instance();
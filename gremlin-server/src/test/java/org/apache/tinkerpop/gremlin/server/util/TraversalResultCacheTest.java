@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.Bindings;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TraversalResultCacheTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+    private final Graph graph = TinkerGraph.open();
+
+    private static void iterate(final Iterator<Object> itty) {
+        while (itty.hasNext()) {
+            itty.next();
+        }
+    }
+
+    private TraversalResultCache.Key cache(final TraversalResultCache cache, final String traversalSourceName,
+                                           final Graph graph, final List<Object> results) {
+        final TraversalResultCache.Key key = cache.keyOf(traversalSourceName, graph, g.V().count().asAdmin().getBytecode()).get();
+        final TraversalResultCache.CachingIterator itty = cache.caching(key, results.iterator());
+        iterate(itty);
+        itty.complete();
+        return key;
+    }
+
+    @Test
+    public void shouldOnlyKeyReadOnlyTraversals() {
+        final TraversalResultCache cache = new TraversalResultCache(1000000, 60000);
+        assertTrue(cache.keyOf("g", graph, g.V().out("knows").values("name").asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().property("name", "marko").asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().where(out().drop()).asAdmin().getBytecode()).isPresent());
+        assertFalse(new TraversalResultCache(0, 60000).keyOf("g", graph, g.V().asAdmin().getBytecode()).isPresent());
+    }
+
+    @Test
+    public void shouldNotKeyTraversalsWithRandomResults() {
+        final TraversalResultCache cache = new TraversalResultCache(1000000, 60000);
+        assertFalse(cache.keyOf("g", graph, g.V().sample(1).asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().coin(0.5).asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().order().by(Order.shuffle).asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().order().by("name", Order.shuffle).asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().local(out().sample(2)).asAdmin().getBytecode()).isPresent());
+        assertFalse(cache.keyOf("g", graph, g.V().local(out().order().by(Order.shuffle)).asAdmin().getBytecode()).isPresent());
+        assertTrue(cache.keyOf("g", graph, g.V().order().by("name", Order.desc).limit(1).asAdmin().getBytecode()).isPresent());
+    }
+
+    @Test
+    public void shouldKeyByTraversalSourceAndNormalizedBytecode() {
+        final TraversalResultCache cache = new TraversalResultCache(1000000, 60000);
+        final Bindings b = Bindings.instance();
+        assertEquals(cache.keyOf("g", graph, g.V(1).has("age", P.gt(30)).asAdmin().getBytecode()),
+                cache.keyOf("g", graph, g.V(b.of("id", 1)).has("age", P.gt(b.of("age", 30))).asAdmin().getBytecode()));
+        assertEquals(cache.keyOf("g", graph, g.V().where(out("knows")).asAdmin().getBytecode()),
+                cache.keyOf("g", graph, g.V().where(out("knows")).asAdmin().getBytecode()));
+        assertFalse(cache.keyOf("g", graph, g.V(1).asAdmin().getBytecode()).equals(
+                cache.keyOf("g", graph, g.V(2).asAdmin().getBytecode())));
+        assertFalse(cache.keyOf("g", graph, g.V(1).asAdmin().getBytecode()).equals(
+                cache.keyOf("gmodern", graph, g.V(1).asAdmin().getBytecode())));
+    }
+
+    @Test
+    public void shouldCacheCompletelyIteratedResults() {
+        final TraversalResultCache cache = new TraversalResultCache(1000000, 60000);
+        final List<Object> results = Arrays.asList(new DefaultRemoteTraverser<>("marko", 1), new DefaultRemoteTraverser<>(29, 2));
+        final TraversalResultCache.Key key = cache(cache, "g", graph, results);
+        assertEquals(results, cache.get(key).get());
+
+        final TraversalResultCache.Key partialKey = cache.keyOf("g", graph, g.V().asAdmin().getBytecode()).get();
+        final TraversalResultCache.CachingIterator itty = cache.caching(partialKey, results.iterator());
+        itty.next();
+        itty.complete();
+        assertFalse(cache.get(partialKey).isPresent());
+    }
+
+    @Test
+    public void shouldNotCacheResultsHeavierThanTheCache() {
+        final TraversalResultCache cache = new TraversalResultCache(100, 60000);
+        final TraversalResultCache.Key key = cache(cache, "g", graph, Collections.nCopies(10, "a longer string"));
+        assertFalse(cache.get(key).isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldInvalidateResultsOfGraph() {
+        final TraversalResultCache cache = new TraversalResultCache(1000000, 60000);
+        final Graph other = TinkerGraph.open();
+        final TraversalResultCache.Key key = cache(cache, "g", graph, Collections.singletonList(1));
+        final TraversalResultCache.Key otherKey = cache(cache, "gother", other, Collections.singletonList(2));
+        assertEquals(2, cache.size());
+
+        cache.invalidate(graph);
+        assertFalse(cache.get(key).isPresent());
+        assertTrue(cache.get(otherKey).isPresent());
+
+        // results that were iterated while the graph was invalidated may be stale
+        final TraversalResultCache.Key staleKey = cache.keyOf("g", graph, g.V().asAdmin().getBytecode()).get();
+        final TraversalResultCache.CachingIterator itty = cache.caching(staleKey, Collections.<Object>singletonList(3).iterator());
+        iterate(itty);
+        cache.invalidate(other);
+        itty.complete();
+        assertFalse(cache.get(staleKey).isPresent());
+    }
+
+    @Test
+    public void shouldWeighResults() {
+        assertTrue(TraversalResultCache.weigh("a longer string") > TraversalResultCache.weigh("a"));
+        assertTrue(TraversalResultCache.weigh(Arrays.asList(1, 2, 3)) > TraversalResultCache.weigh(Collections.singletonList(1)));
+        assertTrue(TraversalResultCache.weigh(new DefaultRemoteTraverser<>("a", 1)) > TraversalResultCache.weigh("a"));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.MetricRegistry;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.util.function.Lambda;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class TraversalShapeMetricsTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Test
+    public void shouldRemoveLiteralsFromShape() {
+        assertEquals("g.V(_).has(_,_).out(_)",
+                TraversalShapeMetrics.shapeOf(g.V(1).has("name", "marko").out("knows").asAdmin().getBytecode()));
+        assertEquals(TraversalShapeMetrics.shapeOf(g.V(1).has("name", "marko").asAdmin().getBytecode()),
+                TraversalShapeMetrics.shapeOf(g.V(2).has("age", 29).asAdmin().getBytecode()));
+    }
+
+    @Test
+    public void shouldRetainStructureInShape() {
+        assertEquals("g.withStrategies(ReadOnlyStrategy).V().has(_,gt(_)).where(__.out(_).count().is(and(gte(_),lt(_))))" +
+                        ".order().by(_,Order.desc).by(T.id).map(lambda)",
+                TraversalShapeMetrics.shapeOf(g.withStrategies(ReadOnlyStrategy.instance()).V().has("age", P.gt(30))
+                        .where(out("knows").count().is(P.gte(1).and(P.lt(3))))
+                        .order().by("name", Order.desc).by(T.id).map(Lambda.function("it.get()")).asAdmin().getBytecode()));
+    }
+
+    @Test
+    public void shouldCreateMetricNamesThatAreSafeForReporters() {
+        assertEquals("g_V(_)_has(_,gt(_))", TraversalShapeMetrics.nameOf("g.V(_).has(_,gt(_))"));
+        final StringBuilder shape = new StringBuilder("g.V()");
+        for (int i = 0; i < 100; i++) {
+            shape.append(".out(_)");
+        }
+        assertEquals(200, TraversalShapeMetrics.nameOf(shape.toString()).length());
+    }
+
+    @Test
+    public void shouldNotShareMetricNamesBetweenShapes() {
+        final MetricRegistry registry = new MetricRegistry();
+        final TraversalShapeMetrics metrics = new TraversalShapeMetrics(registry, "shape", 2);
+        final Bytecode first = new Bytecode();
+        first.addStep("a_b");
+        final Bytecode second = new Bytecode();
+        second.addStep("a b");
+        final TraversalShapeMetrics.Shape firstShape = metrics.getShape(first).get();
+        final TraversalShapeMetrics.Shape secondShape = metrics.getShape(second).get();
+        assertSame(firstShape.latency(), registry.getTimers().get("shape.g_a_b().latency"));
+        assertSame(secondShape.latency(), registry.getTimers().get("shape.g_a_b()_1.latency"));
+        assertThat(registry.getNames().size(), is(8));
+
+        // the shape that is evicted only takes its own metrics with it
+        metrics.getShape(g.V().asAdmin().getBytecode());
+        assertThat(metrics.size(), is(2L));
+        assertThat(registry.getNames().size(), is(8));
+        for (final Bytecode bytecode : Arrays.asList(first, second)) {
+            final TraversalShapeMetrics.Shape shape = metrics.getShape(bytecode).get();
+            assertThat(registry.getTimers().containsValue(shape.latency()), is(true));
+        }
+        assertThat(registry.getNames().size(), is(8));
+    }
+
+    @Test
+    public void shouldBoundNumberOfShapes() {
+        final MetricRegistry registry = new MetricRegistry();
+        final TraversalShapeMetrics metrics = new TraversalShapeMetrics(registry, "shape", 2);
+        final TraversalShapeMetrics.Shape shape = metrics.getShape(g.V(1).asAdmin().getBytecode()).get();
+        shape.latency().update(1, TimeUnit.MILLISECONDS);
+        assertSame(shape, metrics.getShape(g.V(2).asAdmin().getBytecode()).get());
+        assertThat(registry.getTimers().get("shape.g_V(_).latency").getCount(), is(1L));
+        assertThat(registry.getNames().size(), is(4));
+
+        for (int i = 0; i < 10; i++) {
+            GraphTraversal<?, ?> traversal = g.V();
+            for (int j = 0; j <= i; j++) {
+                traversal = traversal.out();
+            }
+            metrics.getShape(traversal.asAdmin().getBytecode());
+        }
+        assertThat(metrics.size(), is(2L));
+        assertThat(registry.getNames().size(), is(8));
+    }
+
+    @Test
+    public void shouldCountTraversersOfStepsWhenProfilingCountsAll() {
+        final MetricRegistry registry = new MetricRegistry();
+        final TraversalShapeMetrics metrics = new TraversalShapeMetrics(registry, "shape", 2);
+        final GraphTraversalSource modern = TinkerFactory.createModern().traversal();
+        for (final Object id : Arrays.asList(1, 4)) {
+            final Traversal.Admin<?, ?> traversal = modern.V(id).out().asAdmin();
+            final TraversalShapeMetrics.Shape shape = metrics.getShape(traversal.getBytecode()).get();
+            traversal.setStrategies(traversal.getStrategies().clone().addStrategies(
+                    ProfileStrategy.build().sample(0.0d).countAll(true).create()));
+            traversal.iterate();
+            shape.count(ProfileStrategy.getMetrics(traversal).get());
+        }
+
+        final String prefix = "shape.g_V(_)_out().steps.";
+        assertThat(registry.getCounters().get(prefix + "0_TinkerGraphStep.traversers").getCount(), is(2L));
+        assertThat(registry.getCounters().get(prefix + "1_VertexStep.traversers").getCount(), is(5L));
+        assertThat(registry.getCounters().get(prefix + "1_VertexStep.elements").getCount(), is(5L));
+    }
+
+    @Test
+    public void shouldDisableShapeMetrics() {
+        final MetricRegistry registry = new MetricRegistry();
+        final TraversalShapeMetrics metrics = new TraversalShapeMetrics(registry, "shape", 0);
+        assertFalse(metrics.getShape(g.V(1).asAdmin().getBytecode()).isPresent());
+        assertThat(registry.getNames().size(), is(0));
+    }
+}
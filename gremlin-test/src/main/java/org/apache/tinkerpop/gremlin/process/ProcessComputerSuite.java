@@ -49,6 +49,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SimplePathTest
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxCountDistinctTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxGroupCountTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountTest;
@@ -142,6 +144,8 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             // map
             CoalesceTest.Traversals.class,
             ConstantTest.Traversals.class,
+            ApproxCountDistinctTest.Traversals.class,
+            ApproxGroupCountTest.Traversals.class,
             CountTest.Traversals.class,
             FlatMapTest.Traversals.class,
             FoldTest.Traversals.class,
@@ -235,6 +239,8 @@ public class ProcessComputerSuite extends AbstractGremlinSuite {
             // map
             CoalesceTest.class,
             ConstantTest.class,
+            ApproxCountDistinctTest.class,
+            ApproxGroupCountTest.class,
             CountTest.class,
             FlatMapTest.class,
             FoldTest.class,
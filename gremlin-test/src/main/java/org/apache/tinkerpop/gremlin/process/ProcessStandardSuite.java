@@ -44,6 +44,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SimplePathTest
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxCountDistinctTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ApproxGroupCountTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CoalesceTest;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ConstantTest;
@@ -135,6 +137,8 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             AddVertexTest.Traversals.class,
             CoalesceTest.Traversals.class,
             ConstantTest.Traversals.class,
+            ApproxCountDistinctTest.Traversals.class,
+            ApproxGroupCountTest.Traversals.class,
             CountTest.Traversals.class,
             FlatMapTest.Traversals.class,
             FoldTest.Traversals.class,
@@ -223,6 +227,8 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             AddVertexTest.class,
             CoalesceTest.class,
             ConstantTest.class,
+            ApproxCountDistinctTest.class,
+            ApproxGroupCountTest.class,
             CountTest.class,
             FlatMapTest.class,
             FoldTest.class,
@@ -35,6 +35,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyPath;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
@@ -1728,6 +1729,78 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
 
     /////////////////////////////////////////////
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldOnlyExecuteHaltedVerticesThatReceiveMessages() throws Exception {
+        final GraphComputer computer = graphProvider.getGraphComputer(graph);
+        final ComputerResult result = computer.program(new VoteToHaltVertexProgram()).submit().get();
+        final GraphTraversalSource g = result.graph().traversal();
+        assertEquals(0L, g.V().has("name", "marko").values(VoteToHaltVertexProgram.MESSAGES_KEY).next());
+        assertEquals(0L, g.V().has("name", "peter").values(VoteToHaltVertexProgram.MESSAGES_KEY).next());
+        assertEquals(1L, g.V().has("name", "vadas").values(VoteToHaltVertexProgram.MESSAGES_KEY).next());
+        assertEquals(1L, g.V().has("name", "josh").values(VoteToHaltVertexProgram.MESSAGES_KEY).next());
+        assertEquals(1L, g.V().has("name", "ripple").values(VoteToHaltVertexProgram.MESSAGES_KEY).next());
+        assertEquals(2L, g.V().has("name", "lop").values(VoteToHaltVertexProgram.MESSAGES_KEY).next());
+        // all vertices in the first iteration, then the vertices adjacent to marko and finally the vertices adjacent to josh
+        assertEquals(computer.features().supportsVoteToHalt() ? 11L : 18L, (long) result.memory().<Long>get(VoteToHaltVertexProgram.EXECUTIONS_KEY));
+    }
+
+    public static class VoteToHaltVertexProgram extends StaticVertexProgram<Long> {
+
+        private static final String MESSAGES_KEY = "messages";
+        private static final String EXECUTIONS_KEY = "executions";
+
+        private final MessageScope.Local<Long> messageScope = MessageScope.Local.of(__::outE);
+
+        @Override
+        public void setup(final Memory memory) {
+            memory.set(EXECUTIONS_KEY, 0L);
+        }
+
+        @Override
+        public void execute(final Vertex vertex, final Messenger<Long> messenger, final Memory memory) {
+            memory.add(EXECUTIONS_KEY, 1L);
+            final long messages = IteratorUtils.reduce(messenger.receiveMessages(), 0L, (a, b) -> a + b);
+            vertex.property(VertexProperty.Cardinality.single, MESSAGES_KEY, vertex.<Long>property(MESSAGES_KEY).orElse(0L) + messages);
+            if ((memory.isInitialIteration() && vertex.value("name").equals("marko")) ||
+                    (memory.getIteration() == 1 && vertex.value("name").equals("josh")))
+                messenger.sendMessage(this.messageScope, 1L);
+            messenger.voteToHalt();
+        }
+
+        @Override
+        public boolean terminate(final Memory memory) {
+            return memory.getIteration() == 2;
+        }
+
+        @Override
+        public Set<VertexComputeKey> getVertexComputeKeys() {
+            return Collections.singleton(VertexComputeKey.of(MESSAGES_KEY, false));
+        }
+
+        @Override
+        public Set<MemoryComputeKey> getMemoryComputeKeys() {
+            return Collections.singleton(MemoryComputeKey.of(EXECUTIONS_KEY, Operator.sum, false, false));
+        }
+
+        @Override
+        public Set<MessageScope> getMessageScopes(final Memory memory) {
+            return Collections.singleton(this.messageScope);
+        }
+
+        @Override
+        public GraphComputer.ResultGraph getPreferredResultGraph() {
+            return GraphComputer.ResultGraph.NEW;
+        }
+
+        @Override
+        public GraphComputer.Persist getPreferredPersist() {
+            return GraphComputer.Persist.VERTEX_PROPERTIES;
+        }
+    }
+
+    /////////////////////////////////////////////
+
     @Test
     @LoadGraphWith(MODERN)
     public void shouldSupportGraphFilter() throws Exception {
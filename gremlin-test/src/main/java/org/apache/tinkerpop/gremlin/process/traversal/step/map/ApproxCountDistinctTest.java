@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(GremlinProcessRunner.class)
+public abstract class ApproxCountDistinctTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Long> get_g_V_both_approxCountDistinct();
+
+    public abstract Traversal<Vertex, Long> get_g_V_approxCountDistinct_byXlabelX();
+
+    public abstract Traversal<Vertex, Long> get_g_V_hasXnoX_approxCountDistinct();
+
+    public abstract Traversal<Vertex, Long> get_g_V_both_both_approxCountDistinct_byXidX();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_both_approxCountDistinct() {
+        final Traversal<Vertex, Long> traversal = get_g_V_both_approxCountDistinct();
+        printTraversalForm(traversal);
+        assertEquals(new Long(6), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_approxCountDistinct_byXlabelX() {
+        final Traversal<Vertex, Long> traversal = get_g_V_approxCountDistinct_byXlabelX();
+        printTraversalForm(traversal);
+        assertEquals(new Long(2), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_hasXnoX_approxCountDistinct() {
+        final Traversal<Vertex, Long> traversal = get_g_V_hasXnoX_approxCountDistinct();
+        printTraversalForm(traversal);
+        assertEquals(new Long(0), traversal.next());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void g_V_both_both_approxCountDistinct_byXidX() {
+        final Traversal<Vertex, Long> traversal = get_g_V_both_both_approxCountDistinct_byXidX();
+        printTraversalForm(traversal);
+        final long estimate = traversal.next();
+        final long actual = g.V().both().both().dedup().count().next();
+        // the standard error of the sketch is below one percent
+        assertEquals(actual, estimate, actual * 0.03d);
+        assertFalse(traversal.hasNext());
+    }
+
+    public static class Traversals extends ApproxCountDistinctTest {
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_both_approxCountDistinct() {
+            return g.V().both().approxCountDistinct();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_approxCountDistinct_byXlabelX() {
+            return g.V().approxCountDistinct().by(T.label);
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_hasXnoX_approxCountDistinct() {
+            return g.V().has("no").approxCountDistinct();
+        }
+
+        @Override
+        public Traversal<Vertex, Long> get_g_V_both_both_approxCountDistinct_byXidX() {
+            return g.V().both().both().approxCountDistinct().by(T.id);
+        }
+    }
+}
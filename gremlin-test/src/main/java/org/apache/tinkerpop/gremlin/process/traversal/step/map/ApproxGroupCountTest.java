@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.GremlinProcessRunner;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.GRATEFUL;
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(GremlinProcessRunner.class)
+public abstract class ApproxGroupCountTest extends AbstractGremlinProcessTest {
+
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_V_outXcreatedX_approxGroupCountX1X_byXnameX();
+
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_V_outE_approxGroupCountX2X_byXlabelX();
+
+    public abstract Traversal<Vertex, Map<String, Long>> get_g_V_both_approxGroupCountX10X_byXnameX();
+
+    public abstract Traversal<Vertex, Map<Object, Long>> get_g_V_outXfollowedByX_approxGroupCountX5X_byXidX();
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_outXcreatedX_approxGroupCountX1X_byXnameX() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_V_outXcreatedX_approxGroupCountX1X_byXnameX();
+        printTraversalForm(traversal);
+        final Map<String, Long> map = traversal.next();
+        assertEquals(1, map.size());
+        assertEquals(3L, map.get("lop").longValue());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_outE_approxGroupCountX2X_byXlabelX() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_V_outE_approxGroupCountX2X_byXlabelX();
+        printTraversalForm(traversal);
+        final Map<String, Long> map = traversal.next();
+        assertEquals(Arrays.asList("created", "knows"), new ArrayList<>(map.keySet()));
+        assertEquals(4L, map.get("created").longValue());
+        assertEquals(2L, map.get("knows").longValue());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_both_approxGroupCountX10X_byXnameX() {
+        final Traversal<Vertex, Map<String, Long>> traversal = get_g_V_both_approxGroupCountX10X_byXnameX();
+        printTraversalForm(traversal);
+        final Map<String, Long> map = traversal.next();
+        assertEquals(6, map.size());
+        assertEquals(3L, map.get("marko").longValue());
+        assertEquals(3L, map.get("lop").longValue());
+        assertEquals(3L, map.get("josh").longValue());
+        assertEquals(1L, map.get("vadas").longValue());
+        assertEquals(1L, map.get("ripple").longValue());
+        assertEquals(1L, map.get("peter").longValue());
+        assertFalse(traversal.hasNext());
+    }
+
+    @Test
+    @LoadGraphWith(GRATEFUL)
+    public void g_V_outXfollowedByX_approxGroupCountX5X_byXidX() {
+        final Traversal<Vertex, Map<Object, Long>> traversal = get_g_V_outXfollowedByX_approxGroupCountX5X_byXidX();
+        printTraversalForm(traversal);
+        final Map<Object, Long> map = traversal.next();
+        assertEquals(5, map.size());
+        final Map<Object, Long> counts = g.V().out("followedBy").id().<Object>groupCount().next();
+        final List<Long> sorted = new ArrayList<>(counts.values());
+        sorted.sort((a, b) -> Long.compare(b, a));
+        // the sketch is wide enough that the estimates of the most frequent vertices are exact
+        long previous = Long.MAX_VALUE;
+        int i = 0;
+        for (final Map.Entry<Object, Long> entry : map.entrySet()) {
+            assertEquals(counts.get(entry.getKey()), entry.getValue());
+            assertEquals(sorted.get(i++), entry.getValue());
+            assertTrue(entry.getValue() <= previous);
+            previous = entry.getValue();
+        }
+        assertFalse(traversal.hasNext());
+    }
+
+    public static class Traversals extends ApproxGroupCountTest {
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_V_outXcreatedX_approxGroupCountX1X_byXnameX() {
+            return g.V().out("created").<String>approxGroupCount(1).by("name");
+        }
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_V_outE_approxGroupCountX2X_byXlabelX() {
+            return g.V().outE().<String>approxGroupCount(2).by(T.label);
+        }
+
+        @Override
+        public Traversal<Vertex, Map<String, Long>> get_g_V_both_approxGroupCountX10X_byXnameX() {
+            return g.V().both().<String>approxGroupCount(10).by("name");
+        }
+
+        @Override
+        public Traversal<Vertex, Map<Object, Long>> get_g_V_outXfollowedByX_approxGroupCountX5X_byXidX() {
+            return g.V().out("followedBy").approxGroupCount(5).by(T.id);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process;
 
 import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -98,4 +99,29 @@ public class GraphTraversalBenchmark extends AbstractGraphBenchmark {
     public List<Edge> g_E_hasLabelXwrittenByX_whereXinV_inEXsungByX_count_isX0XX_subgraphXsgX() throws Exception {
         return g.E().hasLabel("writtenBy").where(__.inV().inE("sungBy").count().is(0)).subgraph("sg").toList();
     }
+
+    @Benchmark
+    public List<Double> g_V_hasXperformancesX_mathX_plus_1_div_2X_byXperformancesX() throws Exception {
+        return g.V().has("performances").math("(_ + 1) / 2").by("performances").toList();
+    }
+
+    @Benchmark
+    public List<Double> g_E_hasLabelXfollowedByX_asXaX_outV_mathXa_mul_sqrt_bX_byXweightX_byXperformancesX() throws Exception {
+        return g.E().hasLabel("followedBy").as("a").outV().as("b").math("a * sqrt b").by("weight").by("performances").toList();
+    }
+
+    @Benchmark
+    public List<Number> g_E_valuesXweightX_asLong_sum() throws Exception {
+        return g.E().values("weight").map(t -> ((Number) t.get()).longValue()).sum().toList();
+    }
+
+    @Benchmark
+    public List<Number> g_V_valuesXperformancesX_asDouble_mean() throws Exception {
+        return g.V().values("performances").map(t -> ((Number) t.get()).doubleValue()).mean().toList();
+    }
+
+    @Benchmark
+    public List<Number> g_withSackX0DX_E_hasLabelXfollowedByX_sackXsumX_byXvaluesXweightX_mathX_div_2XX_sack() throws Exception {
+        return g.withSack(0D).E().hasLabel("followedBy").sack(Operator.sum).by(__.values("weight").math("_ / 2")).<Number>sack().toList();
+    }
 }
@@ -35,6 +35,7 @@ import org.openjdk.jmh.annotations.State;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inE;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
 
 /**
@@ -67,6 +68,22 @@ public class JavaTranslatorBenchmark extends AbstractBenchmarkBase {
                 <String>select("d").by("name").asAdmin().getBytecode());
     }
 
+    @Benchmark
+    public GraphTraversal.Admin<Vertex,Vertex> testTranslationVeryLong() {
+        return translator.translate(g.V().hasLabel("person").has("age", P.gt(30)).
+                out("knows", "created").in("created").dedup().
+                repeat(out().simplePath()).times(3).emit().
+                has("name", P.within("marko", "josh", "peter")).
+                as("a").outE("created").has("weight", P.gte(0.4d)).inV().as("b").
+                where("a", P.neq("b")).
+                select("a", "b").by("name").by(values("lang")).
+                local(out().limit(2)).
+                order().by("name").by("age").
+                range(0, 10).
+                project("x", "y").by(values("name")).by(inE().count()).
+                asAdmin().getBytecode());
+    }
+
     @Benchmark
     public GraphTraversal.Admin<Vertex,Vertex> testTranslationWithStrategy() {
         return translator.translate(g.withStrategies(ReadOnlyStrategy.instance())
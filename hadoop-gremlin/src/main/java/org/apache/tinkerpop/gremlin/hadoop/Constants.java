@@ -37,6 +37,8 @@ public final class Constants {
     public static final String GREMLIN_HADOOP_GRAPH_WRITER = "gremlin.hadoop.graphWriter";
     public static final String GREMLIN_HADOOP_GRAPH_READER_HAS_EDGES = "gremlin.hadoop.graphReader.hasEdges";
     public static final String GREMLIN_HADOOP_GRAPH_WRITER_HAS_EDGES = "gremlin.hadoop.graphWriter.hasEdges";
+    public static final String GREMLIN_HADOOP_GRAPH_WRITER_VERTEX_INDEX = "gremlin.hadoop.graphWriter.vertexIndex";
+    public static final String GREMLIN_HADOOP_GRAPH_WRITER_BLOCK_SIZE = "gremlin.hadoop.graphWriter.blockSize";
     public static final String GREMLIN_HADOOP_GRAPH_FILTER = "gremlin.hadoop.graphFilter";
     public static final String GREMLIN_HADOOP_DEFAULT_GRAPH_COMPUTER = "gremlin.hadoop.defaultGraphComputer";
     public static final String GREMLIN_HADOOP_VERTEX_PROGRAM_INTERCEPTOR = "gremlin.hadoop.vertexProgramInterceptor";
@@ -57,9 +59,12 @@ public final class Constants {
     // spark based constants
     public static final String GREMLIN_SPARK_PERSIST_CONTEXT = "gremlin.spark.persistContext";
     public static final String GREMLIN_SPARK_GRAPH_STORAGE_LEVEL = "gremlin.spark.graphStorageLevel";
+    public static final String GREMLIN_SPARK_VIEW_STORAGE_LEVEL = "gremlin.spark.viewStorageLevel"; // the storage level of the partition-local vertex program views
     public static final String GREMLIN_SPARK_PERSIST_STORAGE_LEVEL = "gremlin.spark.persistStorageLevel";
     public static final String GREMLIN_SPARK_SKIP_PARTITIONER = "gremlin.spark.skipPartitioner"; // don't partition the loadedGraphRDD
     public static final String GREMLIN_SPARK_SKIP_GRAPH_CACHE = "gremlin.spark.skipGraphCache";  // don't cache the loadedGraphRDD (ignores graphStorageLevel)
+    public static final String GREMLIN_SPARK_GRAPH_PARTITIONER = "gremlin.spark.graphPartitioner"; // the GraphPartitioner used to partition the loadedGraphRDD
+    public static final String GREMLIN_SPARK_GRAPH_PARTITIONER_MAX_ASSIGNED_VERTICES = "gremlin.spark.graphPartitioner.maxAssignedVertices";
     public static final String SPARK_SERIALIZER = "spark.serializer";
     public static final String SPARK_KRYO_REGISTRATOR = "spark.kryo.registrator";
     public static final String SPARK_KRYO_REGISTRATION_REQUIRED = "spark.kryo.registrationRequired";
@@ -44,6 +44,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -87,6 +88,12 @@ public abstract class AbstractHadoopGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer vertexProperties(final String... propertyKeys) {
+        this.graphFilter.setVertexPropertyKeys(new HashSet<>(Arrays.asList(propertyKeys)));
+        return this;
+    }
+
     @Override
     public GraphComputer result(final ResultGraph resultGraph) {
         this.resultGraph = resultGraph;
@@ -246,7 +246,7 @@ public final class HadoopGraph implements Graph {
                     final Class<?> firstClass = vertexIds[0].getClass();
                     if (!Stream.of(vertexIds).map(Object::getClass).allMatch(firstClass::equals))
                         throw Graph.Exceptions.idArgsMustBeEitherIdOrElement();     // todo: change exception to be ids of the same type
-                    return IteratorUtils.filter(new HadoopVertexIterator(this), vertex -> ElementHelper.idExists(vertex.id(), vertexIds));
+                    return IteratorUtils.filter(new HadoopVertexIterator(this, vertexIds), vertex -> ElementHelper.idExists(vertex.id(), vertexIds));
                 }
             }
         } catch (final IOException e) {
@@ -274,7 +274,7 @@ public final class HadoopGraph implements Graph {
                     final Class<?> firstClass = edgeIds[0].getClass();
                     if (!Stream.of(edgeIds).map(Object::getClass).allMatch(firstClass::equals))
                         throw Graph.Exceptions.idArgsMustBeEitherIdOrElement();     // todo: change exception to be ids of the same type
-                    return IteratorUtils.filter(new HadoopEdgeIterator(this), vertex -> ElementHelper.idExists(vertex.id(), edgeIds));
+                    return IteratorUtils.filter(new HadoopEdgeIterator(this, edgeIds), vertex -> ElementHelper.idExists(vertex.id(), edgeIds));
                 }
             }
         } catch (final IOException e) {
@@ -39,6 +39,14 @@ public final class HadoopEdgeIterator extends HadoopElementIterator<Edge> {
         super(graph);
     }
 
+    /**
+     * Iterates the edges which may have the provided ids, using a {@link org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoVertexIndex}
+     * when one is available. The ids must still be filtered by the caller.
+     */
+    public HadoopEdgeIterator(final HadoopGraph graph, final Object... ids) {
+        super(graph, true, ids);
+    }
+
     @Override
     public Edge next() {
         try {
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.hadoop.structure.io;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.InputSplit;
@@ -26,10 +27,13 @@ import org.apache.hadoop.mapreduce.JobID;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptID;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
 import org.apache.hadoop.mapreduce.task.JobContextImpl;
 import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
 import org.apache.tinkerpop.gremlin.hadoop.Constants;
 import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoInputFormat;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoVertexIndex;
 import org.apache.tinkerpop.gremlin.hadoop.structure.util.ConfUtil;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.io.Storage;
@@ -38,6 +42,7 @@ import java.io.IOException;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.UUID;
 
@@ -50,6 +55,15 @@ public abstract class HadoopElementIterator<E extends Element> implements Iterat
     protected final Queue<RecordReader<NullWritable, VertexWritable>> readers = new LinkedList<>();
 
     public HadoopElementIterator(final HadoopGraph graph) {
+        this(graph, false);
+    }
+
+    /**
+     * Creates the readers for the graph. If ids are provided and the graph is stored as Gryo with a
+     * {@link GryoVertexIndex}, only the vertices holding those ids (vertex ids or, if {@code edges} is {@code true},
+     * out-edge ids) are read. Otherwise, the readers cover the entire graph and it is up to the caller to filter.
+     */
+    protected HadoopElementIterator(final HadoopGraph graph, final boolean edges, final Object... ids) {
         try {
             this.graph = graph;
             final Configuration configuration = ConfUtil.makeHadoopConfiguration(this.graph.configuration());
@@ -61,6 +75,16 @@ public abstract class HadoopElementIterator<E extends Element> implements Iterat
                 if (!Constants.getSearchGraphLocation(this.graph.configuration().getInputLocation(), storage).isPresent())
                     return; // there is no data at the input location (empty graph)
                 configuration.set(Constants.MAPREDUCE_INPUT_FILEINPUTFORMAT_INPUTDIR, Constants.getSearchGraphLocation(this.graph.configuration().getInputLocation(), storage).get());
+                if (ids.length > 0 && inputFormat instanceof GryoInputFormat) {
+                    final Optional<List<FileSplit>> indexedSplits = GryoVertexIndex.lookup(configuration,
+                            new Path(configuration.get(Constants.MAPREDUCE_INPUT_FILEINPUTFORMAT_INPUTDIR)), edges, ids);
+                    if (indexedSplits.isPresent()) {
+                        for (final FileSplit split : indexedSplits.get()) {
+                            this.readers.add(inputFormat.createRecordReader(split, new TaskAttemptContextImpl(configuration, new TaskAttemptID())));
+                        }
+                        return;
+                    }
+                }
             }
             final List<InputSplit> splits = inputFormat.getSplits(new JobContextImpl(configuration, new JobID(UUID.randomUUID().toString(), 1)));
             for (final InputSplit split : splits) {
@@ -36,6 +36,14 @@ public final class HadoopVertexIterator extends HadoopElementIterator<Vertex> {
         super(graph);
     }
 
+    /**
+     * Iterates the vertices which may have the provided ids, using a {@link org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoVertexIndex}
+     * when one is available. The ids must still be filtered by the caller.
+     */
+    public HadoopVertexIterator(final HadoopGraph graph, final Object... ids) {
+        super(graph, false, ids);
+    }
+
     @Override
     public Vertex next() {
         try {
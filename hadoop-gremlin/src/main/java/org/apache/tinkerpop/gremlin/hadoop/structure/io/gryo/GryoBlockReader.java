@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.io.IOUtils;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.Decompressor;
+import org.apache.hadoop.util.ReflectionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads the vertices of a split of a file written by {@link GryoBlockWriter}. A split owns every block whose sync
+ * marker starts within the split, so a reader seeks to the start of its split, scans forward to the first sync marker
+ * and then reads whole blocks until it passes the end of the split.
+ */
+public final class GryoBlockReader implements Closeable {
+
+    private final FSDataInputStream inputStream;
+    private final CompressionCodec codec;
+    private final Decompressor decompressor;
+    private final byte[] sync = new byte[GryoBlockWriter.SYNC_LENGTH];
+    private final long start;
+    private final long end;
+
+    private long position;
+    private DataInputStream block = null;
+    private byte[] uncompressed = new byte[0];
+    private byte[] compressed = new byte[0];
+
+    public GryoBlockReader(final FSDataInputStream inputStream, final Configuration configuration, final long start, final long length) throws IOException {
+        this.inputStream = inputStream;
+        this.inputStream.seek(GryoBlockWriter.MAGIC.length);
+        final String codecClass = this.inputStream.readUTF();
+        this.codec = codecOf(configuration, codecClass);
+        this.decompressor = CodecPool.getDecompressor(this.codec);
+        this.inputStream.readFully(this.sync);
+
+        final long headerEnd = this.inputStream.getPos();
+        this.start = start;
+        this.end = start + length;
+        this.position = start <= headerEnd ? headerEnd : this.seekToSync(start);
+    }
+
+    private static CompressionCodec codecOf(final Configuration configuration, final String codecClass) {
+        final CompressionCodec codec = new CompressionCodecFactory(configuration).getCodecByClassName(codecClass);
+        if (null != codec)
+            return codec;
+        // the factory only knows the codecs of io.compression.codecs and only by their canonical names
+        try {
+            return (CompressionCodec) ReflectionUtils.newInstance(configuration.getClassByName(codecClass), configuration);
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("The compression codec of the block compressed Gryo file is not available: " + codecClass, e);
+        }
+    }
+
+    /**
+     * Determines if the stream is a block compressed Gryo file by checking for the {@link GryoBlockWriter#MAGIC}.
+     */
+    public static boolean isBlockCompressed(final FSDataInputStream inputStream) throws IOException {
+        final byte[] magic = new byte[GryoBlockWriter.MAGIC.length];
+        int read = 0;
+        while (read < magic.length) {
+            final int count = inputStream.read(read, magic, read, magic.length - read);
+            if (count < 0)
+                return false;
+            read = read + count;
+        }
+        return Arrays.equals(GryoBlockWriter.MAGIC, magic);
+    }
+
+    private long seekToSync(final long from) throws IOException {
+        this.inputStream.seek(from);
+        final byte[] window = new byte[this.sync.length];
+        long nextStart = from;
+        int filled = 0;
+        while (true) {
+            final int currentByte = this.inputStream.read();
+            if (-1 == currentByte)
+                return Long.MAX_VALUE;
+            if (filled < window.length)
+                window[filled++] = (byte) currentByte;
+            else {
+                System.arraycopy(window, 1, window, 0, window.length - 1);
+                window[window.length - 1] = (byte) currentByte;
+                nextStart++;
+            }
+            if (filled == window.length && Arrays.equals(window, this.sync)) {
+                this.inputStream.seek(nextStart);
+                return nextStart;
+            }
+        }
+    }
+
+    private boolean nextBlock() throws IOException {
+        if (this.position >= this.end)
+            return false;
+        this.inputStream.seek(this.position);
+        final byte[] marker = new byte[this.sync.length];
+        try {
+            this.inputStream.readFully(marker);
+        } catch (final EOFException e) {
+            this.position = Long.MAX_VALUE;
+            return false;
+        }
+        if (!Arrays.equals(marker, this.sync))
+            throw new IllegalStateException("Block compressed Gryo file is corrupt, expected a sync marker at " + this.position);
+        final int uncompressedLength = this.inputStream.readInt();
+        final int compressedLength = this.inputStream.readInt();
+        if (this.compressed.length < compressedLength)
+            this.compressed = new byte[compressedLength];
+        if (this.uncompressed.length < uncompressedLength)
+            this.uncompressed = new byte[uncompressedLength];
+        this.inputStream.readFully(this.compressed, 0, compressedLength);
+        this.position = this.inputStream.getPos();
+
+        if (null != this.decompressor)
+            this.decompressor.reset();
+        try (final InputStream decompressed = this.codec.createInputStream(new ByteArrayInputStream(this.compressed, 0, compressedLength), this.decompressor)) {
+            IOUtils.readFully(decompressed, this.uncompressed, 0, uncompressedLength);
+        }
+        this.block = new DataInputStream(new ByteArrayInputStream(this.uncompressed, 0, uncompressedLength));
+        return true;
+    }
+
+    /**
+     * Gets the serialized bytes of the next vertex of the split.
+     *
+     * @return the vertex bytes or {@code null} if there are no more vertices in the split
+     */
+    public InputStream nextVertex() throws IOException {
+        while (null == this.block || 0 == this.block.available()) {
+            if (!this.nextBlock())
+                return null;
+        }
+        final int length = this.block.readInt();
+        final byte[] vertexBytes = new byte[length];
+        this.block.readFully(vertexBytes);
+        return new ByteArrayInputStream(vertexBytes);
+    }
+
+    /**
+     * Gets the number of bytes of the split that have been consumed.
+     */
+    public long getBytesRead() {
+        return Math.min(this.position, this.end) - Math.min(this.start, this.end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        CodecPool.returnDecompressor(this.decompressor);
+        this.inputStream.close();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo;
+
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.io.compress.Compressor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Writes Gryo vertices into a splittable, block-compressed container. The file starts with {@link #MAGIC}, the class
+ * name of the {@link CompressionCodec} and a random sync marker. Every block that follows starts with the sync marker,
+ * the uncompressed and compressed lengths of the block and the compressed bytes. A block only ever holds whole
+ * vertices (each prefixed by its length) so that a reader that finds a sync marker can always decode the vertices of
+ * the block that follows it.
+ */
+public final class GryoBlockWriter implements Closeable {
+
+    public static final byte[] MAGIC = {'G', 'R', 'Y', 'O', 'B', 'L', 'K', 1};
+    public static final int SYNC_LENGTH = 16;
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    private final DataOutputStream outputStream;
+    private final CompressionCodec codec;
+    private final Compressor compressor;
+    private final byte[] sync;
+    private final int blockSize;
+
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+    private final DataOutputStream blockOutput = new DataOutputStream(this.block);
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    private long position;
+
+    public GryoBlockWriter(final DataOutputStream outputStream, final CompressionCodec codec, final int blockSize) throws IOException {
+        this.outputStream = outputStream;
+        this.codec = codec;
+        this.compressor = CodecPool.getCompressor(codec);
+        this.blockSize = blockSize;
+        final UUID uuid = UUID.randomUUID();
+        this.sync = ByteBuffer.allocate(SYNC_LENGTH).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+
+        this.outputStream.write(MAGIC);
+        this.outputStream.writeUTF(codec.getClass().getName());
+        this.outputStream.write(this.sync);
+        this.position = MAGIC.length + 2 + codec.getClass().getName().length() + SYNC_LENGTH;
+    }
+
+    /**
+     * Adds the serialized vertex to the current block and writes the block if it has reached the block size.
+     *
+     * @return the file offset of the block that holds the vertex
+     */
+    public long write(final ByteArrayOutputStream vertexBytes) throws IOException {
+        final long blockPosition = this.position;
+        this.blockOutput.writeInt(vertexBytes.size());
+        vertexBytes.writeTo(this.blockOutput);
+        if (this.block.size() >= this.blockSize)
+            this.writeBlock();
+        return blockPosition;
+    }
+
+    private void writeBlock() throws IOException {
+        if (0 == this.block.size())
+            return;
+        this.compressed.reset();
+        // the pool has no compressor for codecs that do not use one
+        final CompressionOutputStream compressionStream;
+        if (null != this.compressor) {
+            this.compressor.reset();
+            compressionStream = this.codec.createOutputStream(this.compressed, this.compressor);
+        } else
+            compressionStream = this.codec.createOutputStream(this.compressed);
+        this.block.writeTo(compressionStream);
+        compressionStream.finish();
+
+        this.outputStream.write(this.sync);
+        this.outputStream.writeInt(this.block.size());
+        this.outputStream.writeInt(this.compressed.size());
+        this.compressed.writeTo(this.outputStream);
+        this.position = this.position + SYNC_LENGTH + 8 + this.compressed.size();
+        this.block.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.writeBlock();
+            this.outputStream.close();
+        } finally {
+            if (null != this.compressor)
+                CodecPool.returnCompressor(this.compressor);
+        }
+    }
+}
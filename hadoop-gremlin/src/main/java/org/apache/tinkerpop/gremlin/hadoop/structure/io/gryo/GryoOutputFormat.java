@@ -18,13 +18,20 @@
  */
 package org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.compress.DefaultCodec;
 import org.apache.hadoop.mapreduce.RecordWriter;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.CommonFileOutputFormat;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.HadoopPoolsConfigurable;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
 
 /**
@@ -34,7 +41,18 @@ public final class GryoOutputFormat extends CommonFileOutputFormat implements Ha
 
     @Override
     public RecordWriter<NullWritable, VertexWritable> getRecordWriter(final TaskAttemptContext job) throws IOException, InterruptedException {
-        return new GryoRecordWriter(getDataOutputStream(job), job.getConfiguration());
+        final Configuration configuration = job.getConfiguration();
+        final boolean vertexIndex = configuration.getBoolean(Constants.GREMLIN_HADOOP_GRAPH_WRITER_VERTEX_INDEX, false);
+        // compressed output is written as splittable blocks rather than by compressing the whole stream
+        if (vertexIndex || getCompressOutput(job)) {
+            final Path file = super.getDefaultWorkFile(job, "");
+            final FileSystem fs = file.getFileSystem(configuration);
+            return new GryoRecordWriter(new DataOutputStream(fs.create(file, false)),
+                    vertexIndex ? new DataOutputStream(fs.create(GryoVertexIndex.getIndexPath(file), false)) : null,
+                    getCompressOutput(job) ? ReflectionUtils.newInstance(getOutputCompressorClass(job, DefaultCodec.class), configuration) : null,
+                    configuration);
+        }
+        return new GryoRecordWriter(getDataOutputStream(job), configuration);
     }
 
 }
\ No newline at end of file
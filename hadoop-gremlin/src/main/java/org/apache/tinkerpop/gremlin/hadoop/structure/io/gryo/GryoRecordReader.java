@@ -56,6 +56,7 @@ public final class GryoRecordReader extends RecordReader<NullWritable, VertexWri
     private static final byte[] TERMINATOR = VertexTerminator.instance().terminal;
 
     private GryoReader gryoReader;
+    private GryoBlockReader blockReader = null;
     private final VertexWritable vertexWritable = new VertexWritable();
 
     private long currentLength = 0;
@@ -77,12 +78,14 @@ public final class GryoRecordReader extends RecordReader<NullWritable, VertexWri
         long start = split.getStart();
         final Path file = split.getPath();
         if (null != new CompressionCodecFactory(configuration).getCodec(file)) {
-            throw new IllegalStateException("Compression is not supported for the (binary) Gryo format");
+            throw new IllegalStateException("Stream compression is not supported for the (binary) Gryo format - use the block compression of GryoOutputFormat instead");
         }
         // open the file and seek to the start of the split
         this.inputStream = file.getFileSystem(configuration).open(split.getPath());
         this.splitLength = split.getLength();
-        if (this.splitLength > 0) this.splitLength -= (seekToHeader(this.inputStream, start) - start);
+        if (GryoBlockReader.isBlockCompressed(this.inputStream))
+            this.blockReader = new GryoBlockReader(this.inputStream, configuration, start, this.splitLength);
+        else if (this.splitLength > 0) this.splitLength -= (seekToHeader(this.inputStream, start) - start);
     }
 
     private static long seekToHeader(final FSDataInputStream inputStream, final long start) throws IOException {
@@ -113,6 +116,8 @@ public final class GryoRecordReader extends RecordReader<NullWritable, VertexWri
 
     @Override
     public boolean nextKeyValue() throws IOException {
+        if (null != this.blockReader)
+            return this.nextBlockKeyValue();
         if (this.currentLength >= this.splitLength)
             return false;
 
@@ -148,6 +153,21 @@ public final class GryoRecordReader extends RecordReader<NullWritable, VertexWri
         }
     }
 
+    private boolean nextBlockKeyValue() throws IOException {
+        while (true) {
+            try (InputStream in = this.blockReader.nextVertex()) {
+                this.currentLength = this.blockReader.getBytesRead();
+                if (null == in)
+                    return false;
+                final Optional<Vertex> vertex = this.gryoReader.readVertex(in, this.graphFilter);
+                if (vertex.isPresent()) {
+                    this.vertexWritable.set(vertex.get());
+                    return true;
+                }
+            }
+        }
+    }
+
     @Override
     public NullWritable getCurrentKey() {
         return NullWritable.get();
@@ -165,7 +185,10 @@ public final class GryoRecordReader extends RecordReader<NullWritable, VertexWri
 
     @Override
     public synchronized void close() throws IOException {
-        this.inputStream.close();
+        if (null != this.blockReader)
+            this.blockReader.close();
+        else
+            this.inputStream.close();
         this.gryoReader = null;
     }
 }
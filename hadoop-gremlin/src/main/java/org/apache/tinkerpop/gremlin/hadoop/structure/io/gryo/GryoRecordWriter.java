@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.compress.CompressionCodec;
 import org.apache.hadoop.mapreduce.RecordWriter;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.tinkerpop.gremlin.hadoop.Constants;
@@ -31,8 +32,10 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
 import org.apache.tinkerpop.gremlin.structure.io.util.IoRegistryHelper;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -43,6 +46,11 @@ public final class GryoRecordWriter extends RecordWriter<NullWritable, VertexWri
     private final boolean hasEdges;
     private GryoWriter gryoWriter;
 
+    private GryoVertexIndex.Writer indexWriter = null;
+    private GryoBlockWriter blockWriter = null;
+    private ByteArrayOutputStream vertexBuffer = null;
+    private long position = 0l;
+
     public GryoRecordWriter(final DataOutputStream outputStream, final Configuration configuration) {
         this.outputStream = outputStream;
         this.hasEdges = configuration.getBoolean(Constants.GREMLIN_HADOOP_GRAPH_WRITER_HAS_EDGES, true);
@@ -50,19 +58,62 @@ public final class GryoRecordWriter extends RecordWriter<NullWritable, VertexWri
                 GryoMapper.build().addRegistries(IoRegistryHelper.createRegistries(ConfUtil.makeApacheConfiguration(configuration))).create()).create();
     }
 
+    /**
+     * Creates a writer that optionally records the offset of every written vertex to a {@link GryoVertexIndex} and
+     * optionally writes the vertices into the block compressed container of {@link GryoBlockWriter}.
+     *
+     * @param indexOutputStream the stream to write the index to or {@code null} to not write an index
+     * @param codec             the codec to compress blocks with or {@code null} to write uncompressed Gryo
+     */
+    public GryoRecordWriter(final DataOutputStream outputStream, final DataOutputStream indexOutputStream,
+                            final CompressionCodec codec, final Configuration configuration) throws IOException {
+        this(outputStream, configuration);
+        if (null != indexOutputStream)
+            this.indexWriter = new GryoVertexIndex.Writer(indexOutputStream, configuration, this.hasEdges);
+        if (null != codec)
+            this.blockWriter = new GryoBlockWriter(outputStream, codec,
+                    configuration.getInt(Constants.GREMLIN_HADOOP_GRAPH_WRITER_BLOCK_SIZE, GryoBlockWriter.DEFAULT_BLOCK_SIZE));
+        this.vertexBuffer = new ByteArrayOutputStream();
+    }
+
     @Override
     public void write(final NullWritable key, final VertexWritable vertex) throws IOException {
         if (null != vertex) {
-            if (this.hasEdges)
-                gryoWriter.writeVertex(this.outputStream, vertex.get(), Direction.BOTH);
-            else
-                gryoWriter.writeVertex(this.outputStream, vertex.get());
+            if (null == this.vertexBuffer)
+                this.writeVertex(this.outputStream, vertex);
+            else {
+                this.vertexBuffer.reset();
+                this.writeVertex(this.vertexBuffer, vertex);
+                final long offset;
+                if (null != this.blockWriter)
+                    offset = this.blockWriter.write(this.vertexBuffer);
+                else {
+                    // the offset is tracked here as DataOutputStream.size() overflows for files larger than 2GB
+                    offset = this.position;
+                    this.vertexBuffer.writeTo(this.outputStream);
+                    this.position = this.position + this.vertexBuffer.size();
+                }
+                if (null != this.indexWriter)
+                    this.indexWriter.append(vertex.get(), offset);
+            }
         }
     }
 
+    private void writeVertex(final OutputStream outputStream, final VertexWritable vertex) throws IOException {
+        if (this.hasEdges)
+            gryoWriter.writeVertex(outputStream, vertex.get(), Direction.BOTH);
+        else
+            gryoWriter.writeVertex(outputStream, vertex.get());
+    }
+
     @Override
     public synchronized void close(final TaskAttemptContext context) throws IOException {
-        this.outputStream.close();
+        if (null != this.blockWriter)
+            this.blockWriter.close();
+        else
+            this.outputStream.close();
+        if (null != this.indexWriter)
+            this.indexWriter.close();
         this.gryoWriter = null;
     }
 }
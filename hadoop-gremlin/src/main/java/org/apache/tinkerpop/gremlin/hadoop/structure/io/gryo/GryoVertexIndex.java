@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.HiddenFileFilter;
+import org.apache.tinkerpop.gremlin.hadoop.structure.util.ConfUtil;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.util.IoRegistryHelper;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A sidecar index that maps vertex ids (and the ids of their outgoing edges) to the byte offset of the vertex within
+ * a Gryo file written by {@link GryoOutputFormat}. The index of a data file is stored next to it as a hidden file
+ * (i.e. {@code part-r-00000} is indexed by {@code _part-r-00000.vidx}) so that it is never read as graph data. Each
+ * entry is a type byte, the Gryo serialized id and the offset of the vertex. The entries are sorted by type and id and
+ * are followed by the position of each entry in the index and the number of entries, so that an id is found with a
+ * binary search over the positions. Ids are matched by their type and value, so {@code 1L} and {@code "1"} are
+ * different ids.
+ */
+public final class GryoVertexIndex {
+
+    public static final String INDEX_EXTENSION = ".vidx";
+
+    private static final byte VERTEX_ENTRY = 0;
+    private static final byte EDGE_ENTRY = 1;
+
+    private GryoVertexIndex() {
+    }
+
+    public static Path getIndexPath(final Path dataFile) {
+        return new Path(dataFile.getParent(), "_" + dataFile.getName() + INDEX_EXTENSION);
+    }
+
+    private static Kryo createKryo(final Configuration configuration) {
+        return GryoMapper.build().addRegistries(IoRegistryHelper.createRegistries(ConfUtil.makeApacheConfiguration(configuration))).create().createMapper();
+    }
+
+    /**
+     * Orders ids by their class and then by their natural order, falling back to their string representation for ids
+     * that are not {@link Comparable}. Ids that compare as equal are not necessarily equal and must still be checked
+     * with {@link Object#equals(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareIds(final Object a, final Object b) {
+        final int classComparison = a.getClass().getName().compareTo(b.getClass().getName());
+        if (0 != classComparison)
+            return classComparison;
+        return a instanceof Comparable ? ((Comparable<Object>) a).compareTo(b) : a.toString().compareTo(b.toString());
+    }
+
+    private static int compareEntries(final byte typeA, final Object idA, final byte typeB, final Object idB) {
+        return typeA != typeB ? Byte.compare(typeA, typeB) : compareIds(idA, idB);
+    }
+
+    /**
+     * Locates the vertices holding the provided ids (vertex ids or, if {@code edges} is {@code true}, out-edge ids)
+     * in the Gryo files at the input location. Each returned {@link FileSplit} starts at a vertex and is one byte long
+     * so that a {@link GryoRecordReader} reads exactly that vertex. For block compressed files the offset is that of
+     * the block holding the vertex and the reader returns all the vertices of that block.
+     *
+     * @return the splits to read or {@link Optional#empty()} if a data file at the location has no index
+     */
+    public static Optional<List<FileSplit>> lookup(final Configuration configuration, final Path location, final boolean edges, final Object... ids) throws IOException {
+        final FileSystem fileSystem = location.getFileSystem(configuration);
+        final List<Path> dataFiles = new ArrayList<>();
+        if (fileSystem.isDirectory(location)) {
+            for (final FileStatus status : fileSystem.listStatus(location, HiddenFileFilter.instance())) {
+                if (status.isFile()) dataFiles.add(status.getPath());
+            }
+        } else
+            dataFiles.add(location);
+        for (final Path dataFile : dataFiles) {
+            if (!fileSystem.exists(getIndexPath(dataFile)))
+                return Optional.empty();
+        }
+
+        final Kryo kryo = createKryo(configuration);
+        final byte type = edges ? EDGE_ENTRY : VERTEX_ENTRY;
+        final Set<Object> remaining = new HashSet<>();
+        Collections.addAll(remaining, ids);
+        final List<FileSplit> splits = new ArrayList<>();
+        for (final Path dataFile : dataFiles) {
+            if (remaining.isEmpty())
+                break;
+            final TreeSet<Long> offsets = new TreeSet<>();
+            final Path indexPath = getIndexPath(dataFile);
+            try (final FSDataInputStream inputStream = fileSystem.open(indexPath)) {
+                final Reader reader = new Reader(kryo, inputStream, fileSystem.getFileStatus(indexPath).getLen());
+                final Iterator<Object> iterator = remaining.iterator();
+                while (iterator.hasNext()) {
+                    final long offset = reader.find(type, iterator.next());
+                    if (offset >= 0) {
+                        offsets.add(offset);
+                        iterator.remove();
+                    }
+                }
+            }
+            for (final Long offset : offsets) {
+                splits.add(new FileSplit(dataFile, offset, 1, null));
+            }
+        }
+        return Optional.of(Collections.unmodifiableList(splits));
+    }
+
+    /**
+     * Finds entries of an index file by seeking to them.
+     */
+    private static final class Reader {
+
+        private final Kryo kryo;
+        private final FSDataInputStream inputStream;
+        private final Input input = new Input(256);
+        private final long size;
+        private final long positions;
+
+        private Reader(final Kryo kryo, final FSDataInputStream inputStream, final long length) throws IOException {
+            this.kryo = kryo;
+            this.inputStream = inputStream;
+            this.size = this.seek(length - 8).readLong();
+            this.positions = length - 8 - (this.size * 8);
+        }
+
+        private Input seek(final long position) throws IOException {
+            this.inputStream.seek(position);
+            this.input.setInputStream(this.inputStream);
+            return this.input;
+        }
+
+        /**
+         * @return the offset of the vertex that holds the id or {@code -1} if the id is not in the index
+         */
+        private long find(final byte type, final Object id) throws IOException {
+            // binary search for the first entry that is not less than the id
+            long low = 0;
+            long high = this.size;
+            while (low < high) {
+                final long middle = (low + high) >>> 1;
+                final Input entry = this.entry(middle);
+                if (compareEntries(entry.readByte(), this.kryo.readClassAndObject(entry), type, id) < 0)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            // ids that are not comparable may share a position in the order with other ids
+            for (long index = low; index < this.size; index++) {
+                final Input entry = this.entry(index);
+                final byte entryType = entry.readByte();
+                final Object entryId = this.kryo.readClassAndObject(entry);
+                if (0 != compareEntries(entryType, entryId, type, id))
+                    break;
+                if (entryId.equals(id))
+                    return entry.readLong();
+            }
+            return -1;
+        }
+
+        private Input entry(final long index) throws IOException {
+            return this.seek(this.seek(this.positions + (index * 8)).readLong());
+        }
+    }
+
+    /**
+     * Collects index entries for vertices as they are written to a Gryo file and writes them sorted once the file is
+     * complete.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Kryo kryo;
+        private final Output output;
+        private final boolean indexEdges;
+        private final List<Entry> entries = new ArrayList<>();
+
+        public Writer(final OutputStream outputStream, final Configuration configuration, final boolean indexEdges) {
+            this.kryo = createKryo(configuration);
+            this.output = new Output(outputStream);
+            this.indexEdges = indexEdges;
+        }
+
+        public void append(final Vertex vertex, final long offset) {
+            this.entries.add(new Entry(VERTEX_ENTRY, vertex.id(), offset));
+            if (this.indexEdges)
+                vertex.edges(Direction.OUT).forEachRemaining(edge -> this.entries.add(new Entry(EDGE_ENTRY, edge.id(), offset)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.entries.sort((a, b) -> compareEntries(a.type, a.id, b.type, b.id));
+            final long[] positions = new long[this.entries.size()];
+            for (int i = 0; i < positions.length; i++) {
+                final Entry entry = this.entries.get(i);
+                positions[i] = this.output.total();
+                this.output.writeByte(entry.type);
+                this.kryo.writeClassAndObject(this.output, entry.id);
+                this.output.writeLong(entry.offset);
+            }
+            for (final long position : positions) {
+                this.output.writeLong(position);
+            }
+            this.output.writeLong(positions.length);
+            this.entries.clear();
+            this.output.close();
+        }
+    }
+
+    private static final class Entry {
+        private final byte type;
+        private final Object id;
+        private final long offset;
+
+        private Entry(final byte type, final Object id, final long offset) {
+            this.type = type;
+            this.id = id;
+            this.offset = offset;
+        }
+    }
+}
@@ -18,11 +18,56 @@
  */
 package org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo;
 
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.CompressorStream;
+import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.io.compress.zlib.BuiltInZlibDeflater;
 import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.OutputFormat;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
+import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.HadoopGraphProvider;
+import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.GraphFilterAware;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.RecordReaderWriterTest;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -44,4 +89,205 @@ public class GryoRecordReaderWriterTest extends RecordReaderWriterTest {
     protected Class<? extends OutputFormat<NullWritable, VertexWritable>> getOutputFormat() {
         return GryoOutputFormat.class;
     }
+
+    @Test
+    public void shouldWriteVertexIndexAndSeekToVertices() throws Exception {
+        final File outputDirectory = TestHelper.makeTestDataPath(GryoRecordReaderWriterTest.class, "gryo-vertex-index");
+        final Configuration configuration = configure(outputDirectory);
+        configuration.setBoolean(Constants.GREMLIN_HADOOP_GRAPH_WRITER_VERTEX_INDEX, true);
+        final TaskAttemptContext job = new TaskAttemptContextImpl(configuration, new TaskAttemptID(UUID.randomUUID().toString(), 0, TaskType.MAP, 0, 0));
+
+        final GryoOutputFormat outputFormat = new GryoOutputFormat();
+        final RecordWriter<NullWritable, VertexWritable> writer = outputFormat.getRecordWriter(job);
+        final File inputFile = new File(HadoopGraphProvider.PATHS.get(getInputFilename()));
+        final RecordReader<NullWritable, VertexWritable> reader = new GryoInputFormat().createRecordReader(
+                new FileSplit(new Path(inputFile.getAbsoluteFile().toURI().toString()), 0, inputFile.length(), null), job);
+        final Map<Object, String> names = new HashMap<>();
+        final Map<Object, Object> outVertexOfEdge = new HashMap<>();
+        while (reader.nextKeyValue()) {
+            final Vertex vertex = reader.getCurrentValue().get();
+            names.put(vertex.id(), vertex.value("name"));
+            vertex.edges(Direction.OUT).forEachRemaining(edge -> outVertexOfEdge.put(edge.id(), vertex.id()));
+            writer.write(NullWritable.get(), reader.getCurrentValue());
+        }
+        reader.close();
+        writer.close(job);
+        assertEquals(808, names.size());
+
+        final Path dataFile = outputFormat.getDefaultWorkFile(job, "");
+        assertTrue(new File(GryoVertexIndex.getIndexPath(dataFile).toUri()).exists());
+
+        // vertices are read directly at their offsets
+        final List<Object> ids = new ArrayList<>(names.keySet()).subList(100, 110);
+        final List<FileSplit> vertexSplits = GryoVertexIndex.lookup(configuration, dataFile.getParent(), false, ids.toArray()).get();
+        assertEquals(ids.size(), vertexSplits.size());
+        for (final FileSplit split : vertexSplits) {
+            final RecordReader<NullWritable, VertexWritable> splitReader = new GryoInputFormat().createRecordReader(split, job);
+            assertTrue(splitReader.nextKeyValue());
+            assertTrue(ids.contains(splitReader.getCurrentValue().get().id()));
+            assertFalse(splitReader.nextKeyValue());
+            splitReader.close();
+        }
+
+        // ids are matched by type and value
+        assertEquals(0, GryoVertexIndex.lookup(configuration, dataFile.getParent(), false, ids.get(0).toString()).get().size());
+        assertEquals(0, GryoVertexIndex.lookup(configuration, dataFile.getParent(), false, -1).get().size());
+        assertEquals(names.size(), GryoVertexIndex.lookup(configuration, dataFile.getParent(), false, names.keySet().toArray()).get().size());
+
+        // edges are found through the vertex that holds them as out-edges
+        final Object edgeId = outVertexOfEdge.keySet().iterator().next();
+        final List<FileSplit> edgeSplits = GryoVertexIndex.lookup(configuration, dataFile.getParent(), true, edgeId).get();
+        assertEquals(1, edgeSplits.size());
+        final RecordReader<NullWritable, VertexWritable> edgeReader = new GryoInputFormat().createRecordReader(edgeSplits.get(0), job);
+        assertTrue(edgeReader.nextKeyValue());
+        assertEquals(outVertexOfEdge.get(edgeId), edgeReader.getCurrentValue().get().id());
+        edgeReader.close();
+
+        // HadoopGraph uses the index for id lookups
+        final BaseConfiguration graphConfiguration = new BaseConfiguration();
+        graphConfiguration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_READER, GryoInputFormat.class.getName());
+        graphConfiguration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, dataFile.getParent().toString());
+        final HadoopGraph graph = HadoopGraph.open(graphConfiguration);
+        final List<Vertex> vertices = IteratorUtils.list(graph.vertices(ids.get(0), ids.get(1)));
+        assertEquals(2, vertices.size());
+        for (final Vertex vertex : vertices) {
+            assertEquals(names.get(vertex.id()), vertex.value("name"));
+        }
+        final List<Edge> edges = IteratorUtils.list(graph.edges(edgeId));
+        assertEquals(1, edges.size());
+        assertEquals(outVertexOfEdge.get(edgeId), edges.get(0).outVertex().id());
+        graph.close();
+    }
+
+    @Test
+    public void shouldOnlyLoadProjectedVertexProperties() throws Exception {
+        final File inputFile = new File(HadoopGraphProvider.PATHS.get(getInputFilename()));
+        final GraphFilter graphFilter = new GraphFilter();
+        graphFilter.setVertexFilter(__.has("songType", "original"));
+        graphFilter.setVertexPropertyKeys(Collections.singleton("name"));
+        final Configuration configuration = new Configuration(false);
+        GraphFilterAware.storeGraphFilter(new BaseConfiguration(), configuration, graphFilter);
+        final TaskAttemptContext job = new TaskAttemptContextImpl(configuration, new TaskAttemptID(UUID.randomUUID().toString(), 0, TaskType.MAP, 0, 0));
+        final RecordReader<NullWritable, VertexWritable> reader = new GryoInputFormat().createRecordReader(
+                new FileSplit(new Path(inputFile.getAbsoluteFile().toURI().toString()), 0, inputFile.length(), null), job);
+        int vertexCount = 0;
+        while (reader.nextKeyValue()) {
+            final Vertex vertex = reader.getCurrentValue().get();
+            assertEquals(Collections.singleton("name"), vertex.keys());
+            vertexCount++;
+        }
+        reader.close();
+        assertEquals(184, vertexCount);
+    }
+
+    @Test
+    public void shouldWriteBlockCompressedGryoAndReadItInSplits() throws Exception {
+        final File outputDirectory = TestHelper.makeTestDataPath(GryoRecordReaderWriterTest.class, "gryo-block-compression");
+        final Configuration configuration = configure(outputDirectory);
+        configuration.setBoolean(FileOutputFormat.COMPRESS, true);
+        configuration.setInt(Constants.GREMLIN_HADOOP_GRAPH_WRITER_BLOCK_SIZE, 4096);
+        configuration.setBoolean(Constants.GREMLIN_HADOOP_GRAPH_WRITER_VERTEX_INDEX, true);
+        final TaskAttemptContext job = new TaskAttemptContextImpl(configuration, new TaskAttemptID(UUID.randomUUID().toString(), 0, TaskType.MAP, 0, 0));
+
+        final GryoOutputFormat outputFormat = new GryoOutputFormat();
+        final RecordWriter<NullWritable, VertexWritable> writer = outputFormat.getRecordWriter(job);
+        final File inputFile = new File(HadoopGraphProvider.PATHS.get(getInputFilename()));
+        final RecordReader<NullWritable, VertexWritable> reader = new GryoInputFormat().createRecordReader(
+                new FileSplit(new Path(inputFile.getAbsoluteFile().toURI().toString()), 0, inputFile.length(), null), job);
+        final Map<Object, String> names = new HashMap<>();
+        while (reader.nextKeyValue()) {
+            names.put(reader.getCurrentValue().get().id(), reader.getCurrentValue().get().value("name"));
+            writer.write(NullWritable.get(), reader.getCurrentValue());
+        }
+        reader.close();
+        writer.close(job);
+
+        final Path dataFile = outputFormat.getDefaultWorkFile(job, "");
+        final long fileLength = new File(dataFile.toUri()).length();
+        assertTrue(fileLength < inputFile.length());
+        for (int numberOfSplits = 1; numberOfSplits < 10; numberOfSplits++) {
+            final long splitLength = fileLength / numberOfSplits + 1;
+            final Set<Object> ids = new HashSet<>();
+            int vertexCount = 0;
+            int outEdgeCount = 0;
+            for (long start = 0; start < fileLength; start = start + splitLength) {
+                final RecordReader<NullWritable, VertexWritable> splitReader = new GryoInputFormat().createRecordReader(
+                        new FileSplit(dataFile, start, splitLength, null), job);
+                float lastProgress = -1f;
+                while (splitReader.nextKeyValue()) {
+                    final Vertex vertex = splitReader.getCurrentValue().get();
+                    assertEquals(names.get(vertex.id()), vertex.value("name"));
+                    ids.add(vertex.id());
+                    vertexCount++;
+                    outEdgeCount = outEdgeCount + (int) IteratorUtils.count(vertex.edges(Direction.OUT));
+                    assertTrue(splitReader.getProgress() >= lastProgress);
+                    lastProgress = splitReader.getProgress();
+                }
+                splitReader.close();
+            }
+            assertEquals(808, vertexCount);
+            assertEquals(808, ids.size());
+            assertEquals(8049, outEdgeCount);
+        }
+
+        // the index points at the block that holds the vertex
+        final BaseConfiguration graphConfiguration = new BaseConfiguration();
+        graphConfiguration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_READER, GryoInputFormat.class.getName());
+        graphConfiguration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, dataFile.getParent().toString());
+        final HadoopGraph graph = HadoopGraph.open(graphConfiguration);
+        final Object id = names.keySet().iterator().next();
+        final List<Vertex> vertices = IteratorUtils.list(graph.vertices(id));
+        assertEquals(1, vertices.size());
+        assertEquals(names.get(id), vertices.get(0).value("name"));
+        graph.close();
+    }
+    @Test
+    public void shouldWriteBlockCompressedGryoWithCodecThatHasNoCompressor() throws Exception {
+        final File outputDirectory = TestHelper.makeTestDataPath(GryoRecordReaderWriterTest.class, "gryo-block-compression-no-compressor");
+        final Configuration configuration = configure(outputDirectory);
+        configuration.setBoolean(FileOutputFormat.COMPRESS, true);
+        configuration.setClass(FileOutputFormat.COMPRESS_CODEC, NoCompressorCodec.class, CompressionCodec.class);
+        final TaskAttemptContext job = new TaskAttemptContextImpl(configuration, new TaskAttemptID(UUID.randomUUID().toString(), 0, TaskType.MAP, 0, 0));
+
+        final GryoOutputFormat outputFormat = new GryoOutputFormat();
+        final RecordWriter<NullWritable, VertexWritable> writer = outputFormat.getRecordWriter(job);
+        final File inputFile = new File(HadoopGraphProvider.PATHS.get(getInputFilename()));
+        final RecordReader<NullWritable, VertexWritable> reader = new GryoInputFormat().createRecordReader(
+                new FileSplit(new Path(inputFile.getAbsoluteFile().toURI().toString()), 0, inputFile.length(), null), job);
+        while (reader.nextKeyValue()) {
+            writer.write(NullWritable.get(), reader.getCurrentValue());
+        }
+        reader.close();
+        writer.close(job);
+
+        final Path dataFile = outputFormat.getDefaultWorkFile(job, "");
+        final RecordReader<NullWritable, VertexWritable> blockReader = new GryoInputFormat().createRecordReader(
+                new FileSplit(dataFile, 0, new File(dataFile.toUri()).length(), null), job);
+        int vertexCount = 0;
+        while (blockReader.nextKeyValue()) {
+            vertexCount++;
+        }
+        blockReader.close();
+        assertEquals(808, vertexCount);
+    }
+
+    /**
+     * A codec for which the {@code CodecPool} has no {@code Compressor}.
+     */
+    public static final class NoCompressorCodec extends DefaultCodec {
+        @Override
+        public Compressor createCompressor() {
+            return null;
+        }
+
+        @Override
+        public Class<? extends Compressor> getCompressorType() {
+            return null;
+        }
+
+        @Override
+        public CompressionOutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+            return new CompressorStream(outputStream, new BuiltInZlibDeflater(), 4096);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.jsr223.AbstractGremlinPlugin;
 import org.apache.tinkerpop.gremlin.jsr223.DefaultImportCustomizer;
 import org.apache.tinkerpop.gremlin.jsr223.ImportCustomizer;
 import org.apache.tinkerpop.gremlin.neo4j.process.traversal.LabelP;
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.strategy.optimization.Neo4jCypherStrategy;
 import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jEdge;
 import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jElement;
 import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jGraph;
@@ -51,7 +52,8 @@ public final class Neo4jGremlinPlugin extends AbstractGremlinPlugin {
                             Neo4jProperty.class,
                             Neo4jVertex.class,
                             Neo4jVertexProperty.class,
-                            LabelP.class)
+                            LabelP.class,
+                            Neo4jCypherStrategy.class)
                     .addMethodImports(LabelP.class.getMethod("of", String.class)).create();
         } catch (Exception ex) {
             throw new RuntimeException(ex);
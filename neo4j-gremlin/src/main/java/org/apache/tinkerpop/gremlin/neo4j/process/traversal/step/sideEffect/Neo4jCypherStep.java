@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.neo4j.process.traversal.step.sideEffect;
+
+import org.apache.tinkerpop.gremlin.neo4j.process.util.Neo4jCypherIterator;
+import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A start {@link GraphStep} that produces its vertices by executing a single Cypher query that was compiled from a
+ * prefix of a Gremlin traversal (see
+ * {@link org.apache.tinkerpop.gremlin.neo4j.process.traversal.strategy.optimization.Neo4jCypherStrategy}). Only the
+ * vertices bound to the {@code returnKey} of the query are wrapped as {@code Neo4jVertex} objects.
+ */
+public final class Neo4jCypherStep<S> extends GraphStep<S, Vertex> {
+
+    private final String query;
+    private final Map<String, Object> parameters;
+    private final String returnKey;
+
+    public Neo4jCypherStep(final Traversal.Admin traversal, final String query, final Map<String, Object> parameters, final String returnKey) {
+        super(traversal, Vertex.class, true);
+        this.query = query;
+        this.parameters = new HashMap<>(parameters);
+        this.returnKey = returnKey;
+        this.setIteratorSupplier(this::vertices);
+    }
+
+    private Iterator<Vertex> vertices() {
+        final Neo4jGraph graph = (Neo4jGraph) this.getTraversal().getGraph().get();
+        graph.tx().readWrite();
+        return IteratorUtils.map(new Neo4jCypherIterator<Vertex>((Iterator) graph.getBaseGraph().execute(this.query, this.parameters), graph),
+                row -> row.get(this.returnKey));
+    }
+
+    public String getQuery() {
+        return this.query;
+    }
+
+    public Map<String, Object> getQueryParameters() {
+        return Collections.unmodifiableMap(this.parameters);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.query, this.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.query.hashCode() ^ this.parameters.hashCode();
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.neo4j.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.LabelP;
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.step.sideEffect.Neo4jCypherStep;
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.step.sideEffect.Neo4jGraphStep;
+import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * {@code Neo4jCypherStrategy} compiles the leading {@code V().has()...out().has()...} portion of a traversal into a
+ * single Cypher query so that Neo4j's planner can do the join work rather than iterating adjacency step-by-step
+ * through {@code Neo4jVertex} wrappers. The compiled prefix is replaced by a {@link Neo4jCypherStep} and the rest of
+ * the traversal is left untouched. Compilation stops at the first step that can not be expressed in Cypher, and only
+ * the last compiled step may be labeled. Traversals that require full paths or graphs that support multi- and
+ * meta-properties are not compiled. Each hop is written as its own {@code MATCH} clause as Cypher enforces
+ * relationship uniqueness within a single pattern whereas Gremlin allows an edge to be traversed more than once.
+ * <p/>
+ * This strategy is not registered by default and should be added to a traversal source with
+ * {@code g.withStrategies(Neo4jCypherStrategy.instance())}.
+ *
+ * @example <pre>
+ * g.V().hasLabel('person').out('knows').has('age',gt(30))   // MATCH (n0) WHERE n0:`person` AND size(labels(n0)) = 1 MATCH (n0)-[:`knows`]->(n1) WHERE n1.`age` > $p0 RETURN n1
+ * g.V(1).out('created').in('created')                       // MATCH (n0) WHERE id(n0) IN $p0 MATCH (n0)-[:`created`]->(n1) MATCH (n1)<-[:`created`]-(n2) RETURN n2
+ * </pre>
+ */
+public final class Neo4jCypherStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
+
+    private static final Neo4jCypherStrategy INSTANCE = new Neo4jCypherStrategy();
+
+    private static final Set<Class<? extends ProviderOptimizationStrategy>> PRIORS = Collections.singleton(Neo4jGraphStepStrategy.class);
+
+    private Neo4jCypherStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getGraph().orElse(null) instanceof Neo4jGraph) ||
+                ((Neo4jGraph) traversal.getGraph().get()).getTrait().supportsMultiProperties())
+            return;
+        compile(traversal);
+    }
+
+    /**
+     * Rewrites the compilable prefix of the traversal (if any) into a {@link Neo4jCypherStep}. This method does not
+     * check the type of the {@link Graph} and is exposed for testing.
+     */
+    static void compile(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getStartStep() instanceof Neo4jGraphStep) || TraversalHelper.onGraphComputer(traversal) ||
+                TraversalHelper.anyStepRecursively(step -> step.getRequirements().contains(TraverserRequirement.PATH), traversal))
+            return;
+
+        final Neo4jGraphStep<?, ?> graphStep = (Neo4jGraphStep<?, ?>) traversal.getStartStep();
+        if (!graphStep.isStartStep() || !graphStep.returnsVertex() || null == graphStep.getIds() || !graphStep.getLabels().isEmpty())
+            return;
+
+        final CypherBuilder builder = new CypherBuilder();
+        if (!builder.match(graphStep.getIds()) || !builder.where(graphStep.getHasContainers()))
+            return;
+
+        final List<Step<?, ?>> compiled = new ArrayList<>();
+        Step<?, ?> lastStep = graphStep;
+        Step<?, ?> currentStep = graphStep.getNextStep();
+        int hops = 0;
+        while (lastStep.getLabels().isEmpty()) {
+            if (currentStep instanceof NoOpBarrierStep) {
+                // a labeled barrier is not compiled as its label would be lost with it
+                if (!currentStep.getLabels().isEmpty())
+                    break;
+                compiled.add(currentStep);
+                currentStep = currentStep.getNextStep();
+                continue;
+            } else if (currentStep instanceof VertexStep) {
+                final VertexStep<?> vertexStep = (VertexStep<?>) currentStep;
+                if (!vertexStep.returnsVertex() || !builder.expand(vertexStep.getDirection(), vertexStep.getEdgeLabels()))
+                    break;
+                hops++;
+            } else if (currentStep instanceof HasStep) {
+                final CypherBuilder attempt = builder.copy();
+                if (!attempt.where(((HasStep<?>) currentStep).getHasContainers()))
+                    break;
+                builder.set(attempt);
+            } else
+                break;
+            compiled.add(currentStep);
+            lastStep = currentStep;
+            currentStep = currentStep.getNextStep();
+        }
+
+        // without a hop there is nothing to gain over the index lookups of Neo4jGraphStep
+        if (0 == hops)
+            return;
+
+        // barriers that trail the compiled steps are left in place
+        final Neo4jCypherStep<?> cypherStep = new Neo4jCypherStep<>(traversal, builder.query(), builder.parameters, builder.current());
+        for (final Step<?, ?> step : compiled) {
+            traversal.removeStep(step);
+            if (step == lastStep)
+                break;
+        }
+        TraversalHelper.copyLabels(lastStep, cypherStep, false);
+        TraversalHelper.replaceStep((Step) graphStep, cypherStep, traversal);
+    }
+
+    public static Neo4jCypherStrategy instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    /**
+     * Accumulates the Cypher {@code MATCH} clauses and parameters for the steps that were compiled so far.
+     */
+    private static final class CypherBuilder {
+
+        private final StringBuilder query = new StringBuilder();
+        private final Map<String, Object> parameters = new HashMap<>();
+        private final List<String> conditions = new ArrayList<>();
+        private int nodes = 0;
+
+        private CypherBuilder copy() {
+            final CypherBuilder clone = new CypherBuilder();
+            clone.set(this);
+            return clone;
+        }
+
+        private void set(final CypherBuilder other) {
+            if (other == this)
+                return;
+            this.query.setLength(0);
+            this.query.append(other.query);
+            this.parameters.clear();
+            this.parameters.putAll(other.parameters);
+            this.conditions.clear();
+            this.conditions.addAll(other.conditions);
+            this.nodes = other.nodes;
+        }
+
+        private String current() {
+            return "n" + (this.nodes - 1);
+        }
+
+        private boolean match(final Object[] ids) {
+            this.query.append("MATCH (n0)");
+            this.nodes = 1;
+            if (ids.length == 0)
+                return true;
+            final List<Long> longIds = new ArrayList<>(ids.length);
+            for (final Object id : ids) {
+                if (id instanceof Number)
+                    longIds.add(((Number) id).longValue());
+                else if (id instanceof Element && ((Element) id).id() instanceof Long)
+                    longIds.add((Long) ((Element) id).id());
+                else
+                    return false;
+            }
+            this.conditions.add("id(n0) IN " + this.parameter(longIds));
+            return true;
+        }
+
+        private boolean expand(final Direction direction, final String[] edgeLabels) {
+            if (Direction.BOTH == direction)
+                return false;
+            this.flushConditions();
+            final StringBuilder relationship = new StringBuilder("[");
+            for (int i = 0; i < edgeLabels.length; i++) {
+                relationship.append(0 == i ? ":" : "|").append(escape(edgeLabels[i]));
+            }
+            relationship.append("]");
+            final String next = "n" + this.nodes;
+            this.query.append(" MATCH (").append(this.current()).append(")")
+                    .append(Direction.OUT == direction ? "-" : "<-")
+                    .append(relationship)
+                    .append(Direction.OUT == direction ? "->" : "-")
+                    .append("(").append(next).append(")");
+            this.nodes++;
+            return true;
+        }
+
+        private boolean where(final List<HasContainer> hasContainers) {
+            for (final HasContainer hasContainer : hasContainers) {
+                final String condition = this.condition(this.current(), hasContainer);
+                if (null == condition)
+                    return false;
+                this.conditions.add(condition);
+            }
+            return true;
+        }
+
+        private String condition(final String node, final HasContainer hasContainer) {
+            final String key = hasContainer.getKey();
+            final BiPredicate<?, ?> biPredicate = hasContainer.getBiPredicate();
+            final Object value = hasContainer.getValue();
+            if (key.equals(T.label.getAccessor())) {
+                // Neo4jVertex.label() joins multiple labels so an equality check means a single matching label
+                if (hasContainer.getPredicate() instanceof LabelP)
+                    return node + ":" + escape((String) value);
+                else if (Compare.eq == biPredicate && value instanceof String)
+                    return node + ":" + escape((String) value) + " AND size(labels(" + node + ")) = 1";
+                else if (Contains.within == biPredicate && isCollectionOf(value, String.class))
+                    return "size(labels(" + node + ")) = 1 AND labels(" + node + ")[0] IN " + this.parameter(new ArrayList<>((Collection<?>) value));
+                return null;
+            } else if (key.equals(T.id.getAccessor())) {
+                if (Compare.eq == biPredicate && value instanceof Number)
+                    return "id(" + node + ") = " + this.parameter(((Number) value).longValue());
+                return null;
+            } else if (Graph.Hidden.isHidden(key)) {
+                return null;
+            }
+
+            final String property = node + "." + escape(key);
+            if (biPredicate instanceof Compare && isPrimitive(value)) {
+                final Compare compare = (Compare) biPredicate;
+                final String operator = Compare.eq == compare ? " = " :
+                        Compare.neq == compare ? " <> " :
+                                Compare.gt == compare ? " > " :
+                                        Compare.gte == compare ? " >= " :
+                                                Compare.lt == compare ? " < " : " <= ";
+                return property + operator + this.parameter(value);
+            } else if (Contains.within == biPredicate && isCollectionOf(value, Object.class)) {
+                return property + " IN " + this.parameter(new ArrayList<>((Collection<?>) value));
+            } else if (Contains.without == biPredicate && isCollectionOf(value, Object.class)) {
+                return "NOT " + property + " IN " + this.parameter(new ArrayList<>((Collection<?>) value));
+            }
+            return null;
+        }
+
+        private String parameter(final Object value) {
+            final String name = "p" + this.parameters.size();
+            this.parameters.put(name, value);
+            return "$" + name;
+        }
+
+        private void flushConditions() {
+            if (!this.conditions.isEmpty()) {
+                this.query.append(" WHERE ").append(String.join(" AND ", this.conditions));
+                this.conditions.clear();
+            }
+        }
+
+        private String query() {
+            this.flushConditions();
+            return this.query.toString() + " RETURN " + this.current();
+        }
+
+        private static String escape(final String identifier) {
+            return "`" + identifier.replace("`", "``") + "`";
+        }
+
+        private static boolean isPrimitive(final Object value) {
+            return value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long ||
+                    value instanceof Short || value instanceof Byte || value instanceof Double || value instanceof Float;
+        }
+
+        private static boolean isCollectionOf(final Object value, final Class<?> type) {
+            if (!(value instanceof Collection))
+                return false;
+            for (final Object item : (Collection<?>) value) {
+                if (!isPrimitive(item) || !type.isInstance(item))
+                    return false;
+            }
+            return true;
+        }
+    }
+}
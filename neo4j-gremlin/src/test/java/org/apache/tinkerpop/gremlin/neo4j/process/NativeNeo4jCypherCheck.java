@@ -20,10 +20,13 @@ package org.apache.tinkerpop.gremlin.neo4j.process;
 
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.neo4j.AbstractNeo4jGremlinTest;
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.step.sideEffect.Neo4jCypherStep;
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.strategy.optimization.Neo4jCypherStrategy;
 import org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jGraph;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.TimeUtil;
@@ -38,6 +41,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
@@ -136,6 +140,27 @@ public class NativeNeo4jCypherCheck extends AbstractNeo4jGremlinTest {
         assertTrue(result.contains(v2.id()));
     }
 
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    public void shouldCompileTraversalPrefixToCypher() throws Exception {
+        if (this.getGraph().getTrait().supportsMultiProperties()) return;
+        final GraphTraversalSource cypherG = g.withStrategies(Neo4jCypherStrategy.instance());
+        final List<Function<GraphTraversalSource, GraphTraversal<Vertex, String>>> traversals = Arrays.asList(
+                s -> s.V().hasLabel("person").out("knows").has("age", P.gt(30)).values("name"),
+                s -> s.V().has("name", "marko").out("created").in("created").values("name"),
+                s -> s.V().out().out().has("lang", P.within("java", "gremlin")).values("name"),
+                s -> s.V().hasLabel("person").out().as("a").in().has("age", P.neq(29)).<Vertex>select("a").values("name"));
+        for (final Function<GraphTraversalSource, GraphTraversal<Vertex, String>> traversal : traversals) {
+            final Traversal.Admin<Vertex, String> compiled = traversal.apply(cypherG).asAdmin();
+            final List<String> actual = compiled.toList();
+            final List<String> expected = traversal.apply(g).toList();
+            assertTrue(compiled.getStartStep() instanceof Neo4jCypherStep);
+            Collections.sort(actual);
+            Collections.sort(expected);
+            assertEquals(expected, actual);
+        }
+    }
+
     @Test
     @Ignore
     @LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
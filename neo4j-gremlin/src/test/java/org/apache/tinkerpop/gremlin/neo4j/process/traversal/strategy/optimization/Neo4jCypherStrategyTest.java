@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.neo4j.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.step.sideEffect.Neo4jCypherStep;
+import org.apache.tinkerpop.gremlin.neo4j.process.traversal.step.sideEffect.Neo4jGraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.apache.tinkerpop.gremlin.process.traversal.P.within;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class Neo4jCypherStrategyTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    private static Traversal.Admin<?, ?> compile(final Traversal<?, ?> traversal) {
+        Neo4jGraphStepStrategy.instance().apply(traversal.asAdmin());
+        Neo4jCypherStrategy.compile(traversal.asAdmin());
+        return traversal.asAdmin();
+    }
+
+    @Test
+    public void shouldCompileLabelsPropertiesAndHops() {
+        final Traversal.Admin<?, ?> traversal = compile(g.V().hasLabel("person").out("knows").has("age", gt(30)).values("name"));
+        final Neo4jCypherStep<?> cypherStep = (Neo4jCypherStep<?>) traversal.getStartStep();
+        assertEquals("MATCH (n0) WHERE n0:`person` AND size(labels(n0)) = 1 MATCH (n0)-[:`knows`]->(n1) WHERE n1.`age` > $p0 RETURN n1", cypherStep.getQuery());
+        assertEquals(Collections.singletonMap("p0", 30), cypherStep.getQueryParameters());
+        assertEquals(2, traversal.getSteps().size());
+    }
+
+    @Test
+    public void shouldCompileIdsAndWriteEachHopAsItsOwnMatch() {
+        final Traversal.Admin<?, ?> traversal = compile(g.V(1).out("created").in("created", "knows").has("name", within("josh", "peter")));
+        final Neo4jCypherStep<?> cypherStep = (Neo4jCypherStep<?>) traversal.getStartStep();
+        assertEquals("MATCH (n0) WHERE id(n0) IN $p0 MATCH (n0)-[:`created`]->(n1) MATCH (n1)<-[:`created`|`knows`]-(n2) WHERE n2.`name` IN $p1 RETURN n2", cypherStep.getQuery());
+        assertEquals(Collections.singletonList(1L), cypherStep.getQueryParameters().get("p0"));
+        assertEquals(Arrays.asList("josh", "peter"), cypherStep.getQueryParameters().get("p1"));
+        assertEquals(1, traversal.getSteps().size());
+    }
+
+    @Test
+    public void shouldStopAtFirstStepThatCanNotBeCompiled() {
+        final Traversal.Admin<?, ?> traversal = compile(g.V().out().both().out());
+        assertEquals("MATCH (n0) MATCH (n0)-[]->(n1) RETURN n1", ((Neo4jCypherStep<?>) traversal.getStartStep()).getQuery());
+        assertEquals(Direction.BOTH, ((VertexStep<?>) traversal.getSteps().get(1)).getDirection());
+        assertEquals(3, traversal.getSteps().size());
+    }
+
+    @Test
+    public void shouldStopAtLabeledStep() {
+        final Traversal.Admin<?, ?> traversal = compile(g.V().out().as("a").out().select("a"));
+        final Neo4jCypherStep<?> cypherStep = (Neo4jCypherStep<?>) traversal.getStartStep();
+        assertEquals("MATCH (n0) MATCH (n0)-[]->(n1) RETURN n1", cypherStep.getQuery());
+        assertTrue(cypherStep.getLabels().contains("a"));
+        assertEquals(3, traversal.getSteps().size());
+    }
+
+    @Test
+    public void shouldStopAtLabeledBarrier() {
+        final Traversal.Admin<?, ?> traversal = compile(g.V(1).out().barrier().as("x").out().select("x"));
+        final Neo4jCypherStep<?> cypherStep = (Neo4jCypherStep<?>) traversal.getStartStep();
+        assertEquals("MATCH (n0) WHERE id(n0) IN $p0 MATCH (n0)-[]->(n1) RETURN n1", cypherStep.getQuery());
+        assertTrue(cypherStep.getLabels().isEmpty());
+        assertTrue(traversal.getSteps().get(1) instanceof NoOpBarrierStep);
+        assertTrue(traversal.getSteps().get(1).getLabels().contains("x"));
+        assertEquals(4, traversal.getSteps().size());
+    }
+
+    @Test
+    public void shouldNotCompileWithoutHops() {
+        assertTrue(compile(g.V().has("name", "marko")).getStartStep() instanceof Neo4jGraphStep);
+        assertTrue(compile(g.V().as("a").out()).getStartStep() instanceof Neo4jGraphStep);
+    }
+
+    @Test
+    public void shouldNotCompileWhenPathIsRequired() {
+        assertTrue(compile(g.V().out().out().path()).getStartStep() instanceof Neo4jGraphStep);
+        assertFalse(compile(g.V().out().out().count()).getStartStep() instanceof Neo4jGraphStep);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import scala.Tuple2;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link GraphPartitioner} that balances the partitions of the graphRDD by the number of edges they hold. A
+ * statistics pass over the graphRDD weighs every vertex by its number of edges (plus one for the vertex itself),
+ * determines the weight that each hash partition would hold and collects the heaviest vertices. The heaviest vertices
+ * are then removed from their hash partitions and greedily re-assigned (largest first) to the lightest partition. All
+ * other vertices remain hash partitioned, so the returned {@link Partitioner} only needs to store the assignments of
+ * the heaviest vertices, whose number is bounded by
+ * {@link Constants#GREMLIN_SPARK_GRAPH_PARTITIONER_MAX_ASSIGNED_VERTICES}.
+ */
+public final class DegreeAwareGraphPartitioner implements GraphPartitioner {
+
+    public static final int DEFAULT_MAX_ASSIGNED_VERTICES = 10000;
+
+    @Override
+    public Partitioner createPartitioner(final Configuration configuration, final JavaPairRDD<Object, VertexWritable> graphRDD, final int numberOfPartitions) {
+        final int maxAssignedVertices = configuration.getInt(Constants.GREMLIN_SPARK_GRAPH_PARTITIONER_MAX_ASSIGNED_VERTICES, DEFAULT_MAX_ASSIGNED_VERTICES);
+        final JavaPairRDD<Object, Long> weightRDD = graphRDD.mapValues(vertexWritable -> 1L + IteratorUtils.count(vertexWritable.get().edges(Direction.BOTH)))
+                .persist(StorageLevel.MEMORY_AND_DISK());
+        try {
+            final long[] partitionWeights = new long[numberOfPartitions];
+            weightRDD.mapToPair(tuple -> new Tuple2<>(DegreeAwarePartitioner.hashPartition(tuple._1(), numberOfPartitions), tuple._2()))
+                    .reduceByKey(Long::sum)
+                    .collect()
+                    .forEach(tuple -> partitionWeights[tuple._1()] = tuple._2());
+            final List<Tuple2<Object, Long>> heaviestVertices = maxAssignedVertices > 0 ?
+                    weightRDD.top(maxAssignedVertices, new WeightComparator()) :
+                    Collections.emptyList();
+            // remove the heaviest vertices from their hash partitions
+            for (final Tuple2<Object, Long> vertex : heaviestVertices) {
+                partitionWeights[DegreeAwarePartitioner.hashPartition(vertex._1(), numberOfPartitions)] -= vertex._2();
+            }
+            // and assign them (largest first) to the lightest partition
+            final Map<Object, Integer> assignments = new HashMap<>();
+            for (final Tuple2<Object, Long> vertex : heaviestVertices) {
+                int lightestPartition = 0;
+                for (int i = 1; i < numberOfPartitions; i++) {
+                    if (partitionWeights[i] < partitionWeights[lightestPartition])
+                        lightestPartition = i;
+                }
+                partitionWeights[lightestPartition] += vertex._2();
+                if (lightestPartition != DegreeAwarePartitioner.hashPartition(vertex._1(), numberOfPartitions))
+                    assignments.put(vertex._1(), lightestPartition);
+            }
+            return new DegreeAwarePartitioner(numberOfPartitions, assignments);
+        } finally {
+            weightRDD.unpersist();
+        }
+    }
+
+    private static final class WeightComparator implements Comparator<Tuple2<Object, Long>>, Serializable {
+        @Override
+        public int compare(final Tuple2<Object, Long> a, final Tuple2<Object, Long> b) {
+            return Long.compare(a._2(), b._2());
+        }
+    }
+
+    /**
+     * A {@link Partitioner} that hash partitions vertices unless they have been explicitly assigned to a partition.
+     */
+    public static final class DegreeAwarePartitioner extends Partitioner {
+
+        private final int numberOfPartitions;
+        private final Map<Object, Integer> assignments;
+
+        public DegreeAwarePartitioner(final int numberOfPartitions, final Map<Object, Integer> assignments) {
+            this.numberOfPartitions = numberOfPartitions;
+            this.assignments = assignments;
+        }
+
+        private static int hashPartition(final Object key, final int numberOfPartitions) {
+            if (null == key)
+                return 0;
+            final int partition = key.hashCode() % numberOfPartitions;
+            return partition < 0 ? partition + numberOfPartitions : partition;
+        }
+
+        @Override
+        public int numPartitions() {
+            return this.numberOfPartitions;
+        }
+
+        @Override
+        public int getPartition(final Object key) {
+            final Integer partition = this.assignments.get(key);
+            return null == partition ? hashPartition(key, this.numberOfPartitions) : partition;
+        }
+
+        public Map<Object, Integer> getAssignments() {
+            return this.assignments;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof DegreeAwarePartitioner &&
+                    ((DegreeAwarePartitioner) other).numberOfPartitions == this.numberOfPartitions &&
+                    ((DegreeAwarePartitioner) other).assignments.equals(this.assignments);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.numberOfPartitions ^ this.assignments.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "degreeAwarePartitioner[" + this.numberOfPartitions + "," + this.assignments.size() + "]";
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+
+/**
+ * A GraphPartitioner creates the {@link Partitioner} that {@link SparkGraphComputer} uses to partition the loaded
+ * graphRDD. The same partitioner is used by {@link SparkExecutor} to shuffle messages, thus, the graphRDD and the
+ * viewRDDs remain co-partitioned. A GraphPartitioner is configured with
+ * {@link org.apache.tinkerpop.gremlin.hadoop.Constants#GREMLIN_SPARK_GRAPH_PARTITIONER} and must have a public
+ * no-argument constructor. If none is configured, a {@link org.apache.spark.HashPartitioner} is used.
+ */
+public interface GraphPartitioner {
+
+    /**
+     * Create the partitioner for the loaded graphRDD.
+     *
+     * @param configuration      the configuration for the {@link SparkGraphComputer}
+     * @param graphRDD           the loaded (and possibly filtered) graphRDD that has not been partitioned yet
+     * @param numberOfPartitions the number of partitions the graphRDD should have
+     * @return the partitioner to partition the graphRDD with
+     */
+    public Partitioner createPartitioner(final Configuration configuration, final JavaPairRDD<Object, VertexWritable> graphRDD, final int numberOfPartitions);
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.spark.util.AccumulatorV2;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.ObjectWritable;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+
+/**
+ * An accumulator for {@link MemoryComputeKey} instances that reduce with {@link Operator#sum}, {@link Operator#sumLong},
+ * {@link Operator#min}, {@link Operator#max}, {@link Operator#and} or {@link Operator#or}. {@code long},
+ * {@code double} and {@code boolean} values are held and reduced as primitives so that they are neither boxed per
+ * update nor Gryo serialized (as with {@link MemoryAccumulator}) when they are shipped back to the driver. Any other
+ * value (or a mix of types) falls back to the reducer of the memory key and thus yields the same result as
+ * {@link MemoryAccumulator}.
+ */
+public final class PrimitiveMemoryAccumulator extends AccumulatorV2<Object, Object> {
+
+    private static final byte EMPTY = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte OBJECT = 4;
+
+    private final Operator operator;
+    private byte type = EMPTY;
+    private long longValue;
+    private double doubleValue;
+    private boolean booleanValue;
+    private ObjectWritable<Object> objectValue;
+
+    public PrimitiveMemoryAccumulator(final MemoryComputeKey<?> memoryComputeKey) {
+        if (!isPrimitive(memoryComputeKey))
+            throw new IllegalArgumentException("The memory compute key does not reduce with a primitive operator: " + memoryComputeKey);
+        this.operator = (Operator) memoryComputeKey.getReducer();
+    }
+
+    private PrimitiveMemoryAccumulator(final Operator operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * Determines if the values of the {@link MemoryComputeKey} can be accumulated by a {@link PrimitiveMemoryAccumulator}.
+     */
+    public static boolean isPrimitive(final MemoryComputeKey<?> memoryComputeKey) {
+        final Object reducer = memoryComputeKey.getReducer();
+        return Operator.sum == reducer || Operator.sumLong == reducer ||
+                Operator.min == reducer || Operator.max == reducer ||
+                Operator.and == reducer || Operator.or == reducer;
+    }
+
+    @Override
+    public boolean isZero() {
+        return EMPTY == this.type;
+    }
+
+    @Override
+    public PrimitiveMemoryAccumulator copy() {
+        final PrimitiveMemoryAccumulator copy = new PrimitiveMemoryAccumulator(this.operator);
+        copy.type = this.type;
+        copy.longValue = this.longValue;
+        copy.doubleValue = this.doubleValue;
+        copy.booleanValue = this.booleanValue;
+        copy.objectValue = this.objectValue;
+        return copy;
+    }
+
+    @Override
+    public void reset() {
+        this.type = EMPTY;
+        this.objectValue = null;
+    }
+
+    @Override
+    public void add(final Object value) {
+        if (EMPTY == this.type)
+            this.setValue(value);
+        else if (LONG == this.type && value instanceof Long)
+            this.longValue = this.reduce(this.longValue, (long) value);
+        else if (DOUBLE == this.type && value instanceof Double)
+            this.doubleValue = this.reduce(this.doubleValue, (double) value);
+        else if (BOOLEAN == this.type && value instanceof Boolean)
+            this.booleanValue = Operator.and == this.operator ? this.booleanValue && (boolean) value : this.booleanValue || (boolean) value;
+        else
+            this.setValue(this.operator.apply(this.value(), value));
+    }
+
+    @Override
+    public void merge(final AccumulatorV2<Object, Object> other) {
+        if (!other.isZero())
+            this.add(other.value());
+    }
+
+    @Override
+    public Object value() {
+        switch (this.type) {
+            case LONG:
+                return this.longValue;
+            case DOUBLE:
+                return this.doubleValue;
+            case BOOLEAN:
+                return this.booleanValue;
+            case OBJECT:
+                return this.objectValue.get();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Replaces the accumulated value, where a {@code null} value empties the accumulator.
+     */
+    public void setValue(final Object value) {
+        this.objectValue = null;
+        if (null == value)
+            this.type = EMPTY;
+        else if (value instanceof Long) {
+            this.type = LONG;
+            this.longValue = (long) value;
+        } else if (value instanceof Double) {
+            this.type = DOUBLE;
+            this.doubleValue = (double) value;
+        } else if (value instanceof Boolean) {
+            this.type = BOOLEAN;
+            this.booleanValue = (boolean) value;
+        } else {
+            this.type = OBJECT;
+            this.objectValue = new ObjectWritable<>(value);
+        }
+    }
+
+    private long reduce(final long a, final long b) {
+        switch (this.operator) {
+            case min:
+                return a <= b ? a : b;
+            case max:
+                return a >= b ? a : b;
+            case sum:
+            case sumLong:
+                return a + b;
+            default:
+                return (long) this.operator.apply(a, b);
+        }
+    }
+
+    // mirrors NumberHelper in that NaN is not considered a number by min() and max()
+    private double reduce(final double a, final double b) {
+        switch (this.operator) {
+            case min:
+                return Double.isNaN(a) ? b : Double.isNaN(b) ? a : a <= b ? a : b;
+            case max:
+                return Double.isNaN(a) ? b : Double.isNaN(b) ? a : a >= b ? a : b;
+            case sum:
+                return a + b;
+            default:
+                return (double) this.operator.apply(a, b);
+        }
+    }
+}
@@ -20,9 +20,12 @@ package org.apache.tinkerpop.gremlin.spark.process.computer;
 
 import org.apache.spark.api.java.Optional;
 import org.apache.commons.configuration.Configuration;
+import org.apache.spark.Partitioner;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.function.Function2;
 import org.apache.spark.api.java.function.PairFlatMapFunction;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
 import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
@@ -85,6 +88,8 @@ public final class SparkExecutor {
 
         if (partitionedGraphRDD && null != viewIncomingRDD) // the graphRDD and the viewRDD must have the same partitioner
             assert graphRDD.partitioner().get().equals(viewIncomingRDD.partitioner().get());
+        final VertexProgram<M> masterVertexProgram = VertexProgram.createVertexProgram(HadoopGraph.open(vertexProgramConfiguration), vertexProgramConfiguration);
+        final boolean activateHaltedVertices = masterVertexProgram.activateHaltedVertices(memory.asImmutable()); // determines if vertices that voted to halt are executed
         final JavaPairRDD<Object, ViewOutgoingPayload<M>> viewOutgoingRDD = ((null == viewIncomingRDD) ?
                 graphRDD.mapValues(vertexWritable -> new Tuple2<>(vertexWritable, Optional.<ViewIncomingPayload<M>>absent())) : // first iteration will not have any views or messages
                 graphRDD.leftOuterJoin(viewIncomingRDD))                                                   // every other iteration may have views and messages
@@ -104,6 +109,12 @@ public final class SparkExecutor {
                     return IteratorUtils.map(partitionIterator, vertexViewIncoming -> {
                         final StarGraph.StarVertex vertex = vertexViewIncoming._2()._1().get(); // get the vertex from the vertex writable
                         final boolean hasViewAndMessages = vertexViewIncoming._2()._2().isPresent(); // if this is the first iteration, then there are no views or messages
+                        // skip vertices that voted to halt and have not been sent a message since (their view is passed along as is)
+                        if (hasViewAndMessages && !activateHaltedVertices && vertexViewIncoming._2()._2().get().isHalted() && vertexViewIncoming._2()._2().get().getIncomingMessages().isEmpty()) {
+                            if (!partitionIterator.hasNext())
+                                workerVertexProgram.workerIterationEnd(memory.asImmutable()); // if no more vertices in the partition, end the worker's iteration
+                            return new Tuple2<>(vertex.id(), new ViewOutgoingPayload<M>(vertexViewIncoming._2()._2().get().getView(), Collections.emptyList(), true));
+                        }
                         final List<DetachedVertexProperty<Object>> previousView = hasViewAndMessages ? vertexViewIncoming._2()._2().get().getView() : memory.isInitialIteration() ? new ArrayList<>() : Collections.emptyList();
                         // revive compute properties if they already exist
                         if (memory.isInitialIteration() && vertexComputeKeysArray.length > 0)
@@ -127,9 +138,9 @@ public final class SparkExecutor {
                         final List<Tuple2<Object, M>> outgoingMessages = messenger.getOutgoingMessages(); // get the outgoing messages being sent by this vertex
                         if (!partitionIterator.hasNext())
                             workerVertexProgram.workerIterationEnd(memory.asImmutable()); // if no more vertices in the partition, end the worker's iteration
-                        return (nextView.isEmpty() && outgoingMessages.isEmpty()) ?
-                                null : // if there is no view nor outgoing messages, emit nothing
-                                new Tuple2<>(vertex.id(), new ViewOutgoingPayload<>(nextView, outgoingMessages));  // else, emit the vertex id, its view, and its outgoing messages
+                        return (nextView.isEmpty() && outgoingMessages.isEmpty() && !messenger.isHalted()) ?
+                                null : // if there is no view nor outgoing messages nor vote to halt, emit nothing
+                                new Tuple2<>(vertex.id(), new ViewOutgoingPayload<>(nextView, outgoingMessages, messenger.isHalted()));  // else, emit the vertex id, its view, its outgoing messages and its vote to halt
                     });
                 }, true)  // true means that the partition is preserved
                 .filter(tuple -> null != tuple); // if there are no messages or views, then the tuple is null (memory optimization)
@@ -139,10 +150,12 @@ public final class SparkExecutor {
         /////////////////////////////////////////////////////////////
         /////////////////////////////////////////////////////////////
         final PairFlatMapFunction<Tuple2<Object, ViewOutgoingPayload<M>>, Object, Payload> messageFunction =
+                tuple -> IteratorUtils.map(tuple._2().getOutgoingMessages().iterator(), message -> new Tuple2<>(message._1(), new MessagePayload<>(message._2())));
+        final PairFlatMapFunction<Tuple2<Object, ViewOutgoingPayload<M>>, Object, Payload> viewAndMessageFunction =
                 tuple -> IteratorUtils.concat(
                         IteratorUtils.of(new Tuple2<>(tuple._1(), tuple._2().getView())),      // emit the view payload
-                        IteratorUtils.map(tuple._2().getOutgoingMessages().iterator(), message -> new Tuple2<>(message._1(), new MessagePayload<>(message._2()))));
-        final MessageCombiner<M> messageCombiner = VertexProgram.<VertexProgram<M>>createVertexProgram(HadoopGraph.open(vertexProgramConfiguration), vertexProgramConfiguration).getMessageCombiner().orElse(null);
+                        messageFunction.call(tuple));
+        final MessageCombiner<M> messageCombiner = masterVertexProgram.getMessageCombiner().orElse(null);
         final Function2<Payload, Payload, Payload> reducerFunction = (a, b) -> {      // reduce the view and outgoing messages into a single payload object representing the new view and incoming messages for a vertex
             if (a instanceof ViewIncomingPayload) {
                 ((ViewIncomingPayload<M>) a).mergePayload(b, messageCombiner);
@@ -159,19 +172,43 @@ public final class SparkExecutor {
         };
         /////////////////////////////////////////////////////////////
         /////////////////////////////////////////////////////////////
-        // "message pass" by reducing on the vertex object id of the view and message payloads
-        final JavaPairRDD<Object, ViewIncomingPayload<M>> newViewIncomingRDD =
-                (partitionedGraphRDD ?
-                        viewOutgoingRDD.flatMapToPair(messageFunction).reduceByKey(graphRDD.partitioner().get(), reducerFunction) :
-                        viewOutgoingRDD.flatMapToPair(messageFunction).reduceByKey(reducerFunction))
-                        .mapValues(payload -> { // handle various corner cases of when views don't exist, messages don't exist, or neither exists.
-                            if (payload instanceof ViewIncomingPayload) // this happens if there is a vertex view with incoming messages
-                                return (ViewIncomingPayload<M>) payload;
-                            else if (payload instanceof ViewPayload)    // this happens if there is a vertex view with no incoming messages
-                                return new ViewIncomingPayload<>((ViewPayload) payload);
-                            else                                        // this happens when there is a single message to a vertex that has no view or outgoing messages
-                                return new ViewIncomingPayload<>((MessagePayload<M>) payload);
-                        });
+        final JavaPairRDD<Object, ViewIncomingPayload<M>> newViewIncomingRDD;
+        if (partitionedGraphRDD) {
+            // the views are already in the partition of their vertex so only the messages are shuffled. the view and
+            // the messages of a vertex are then joined without a shuffle as both rdds have the graphRDD partitioner.
+            // the viewOutgoingRDD is read twice (for views and messages) and must be cached as executing the vertex
+            // program more than once per iteration would corrupt the memory.
+            final Partitioner partitioner = graphRDD.partitioner().get();
+            final StorageLevel viewStorageLevel = StorageLevel.fromString(graphComputerConfiguration.getString(Constants.GREMLIN_SPARK_VIEW_STORAGE_LEVEL, "MEMORY_AND_DISK"));
+            viewOutgoingRDD.persist(viewStorageLevel);
+            final JavaPairRDD<Object, ViewPayload> viewRDD = viewOutgoingRDD
+                    .mapValues(ViewOutgoingPayload::getView)
+                    .filter(tuple -> !tuple._2().getView().isEmpty() || tuple._2().isHalted());
+            final JavaPairRDD<Object, Payload> incomingRDD = viewOutgoingRDD.flatMapToPair(messageFunction).reduceByKey(partitioner, reducerFunction);
+            newViewIncomingRDD = viewRDD.fullOuterJoin(incomingRDD, partitioner)
+                    .mapValues(tuple -> {
+                        if (!tuple._2().isPresent()) // this happens if there is a vertex view with no incoming messages
+                            return new ViewIncomingPayload<M>(tuple._1().get());
+                        final ViewIncomingPayload<M> viewIncomingPayload = tuple._2().get() instanceof ViewIncomingPayload ?
+                                (ViewIncomingPayload<M>) tuple._2().get() :                 // this happens if there are many messages to a vertex
+                                new ViewIncomingPayload<>((MessagePayload<M>) tuple._2().get()); // this happens if there is a single message to a vertex
+                        if (tuple._1().isPresent())
+                            viewIncomingPayload.mergePayload(tuple._1().get(), messageCombiner);
+                        return viewIncomingPayload;
+                    })
+                    .persist(viewStorageLevel);
+        } else {
+            // "message pass" by reducing on the vertex object id of the view and message payloads
+            newViewIncomingRDD = viewOutgoingRDD.flatMapToPair(viewAndMessageFunction).reduceByKey(reducerFunction)
+                    .mapValues(payload -> { // handle various corner cases of when views don't exist, messages don't exist, or neither exists.
+                        if (payload instanceof ViewIncomingPayload) // this happens if there is a vertex view with incoming messages
+                            return (ViewIncomingPayload<M>) payload;
+                        else if (payload instanceof ViewPayload)    // this happens if there is a vertex view with no incoming messages
+                            return new ViewIncomingPayload<>((ViewPayload) payload);
+                        else                                        // this happens when there is a single message to a vertex that has no view or outgoing messages
+                            return new ViewIncomingPayload<>((MessagePayload<M>) payload);
+                    });
+        }
         // the graphRDD and the viewRDD must have the same partitioner
         if (partitionedGraphRDD)
             assert graphRDD.partitioner().get().equals(newViewIncomingRDD.partitioner().get());
@@ -179,6 +216,12 @@ public final class SparkExecutor {
                 .foreachPartition(partitionIterator -> {
                     KryoShimServiceLoader.applyConfiguration(graphComputerConfiguration);
                 }); // need to complete a task so its BSP and the memory for this iteration is updatedß
+        // the new views are cached so the views of the previous iteration are no longer needed
+        if (partitionedGraphRDD) {
+            viewOutgoingRDD.unpersist(false);
+            if (null != viewIncomingRDD)
+                viewIncomingRDD.unpersist(false);
+        }
         return newViewIncomingRDD;
     }
 
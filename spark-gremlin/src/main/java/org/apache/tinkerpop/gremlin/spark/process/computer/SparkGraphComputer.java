@@ -87,11 +87,13 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 
+import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_GRAPH_PARTITIONER;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_GRAPH_STORAGE_LEVEL;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_PERSIST_CONTEXT;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_PERSIST_STORAGE_LEVEL;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_SKIP_GRAPH_CACHE;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_SKIP_PARTITIONER;
+import static org.apache.tinkerpop.gremlin.hadoop.Constants.GREMLIN_SPARK_VIEW_STORAGE_LEVEL;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.SPARK_KRYO_REGISTRATION_REQUIRED;
 import static org.apache.tinkerpop.gremlin.hadoop.Constants.SPARK_SERIALIZER;
 
@@ -182,6 +184,14 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
         return configure(GREMLIN_SPARK_SKIP_PARTITIONER, skip);
     }
 
+    /**
+     * Specifies the {@link GraphPartitioner} that creates the partitioner of the graph RDD. By default, the graph RDD
+     * is partitioned with a {@code org.apache.spark.HashPartitioner}.
+     */
+    public SparkGraphComputer graphPartitioner(final Class<? extends GraphPartitioner> graphPartitioner) {
+        return configure(GREMLIN_SPARK_GRAPH_PARTITIONER, graphPartitioner.getName());
+    }
+
     /**
      * Determines if the graph RDD should be cached or not. If {@code true} then
      * {@link #graphStorageLevel(StorageLevel)} is ignored. By default, this value is {@code false}.
@@ -214,6 +224,16 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
         return configure(SPARK_KRYO_REGISTRATION_REQUIRED, required);
     }
 
+    @Override
+    public Features features() {
+        return new Features() {
+            @Override
+            public boolean supportsVoteToHalt() {
+                return true;
+            }
+        };
+    }
+
     @Override
     public Future<ComputerResult> submit() {
         this.validateStatePriorToExecution();
@@ -338,12 +358,15 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                     this.logger.debug("Filtering the loaded graphRDD: " + this.graphFilter);
                     loadedGraphRDD = SparkExecutor.applyGraphFilter(loadedGraphRDD, this.graphFilter);
                 }
-                // if the loaded graph RDD is already partitioned use that partitioner, else partition it with HashPartitioner
+                // if the loaded graph RDD is already partitioned use that partitioner, else partition it with the configured GraphPartitioner or HashPartitioner
                 if (loadedGraphRDD.partitioner().isPresent())
                     this.logger.debug("Using the existing partitioner associated with the loaded graphRDD: " + loadedGraphRDD.partitioner().get());
                 else {
                     if (!skipPartitioner) {
-                        final Partitioner partitioner = new HashPartitioner(this.workersSet ? this.workers : loadedGraphRDD.partitions().size());
+                        final int numberOfPartitions = this.workersSet ? this.workers : loadedGraphRDD.partitions().size();
+                        final Partitioner partitioner = graphComputerConfiguration.containsKey(GREMLIN_SPARK_GRAPH_PARTITIONER) ?
+                                createGraphPartitioner(graphComputerConfiguration).createPartitioner(graphComputerConfiguration, loadedGraphRDD, numberOfPartitions) :
+                                new HashPartitioner(numberOfPartitions);
                         this.logger.debug("Partitioning the loaded graphRDD: " + partitioner);
                         loadedGraphRDD = loadedGraphRDD.partitionBy(partitioner);
                         partitioned = true;
@@ -366,6 +389,8 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
 
                 // final graph with view (for persisting and/or mapReducing -- may be null and thus, possible to save space/time)
                 JavaPairRDD<Object, VertexWritable> computedGraphRDD = null;
+                // the views of the final iteration (cached when the loaded graph is partitioned)
+                JavaPairRDD<Object, ViewIncomingPayload<Object>> viewIncomingRDD = null;
                 ////////////////////////////////
                 // process the vertex program //
                 ////////////////////////////////
@@ -387,8 +412,10 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                         this.vertexProgram.storeState(vertexProgramConfiguration);
                         // set up the vertex program and wire up configurations
                         this.vertexProgram.setup(memory);
-                        JavaPairRDD<Object, ViewIncomingPayload<Object>> viewIncomingRDD = null;
                         memory.broadcastMemory(sparkContext);
+                        // the views of a partitioned graph are cached as recomputing them would execute the vertex program twice
+                        if (loadedGraphRDD.partitioner().isPresent())
+                            checkViewStorageLevel(graphComputerConfiguration);
                         // execute the vertex program
                         while (true) {
                             if (Thread.interrupted()) {
@@ -420,6 +447,9 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                     if (null != outputRDD && !this.persist.equals(Persist.NOTHING)) {
                         assert null != computedGraphRDD; // the logic holds that a computeGraphRDD must be created at this point
                         outputRDD.writeGraphRDD(graphComputerConfiguration, computedGraphRDD);
+                        // a persisted computed graph is lazily computed from the cached views, so compute it before the views are unpersisted
+                        if (outputToSpark && null != viewIncomingRDD && !viewIncomingRDD.getStorageLevel().equals(StorageLevel.NONE()))
+                            Spark.getRDD(Constants.getGraphLocation(outputLocation)).count();
                     }
                 }
 
@@ -478,6 +508,9 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
                 // if the computed graph is the loadedGraphRDD because it was not mutated and not-unpersisted, then don't unpersist the computedGraphRDD/loadedGraphRDD
                 if ((!outputToSpark || this.persist.equals(GraphComputer.Persist.NOTHING)) && computedGraphCreated)
                     computedGraphRDD.unpersist();
+                // unpersist the views of the final iteration as they are no longer needed
+                if (null != viewIncomingRDD)
+                    viewIncomingRDD.unpersist();
                 // delete any file system or rdd data if persist nothing
                 if (null != outputLocation && this.persist.equals(GraphComputer.Persist.NOTHING)) {
                     if (outputToHDFS)
@@ -510,6 +543,23 @@ public final class SparkGraphComputer extends AbstractHadoopGraphComputer {
         sparkContext.addJar(file.getAbsolutePath());
     }
 
+    private void checkViewStorageLevel(final org.apache.commons.configuration.Configuration configuration) {
+        final StorageLevel viewStorageLevel = StorageLevel.fromString(configuration.getString(GREMLIN_SPARK_VIEW_STORAGE_LEVEL, "MEMORY_AND_DISK"));
+        if (viewStorageLevel.equals(StorageLevel.NONE()))
+            throw new IllegalArgumentException("The vertex program views must be cached so " + GREMLIN_SPARK_VIEW_STORAGE_LEVEL + " can not be NONE");
+        if (!viewStorageLevel.useDisk())
+            this.logger.warn("The vertex program views are cached with " + GREMLIN_SPARK_VIEW_STORAGE_LEVEL + " " + viewStorageLevel.description() +
+                    " and views evicted from memory are recomputed, which executes the vertex program twice and corrupts its memory");
+    }
+
+    private static GraphPartitioner createGraphPartitioner(final org.apache.commons.configuration.Configuration configuration) {
+        try {
+            return (GraphPartitioner) Class.forName(configuration.getString(GREMLIN_SPARK_GRAPH_PARTITIONER)).newInstance();
+        } catch (final ClassNotFoundException | IllegalAccessException | InstantiationException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     /**
      * When using a persistent context the running Context's configuration will override a passed
      * in configuration. Spark allows us to override these inherited properties via
@@ -47,9 +47,11 @@ public final class SparkMemory implements Memory.Admin, Serializable {
 
     public final Map<String, MemoryComputeKey> memoryComputeKeys = new HashMap<>();
     private final Map<String, Accumulator<ObjectWritable>> sparkMemory = new HashMap<>();
+    private final Map<String, PrimitiveMemoryAccumulator> primitiveMemory = new HashMap<>();
+    private final UpdatedKeysAccumulator updatedKeys = new UpdatedKeysAccumulator();
     private final AtomicInteger iteration = new AtomicInteger(0);
     private final AtomicLong runtime = new AtomicLong(0l);
-    private Broadcast<Map<String, Object>> broadcast;
+    private final Map<String, Broadcast<Object>> broadcasts = new HashMap<>();
     private boolean inExecute = false;
 
     public SparkMemory(final VertexProgram<?> vertexProgram, final Set<MapReduce> mapReducers, final JavaSparkContext sparkContext) {
@@ -62,23 +64,33 @@ public final class SparkMemory implements Memory.Admin, Serializable {
             this.memoryComputeKeys.put(mapReduce.getMemoryKey(), MemoryComputeKey.of(mapReduce.getMemoryKey(), Operator.assign, false, false));
         }
         for (final MemoryComputeKey memoryComputeKey : this.memoryComputeKeys.values()) {
-            this.sparkMemory.put(
-                    memoryComputeKey.getKey(),
-                    sparkContext.accumulator(ObjectWritable.empty(), memoryComputeKey.getKey(), new MemoryAccumulator<>(memoryComputeKey)));
+            if (PrimitiveMemoryAccumulator.isPrimitive(memoryComputeKey)) {
+                final PrimitiveMemoryAccumulator accumulator = new PrimitiveMemoryAccumulator(memoryComputeKey);
+                sparkContext.sc().register(accumulator, memoryComputeKey.getKey());
+                this.primitiveMemory.put(memoryComputeKey.getKey(), accumulator);
+            } else {
+                this.sparkMemory.put(
+                        memoryComputeKey.getKey(),
+                        sparkContext.accumulator(ObjectWritable.empty(), memoryComputeKey.getKey(), new MemoryAccumulator<>(memoryComputeKey)));
+            }
         }
-        this.broadcast = sparkContext.broadcast(Collections.emptyMap());
+        sparkContext.sc().register(this.updatedKeys);
     }
 
     @Override
     public Set<String> keys() {
         if (this.inExecute)
-            return this.broadcast.getValue().keySet();
+            return Collections.unmodifiableSet(this.broadcasts.keySet());
         else {
             final Set<String> trueKeys = new HashSet<>();
             this.sparkMemory.forEach((key, value) -> {
                 if (!value.value().isEmpty())
                     trueKeys.add(key);
             });
+            this.primitiveMemory.forEach((key, value) -> {
+                if (!value.isZero())
+                    trueKeys.add(key);
+            });
             return Collections.unmodifiableSet(trueKeys);
         }
     }
@@ -114,19 +126,32 @@ public final class SparkMemory implements Memory.Admin, Serializable {
             throw Memory.Exceptions.memoryDoesNotExist(key);
         if (this.inExecute && !this.memoryComputeKeys.get(key).isBroadcast())
             throw Memory.Exceptions.memoryDoesNotExist(key);
-        final ObjectWritable<R> r = (ObjectWritable<R>) (this.inExecute ? this.broadcast.value().get(key) : this.sparkMemory.get(key).value());
-        if (null == r || r.isEmpty())
+        final Object r;
+        if (this.inExecute) {
+            final Broadcast<Object> broadcast = this.broadcasts.get(key);
+            r = null == broadcast ? null : broadcast.value() instanceof ObjectWritable ? ((ObjectWritable) broadcast.value()).get() : broadcast.value();
+        } else {
+            r = this.getValue(key);
+            // the master may mutate the returned value in place so it has to be re-broadcast
+            if (!this.primitiveMemory.containsKey(key))
+                this.updatedKeys.add(key);
+        }
+        if (null == r)
             throw Memory.Exceptions.memoryDoesNotExist(key);
         else
-            return r.get();
+            return (R) r;
     }
 
     @Override
     public void add(final String key, final Object value) {
         checkKeyValue(key, value);
-        if (this.inExecute)
-            this.sparkMemory.get(key).add(new ObjectWritable<>(value));
-        else
+        if (this.inExecute) {
+            if (this.primitiveMemory.containsKey(key))
+                this.primitiveMemory.get(key).add(value);
+            else
+                this.sparkMemory.get(key).add(new ObjectWritable<>(value));
+            this.updatedKeys.add(key);
+        } else
             throw Memory.Exceptions.memoryAddOnlyDuringVertexProgramExecute(key);
     }
 
@@ -135,8 +160,13 @@ public final class SparkMemory implements Memory.Admin, Serializable {
         checkKeyValue(key, value);
         if (this.inExecute)
             throw Memory.Exceptions.memorySetOnlyDuringVertexProgramSetUpAndTerminate(key);
-        else
-            this.sparkMemory.get(key).setValue(new ObjectWritable<>(value));
+        else {
+            if (this.primitiveMemory.containsKey(key))
+                this.primitiveMemory.get(key).setValue(value);
+            else
+                this.sparkMemory.get(key).setValue(new ObjectWritable<>(value));
+            this.updatedKeys.add(key);
+        }
     }
 
     @Override
@@ -145,21 +175,42 @@ public final class SparkMemory implements Memory.Admin, Serializable {
     }
 
     protected void complete() {
-        this.memoryComputeKeys.values().stream().filter(MemoryComputeKey::isTransient).forEach(memoryComputeKey -> this.sparkMemory.remove(memoryComputeKey.getKey()));
+        this.memoryComputeKeys.values().stream().filter(MemoryComputeKey::isTransient).forEach(memoryComputeKey -> {
+            this.sparkMemory.remove(memoryComputeKey.getKey());
+            this.primitiveMemory.remove(memoryComputeKey.getKey());
+        });
     }
 
     public void setInExecute(final boolean inExecute) {
         this.inExecute = inExecute;
     }
 
+    /**
+     * Broadcasts the values of the broadcast memory keys that have been added to, set or read by the master since the
+     * last broadcast. Every key has its own {@link Broadcast} so that the values of the other keys are not serialized
+     * and shipped to the workers again.
+     */
     protected void broadcastMemory(final JavaSparkContext sparkContext) {
-        this.broadcast.destroy(true); // do we need to block?
-        final Map<String, Object> toBroadcast = new HashMap<>();
-        this.sparkMemory.forEach((key, object) -> {
-            if (!object.value().isEmpty() && this.memoryComputeKeys.get(key).isBroadcast())
-                toBroadcast.put(key, object.value());
-        });
-        this.broadcast = sparkContext.broadcast(toBroadcast);
+        for (final String key : this.updatedKeys.value()) {
+            if (!this.memoryComputeKeys.get(key).isBroadcast())
+                continue;
+            final Broadcast<Object> previous = this.broadcasts.remove(key);
+            if (null != previous)
+                previous.destroy(true); // do we need to block?
+            final Object value = this.getValue(key);
+            if (null != value)
+                this.broadcasts.put(key, sparkContext.broadcast(value instanceof Long || value instanceof Double || value instanceof Boolean ?
+                        value :
+                        new ObjectWritable<>(value)));
+        }
+        this.updatedKeys.reset();
+    }
+
+    private Object getValue(final String key) {
+        if (this.primitiveMemory.containsKey(key))
+            return this.primitiveMemory.get(key).value();
+        final Accumulator<ObjectWritable> accumulator = this.sparkMemory.get(key);
+        return null == accumulator ? null : accumulator.value().get();
     }
 
     private void checkKeyValue(final String key, final Object value) {
@@ -42,17 +42,23 @@ public final class SparkMessenger<M> implements Messenger<M> {
     private Vertex vertex;
     private Iterable<M> incomingMessages;
     private List<Tuple2<Object, M>> outgoingMessages = new ArrayList<>();
+    private boolean halted = false;
 
     public void setVertexAndIncomingMessages(final Vertex vertex, final Iterable<M> incomingMessages) {
         this.vertex = vertex;
         this.incomingMessages = incomingMessages;
         this.outgoingMessages = new ArrayList<>();
+        this.halted = false;
     }
 
     public List<Tuple2<Object, M>> getOutgoingMessages() {
         return this.outgoingMessages;
     }
 
+    public boolean isHalted() {
+        return this.halted;
+    }
+
     @Override
     public Iterator<M> receiveMessages() {
         return IteratorUtils.removeOnNext(this.incomingMessages.iterator());
@@ -79,6 +85,11 @@ public final class SparkMessenger<M> implements Messenger<M> {
         }
     }
 
+    @Override
+    public void voteToHalt() {
+        this.halted = true;
+    }
+
     ///////////
 
     private static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.spark.util.AccumulatorV2;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Collects the memory keys that have been updated so that {@link SparkMemory} only needs to re-broadcast those keys.
+ */
+public final class UpdatedKeysAccumulator extends AccumulatorV2<String, Set<String>> {
+
+    private Set<String> keys = new HashSet<>();
+
+    @Override
+    public boolean isZero() {
+        return this.keys.isEmpty();
+    }
+
+    @Override
+    public UpdatedKeysAccumulator copy() {
+        final UpdatedKeysAccumulator copy = new UpdatedKeysAccumulator();
+        copy.keys.addAll(this.keys);
+        return copy;
+    }
+
+    @Override
+    public void reset() {
+        this.keys = new HashSet<>();
+    }
+
+    @Override
+    public void add(final String key) {
+        this.keys.add(key);
+    }
+
+    @Override
+    public void merge(final AccumulatorV2<String, Set<String>> other) {
+        this.keys.addAll(other.value());
+    }
+
+    @Override
+    public Set<String> value() {
+        return this.keys;
+    }
+}
@@ -32,6 +32,7 @@ public final class ViewIncomingPayload<M> implements Payload {
 
     private List<DetachedVertexProperty<Object>> view = null;
     private List<M> incomingMessages;
+    private boolean halted = false;
 
 
     private ViewIncomingPayload() {
@@ -47,6 +48,7 @@ public final class ViewIncomingPayload<M> implements Payload {
         this.view = viewPayload.getView();
         if (this.view.isEmpty())
             this.view = null;
+        this.halted = viewPayload.isHalted();
     }
 
     public ViewIncomingPayload(final MessagePayload<M> messagePayload) {
@@ -68,6 +70,10 @@ public final class ViewIncomingPayload<M> implements Payload {
         return null != this.view;
     }
 
+    public boolean isHalted() {
+        return this.halted;
+    }
+
     ////////////////////
 
 
@@ -83,6 +89,7 @@ public final class ViewIncomingPayload<M> implements Payload {
             this.view = viewIncomingPayload.view;
         else
             this.view.addAll(viewIncomingPayload.getView());
+        this.halted = this.halted || viewIncomingPayload.halted;
 
         for (final M message : viewIncomingPayload.getIncomingMessages()) {
             this.mergeMessage(message, messageCombiner);
@@ -92,9 +99,10 @@ public final class ViewIncomingPayload<M> implements Payload {
     public void mergePayload(final Payload payload, final MessageCombiner<M> messageCombiner) {
         if (null == payload)
             return;
-        if (payload instanceof ViewPayload)
+        if (payload instanceof ViewPayload) {
             this.view = ((ViewPayload) payload).getView();
-        else if (payload instanceof MessagePayload)
+            this.halted = ((ViewPayload) payload).isHalted();
+        } else if (payload instanceof MessagePayload)
             this.mergeMessage(((MessagePayload<M>) payload).getMessage(), messageCombiner);
         else if (payload instanceof ViewIncomingPayload)
             this.mergeViewIncomingPayload((ViewIncomingPayload<M>) payload, messageCombiner);
@@ -29,15 +29,25 @@ import java.util.List;
 public final class ViewPayload implements Payload {
 
     private List<DetachedVertexProperty<Object>> view;
+    private boolean halted;
 
     private ViewPayload() {
     }
 
     public ViewPayload(final List<DetachedVertexProperty<Object>> view) {
+        this(view, false);
+    }
+
+    public ViewPayload(final List<DetachedVertexProperty<Object>> view, final boolean halted) {
         this.view = view;
+        this.halted = halted;
     }
 
     public List<DetachedVertexProperty<Object>> getView() {
         return null == this.view ? Collections.emptyList() : this.view;
     }
+
+    public boolean isHalted() {
+        return this.halted;
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoInputFormat;
+import org.apache.tinkerpop.gremlin.process.computer.Computer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.spark.AbstractSparkTest;
+import org.apache.tinkerpop.gremlin.spark.structure.Spark;
+import org.apache.tinkerpop.gremlin.spark.structure.io.InputFormatRDD;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+import scala.Tuple2;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DegreeAwareGraphPartitionerTest extends AbstractSparkTest {
+
+    private Configuration getGratefulDeadConfiguration() {
+        final Configuration configuration = getBaseConfiguration();
+        final String inputLocation = SparkHadoopGraphProvider.PATHS.get("grateful-dead-v3d0.kryo");
+        configuration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, inputLocation);
+        configuration.setProperty(Constants.MAPREDUCE_INPUT_FILEINPUTFORMAT_INPUTDIR, inputLocation);
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_READER, GryoInputFormat.class.getCanonicalName());
+        return configuration;
+    }
+
+    private static long[] getPartitionWeights(final List<Tuple2<Object, Long>> weights, final Partitioner partitioner) {
+        final long[] partitionWeights = new long[partitioner.numPartitions()];
+        for (final Tuple2<Object, Long> weight : weights) {
+            partitionWeights[partitioner.getPartition(weight._1())] += weight._2();
+        }
+        return partitionWeights;
+    }
+
+    @Test
+    public void shouldBalancePartitionsByEdgeCount() {
+        final Configuration configuration = getGratefulDeadConfiguration();
+        configuration.setProperty(Constants.GREMLIN_SPARK_GRAPH_PARTITIONER_MAX_ASSIGNED_VERTICES, 50);
+        final JavaSparkContext sparkContext = new JavaSparkContext(Spark.create(configuration));
+        final JavaPairRDD<Object, VertexWritable> graphRDD = new InputFormatRDD().readGraphRDD(configuration, sparkContext);
+        final List<Tuple2<Object, Long>> weights = graphRDD.mapValues(vertexWritable -> 1L + IteratorUtils.count(vertexWritable.get().edges(Direction.BOTH))).collect();
+
+        final DegreeAwareGraphPartitioner.DegreeAwarePartitioner partitioner =
+                (DegreeAwareGraphPartitioner.DegreeAwarePartitioner) new DegreeAwareGraphPartitioner().createPartitioner(configuration, graphRDD, 7);
+        assertEquals(7, partitioner.numPartitions());
+        assertFalse(partitioner.getAssignments().isEmpty());
+        assertTrue(partitioner.getAssignments().size() <= 50);
+        final long[] hashWeights = getPartitionWeights(weights, new HashPartitioner(7));
+        final long[] degreeAwareWeights = getPartitionWeights(weights, partitioner);
+        assertEquals(Arrays.stream(hashWeights).sum(), Arrays.stream(degreeAwareWeights).sum());
+        assertTrue(Arrays.stream(degreeAwareWeights).max().getAsLong() <= Arrays.stream(hashWeights).max().getAsLong());
+        assertTrue(Arrays.stream(degreeAwareWeights).max().getAsLong() - Arrays.stream(degreeAwareWeights).min().getAsLong() <=
+                Arrays.stream(hashWeights).max().getAsLong() - Arrays.stream(hashWeights).min().getAsLong());
+        // the partitioner is deterministic so that graph and view RDDs remain co-partitioned
+        assertEquals(partitioner, new DegreeAwareGraphPartitioner().createPartitioner(configuration, graphRDD, 7));
+    }
+
+    @Test
+    public void shouldComputeSameResultsAsHashPartitioner() {
+        final Configuration configuration = getGratefulDeadConfiguration();
+        final Graph graph = GraphFactory.open(configuration);
+        final GraphTraversalSource hashed = graph.traversal().withComputer(SparkGraphComputer.class);
+        final GraphTraversalSource degreeAware = graph.traversal().withComputer(Computer.compute(SparkGraphComputer.class)
+                .configure(Constants.GREMLIN_SPARK_GRAPH_PARTITIONER, DegreeAwareGraphPartitioner.class.getName())
+                .configure(Constants.GREMLIN_SPARK_GRAPH_PARTITIONER_MAX_ASSIGNED_VERTICES, 25)
+                .workers(3));
+        assertEquals(hashed.V().repeat(out()).times(2).count().next(), degreeAware.V().repeat(out()).times(2).count().next());
+        assertEquals(hashed.V().both().groupCount().by(T.label).next(), degreeAware.V().both().groupCount().by(T.label).next());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveMemoryAccumulatorTest {
+
+    private static Object accumulate(final Operator operator, final Object... values) {
+        final MemoryComputeKey<?> memoryComputeKey = MemoryComputeKey.of("key", operator, true, false);
+        final PrimitiveMemoryAccumulator accumulator = new PrimitiveMemoryAccumulator(memoryComputeKey);
+        // split the values across two accumulators to exercise merge()
+        final PrimitiveMemoryAccumulator other = accumulator.copy();
+        for (int i = 0; i < values.length; i++) {
+            (0 == i % 2 ? accumulator : other).add(values[i]);
+        }
+        accumulator.merge(other);
+        return accumulator.value();
+    }
+
+    private static Object reduce(final Operator operator, final Object... values) {
+        final List<Object> list = Arrays.asList(values);
+        Object result = list.get(0);
+        for (int i = 1; i < list.size(); i++) {
+            result = operator.apply(result, list.get(i));
+        }
+        return result;
+    }
+
+    @Test
+    public void shouldOnlyAccumulatePrimitiveOperators() {
+        assertTrue(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.sum, true, false)));
+        assertTrue(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.sumLong, true, false)));
+        assertTrue(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.min, true, false)));
+        assertTrue(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.max, true, false)));
+        assertTrue(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.and, true, false)));
+        assertTrue(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.or, true, false)));
+        assertFalse(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.addAll, true, false)));
+        assertFalse(PrimitiveMemoryAccumulator.isPrimitive(MemoryComputeKey.of("key", Operator.assign, true, false)));
+    }
+
+    @Test
+    public void shouldReduceLikeTheOperator() {
+        final List<Object[]> valueSets = Arrays.asList(
+                new Object[]{1l, 5l, -3l, 2l},
+                new Object[]{1.5d, -0.5d, 4.25d},
+                new Object[]{Double.NaN, 2.0d, 1.0d},
+                new Object[]{1l, 2.5d, 3},
+                new Object[]{1, 2, 3},
+                new Object[]{new BigDecimal("1.1"), 2l});
+        for (final Operator operator : Arrays.asList(Operator.sum, Operator.min, Operator.max)) {
+            for (final Object[] values : valueSets) {
+                final Object expected = reduce(operator, values);
+                final Object actual = accumulate(operator, values);
+                assertEquals(operator + Arrays.toString(values), expected.getClass(), actual.getClass());
+                assertEquals(operator + Arrays.toString(values), expected, actual);
+            }
+        }
+        assertEquals(10l, accumulate(Operator.sumLong, 1l, 2l, 3l, 4l));
+        assertEquals(false, accumulate(Operator.and, true, true, false));
+        assertEquals(true, accumulate(Operator.and, true, true));
+        assertEquals(true, accumulate(Operator.or, false, true, false));
+        assertEquals(false, accumulate(Operator.or, false, false));
+    }
+
+    @Test
+    public void shouldSetAndResetValue() {
+        final PrimitiveMemoryAccumulator accumulator = new PrimitiveMemoryAccumulator(MemoryComputeKey.of("key", Operator.sum, true, false));
+        assertTrue(accumulator.isZero());
+        assertNull(accumulator.value());
+        accumulator.setValue(10l);
+        accumulator.add(5l);
+        assertFalse(accumulator.isZero());
+        assertEquals(15l, accumulator.value());
+        // an empty copy (as shipped to the executors) does not change the value when merged back
+        final PrimitiveMemoryAccumulator copy = (PrimitiveMemoryAccumulator) accumulator.copyAndReset();
+        assertTrue(copy.isZero());
+        accumulator.merge(copy);
+        assertEquals(15l, accumulator.value());
+        accumulator.reset();
+        assertTrue(accumulator.isZero());
+        assertNull(accumulator.value());
+    }
+}
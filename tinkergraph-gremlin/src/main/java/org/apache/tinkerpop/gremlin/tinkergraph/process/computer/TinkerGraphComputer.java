@@ -166,11 +166,16 @@ public final class TinkerGraphComputer implements GraphComputer {
                         if (Thread.interrupted()) throw new TraversalInterruptedException();
                         this.memory.completeSubRound();
                         workers.setVertexProgram(this.vertexProgram);
+                        final boolean activateHaltedVertices = this.vertexProgram.activateHaltedVertices(this.memory.asImmutable());
                         workers.executeVertexProgram((vertices, vertexProgram, workerMemory) -> {
                             vertexProgram.workerIterationStart(workerMemory.asImmutable());
                             while (vertices.hasNext()) {
                                 final Vertex vertex = vertices.next();
                                 if (Thread.interrupted()) throw new TraversalInterruptedException();
+                                // skip vertices that voted to halt and have not been sent a message since
+                                if (!activateHaltedVertices && this.messageBoard.haltedVertices.contains(vertex))
+                                    continue;
+                                this.messageBoard.haltedVertices.remove(vertex);
                                 vertexProgram.execute(
                                         ComputerGraph.vertexProgram(vertex, vertexProgram),
                                         new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
@@ -277,6 +282,11 @@ public final class TinkerGraphComputer implements GraphComputer {
                 return Runtime.getRuntime().availableProcessors();
             }
 
+            @Override
+            public boolean supportsVoteToHalt() {
+                return true;
+            }
+
             @Override
             public boolean supportsVertexAddition() {
                 return false;
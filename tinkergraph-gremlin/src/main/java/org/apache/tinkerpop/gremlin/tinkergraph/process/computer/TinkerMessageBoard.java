@@ -19,6 +19,9 @@
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.HashSet;
@@ -36,8 +39,29 @@ final class TinkerMessageBoard<M> {
     public Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
     public Set<MessageScope> previousMessageScopes = new HashSet<>();
     public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    public final Set<Vertex> haltedVertices = ConcurrentHashMap.newKeySet();
 
     public void completeIteration() {
+        // vertices that have been sent a message are no longer halted
+        if (!this.haltedVertices.isEmpty()) {
+            for (final Map.Entry<MessageScope, Map<Vertex, Queue<M>>> entry : this.sendMessages.entrySet()) {
+                if (entry.getKey() instanceof MessageScope.Local) {
+                    // local messages are stored at the sending vertex so determine the receiving vertices from its incident edges
+                    final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) entry.getKey();
+                    for (final Vertex vertex : entry.getValue().keySet()) {
+                        final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), vertex);
+                        final Direction direction = TinkerMessenger.getDirection(incidentTraversal).opposite();
+                        incidentTraversal.forEachRemaining(edge -> {
+                            if (direction.equals(Direction.IN) || direction.equals(Direction.OUT))
+                                this.haltedVertices.remove(edge.vertices(direction).next());
+                            else
+                                this.haltedVertices.remove(edge.outVertex().equals(vertex) ? edge.inVertex() : edge.outVertex());
+                        });
+                    }
+                } else
+                    this.haltedVertices.removeAll(entry.getValue().keySet());
+            }
+        }
         this.receiveMessages = this.sendMessages;
         this.sendMessages = new ConcurrentHashMap<>();
         this.previousMessageScopes = this.currentMessageScopes;
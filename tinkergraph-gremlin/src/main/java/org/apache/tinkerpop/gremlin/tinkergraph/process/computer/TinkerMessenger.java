@@ -116,14 +116,19 @@ public final class TinkerMessenger<M> implements Messenger<M> {
         });
     }
 
+    @Override
+    public void voteToHalt() {
+        this.messageBoard.haltedVertices.add(this.vertex);
+    }
+
     ///////////
 
-    private static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
+    static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
         incidentTraversal.addStart(incidentTraversal.getTraverserGenerator().generate(vertex,incidentTraversal.getStartStep(),1l));
         return (T) incidentTraversal;
     }
 
-    private static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
+    static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
         final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
         return step.getDirection();
     }
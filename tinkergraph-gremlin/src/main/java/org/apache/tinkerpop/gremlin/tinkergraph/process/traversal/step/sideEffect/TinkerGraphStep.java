@@ -19,13 +19,18 @@
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
@@ -34,11 +39,14 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -47,6 +55,7 @@ import java.util.stream.Collectors;
 public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder {
 
     private final List<HasContainer> hasContainers = new ArrayList<>();
+    private Boolean mutating = null;
 
     public TinkerGraphStep(final GraphStep<S, E> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
@@ -61,42 +70,139 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
 
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
         // ids are present, filter on them first
         if (null == this.ids)
             return Collections.emptyIterator();
         else if (this.ids.length > 0)
-            return this.iteratorList(graph.edges(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
-                            .collect(Collectors.<Edge>toList()).iterator();
+            return this.iteratorFilter(graph.edges(this.ids));
+
+        final Iterator<Edge> indexed = this.lookUpIndex(graph, Edge.class);
+        return this.iteratorFilter(null == indexed ? graph.edges() : indexed);
     }
 
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
         // ids are present, filter on them first
         if (null == this.ids)
             return Collections.emptyIterator();
         else if (this.ids.length > 0)
-            return this.iteratorList(graph.vertices(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.vertices()) :
-                    IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).iterator(),
-                            vertex -> HasContainer.testAll(vertex, this.hasContainers));
+            return this.iteratorFilter(graph.vertices(this.ids));
+
+        final Iterator<Vertex> indexed = this.lookUpIndex(graph, Vertex.class);
+        return this.iteratorFilter(null == indexed ? graph.vertices() : indexed);
+    }
+
+    /**
+     * Looks up the index that yields the fewest elements or returns {@code null} if the graph has to be scanned. A
+     * {@link HasContainer} can be answered by the label index or the index of its key if it tests for equality with
+     * a value or for membership in a collection of values, and the number of elements it yields is the sum of the
+     * sizes of the posting lists of those values. A composite index can answer the containers that test each of its
+     * keys for equality. The graph is always scanned in computer mode, as the indices do not know about the elements
+     * that the {@code GraphFilter} of the computer filters out.
+     */
+    private <E extends Element> Iterator<E> lookUpIndex(final TinkerGraph graph, final Class<E> indexedClass) {
+        if (TinkerHelper.inComputerMode(graph))
+            return null;
+
+        final boolean vertices = Vertex.class.isAssignableFrom(indexedClass);
+        Supplier<Iterator<E>> lookUp = null;
+        long smallestCount = Long.MAX_VALUE;
+
+        final Set<String> indexedKeys = graph.getIndexedKeys(indexedClass);
+        for (final HasContainer hasContainer : this.hasContainers) {
+            final Collection<?> values = getIndexValues(hasContainer);
+            if (null == values || !(isLabel(hasContainer) || indexedKeys.contains(hasContainer.getKey())))
+                continue;
+            final String key = hasContainer.getKey();
+            long count = 0;
+            for (final Object value : values) {
+                if (isLabel(hasContainer))
+                    count += vertices ?
+                            TinkerHelper.countVertexLabelIndex(graph, (String) value) :
+                            TinkerHelper.countEdgeLabelIndex(graph, (String) value);
+                else
+                    count += vertices ?
+                            TinkerHelper.countVertexIndex(graph, key, value) :
+                            TinkerHelper.countEdgeIndex(graph, key, value);
+            }
+            if (count < smallestCount) {
+                smallestCount = count;
+                lookUp = () -> IteratorUtils.flatMap(values.iterator(), value -> {
+                    if (isLabel(hasContainer))
+                        return (Iterator<E>) (vertices ?
+                                TinkerHelper.queryVertexLabelIndex(graph, (String) value).iterator() :
+                                TinkerHelper.queryEdgeLabelIndex(graph, (String) value).iterator());
+                    else
+                        return (Iterator<E>) (vertices ?
+                                TinkerHelper.queryVertexIndex(graph, key, value).iterator() :
+                                TinkerHelper.queryEdgeIndex(graph, key, value).iterator());
+                });
+            }
+        }
+
+        for (final List<String> keys : graph.getCompositeIndexedKeys(indexedClass)) {
+            final List<Object> values = getCompositeIndexValues(keys);
+            if (null == values)
+                continue;
+            final long count = vertices ?
+                    TinkerHelper.countVertexCompositeIndex(graph, keys, values) :
+                    TinkerHelper.countEdgeCompositeIndex(graph, keys, values);
+            if (count < smallestCount) {
+                smallestCount = count;
+                lookUp = () -> (Iterator<E>) (vertices ?
+                        TinkerHelper.queryVertexCompositeIndex(graph, keys, values).iterator() :
+                        TinkerHelper.queryEdgeCompositeIndex(graph, keys, values).iterator());
+            }
+        }
+
+        return null == lookUp ? null : lookUp.get();
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
+    /**
+     * The values to look up in a composite index for its keys or {@code null} if a key is not tested for equality.
+     */
+    private List<Object> getCompositeIndexValues(final List<String> keys) {
+        final List<Object> values = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            Object value = null;
+            for (final HasContainer hasContainer : this.hasContainers) {
+                if (hasContainer.getKey().equals(key) && hasContainer.getPredicate().getBiPredicate() == Compare.eq &&
+                        null != hasContainer.getPredicate().getValue()) {
+                    value = hasContainer.getPredicate().getValue();
+                    break;
+                }
+            }
+            if (null == value)
+                return null;
+            values.add(value);
+        }
+        return values;
+    }
 
-        final Iterator<HasContainer> itty = IteratorUtils.filter(hasContainers.iterator(),
-                c -> c.getPredicate().getBiPredicate() == Compare.eq && indexedKeys.contains(c.getKey()));
-        return itty.hasNext() ? itty.next() : null;
+    private static boolean isLabel(final HasContainer hasContainer) {
+        return hasContainer.getKey().equals(T.label.getAccessor());
+    }
 
+    /**
+     * The distinct values to look up in an index for the {@link HasContainer} or {@code null} if the container can
+     * not be answered by an index.
+     */
+    private static Collection<?> getIndexValues(final HasContainer hasContainer) {
+        final BiPredicate<?, ?> biPredicate = hasContainer.getPredicate().getBiPredicate();
+        final Object value = hasContainer.getPredicate().getValue();
+        final Collection<?> values;
+        if (biPredicate == Compare.eq)
+            values = Collections.singleton(value);
+        else if (biPredicate == Contains.within && value instanceof Collection)
+            values = new LinkedHashSet<>((Collection<?>) value);
+        else
+            return null;
+        // the indices can not hold nulls and every label is a string
+        for (final Object v : values) {
+            if (null == v || (isLabel(hasContainer) && !(v instanceof String)))
+                return null;
+        }
+        return values;
     }
 
     @Override
@@ -109,7 +215,16 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
                     StringFactory.stepString(this, this.returnClass.getSimpleName().toLowerCase(), Arrays.toString(this.ids), this.hasContainers);
     }
 
-    private <E extends Element> Iterator<E> iteratorList(final Iterator<E> iterator) {
+    /**
+     * Filters the elements lazily so that a traversal which only needs the first results, like
+     * {@code g.V().has('status','new').limit(1)}, stops scanning the graph once it has them. A traversal that may
+     * mutate the graph would see the elements that it adds while it scans the graph, so for such a traversal the
+     * matching elements are collected before the first one is returned.
+     */
+    private <E extends Element> Iterator<E> iteratorFilter(final Iterator<E> iterator) {
+        if (!this.isMutating())
+            return IteratorUtils.filter(iterator, e -> HasContainer.testAll(e, this.hasContainers));
+
         final List<E> list = new ArrayList<>();
         while (iterator.hasNext()) {
             final E e = iterator.next();
@@ -119,6 +234,14 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         return list.iterator();
     }
 
+    private boolean isMutating() {
+        // lambdas can not be introspected and are assumed to mutate the graph
+        if (null == this.mutating)
+            this.mutating = TraversalHelper.hasStepOfAssignableClassRecursively(Arrays.<Class>asList(Mutating.class, LambdaHolder.class),
+                    TraversalHelper.getRootTraversal(this.getTraversal()));
+        return this.mutating;
+    }
+
     @Override
     public List<HasContainer> getHasContainers() {
         return Collections.unmodifiableList(this.hasContainers);
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the elements by the values of an ordered tuple of keys. An element is indexed under every combination
+ * of the values of its multi-properties and is not indexed if it lacks any of the keys. The tuples under which an
+ * element is indexed are kept so that it can be re-indexed when one of its keys changes without knowing the old values.
+ */
+final class TinkerCompositeIndex<T extends Element> {
+
+    private final List<String> keys;
+    private final Map<List<Object>, Set<T>> index = new ConcurrentHashMap<>();
+    private final Map<T, List<List<Object>>> tuples = new ConcurrentHashMap<>();
+
+    public TinkerCompositeIndex(final List<String> keys) {
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    public List<String> getKeys() {
+        return this.keys;
+    }
+
+    public List<T> get(final List<Object> values) {
+        final Set<T> elements = this.index.get(values);
+        return null == elements ? Collections.emptyList() : new ArrayList<>(elements);
+    }
+
+    public long count(final List<Object> values) {
+        final Set<T> elements = this.index.get(values);
+        return null == elements ? 0 : elements.size();
+    }
+
+    /**
+     * Re-indexes the element under the current values of its keys.
+     */
+    public void update(final T element) {
+        this.removeElement(element);
+        List<List<Object>> tuples = Collections.singletonList(Collections.emptyList());
+        for (final String key : this.keys) {
+            final List<List<Object>> extended = new ArrayList<>();
+            final Iterator<? extends Property<Object>> properties = element.properties(key);
+            while (properties.hasNext()) {
+                final Object value = properties.next().value();
+                for (final List<Object> tuple : tuples) {
+                    final List<Object> copy = new ArrayList<>(tuple);
+                    copy.add(value);
+                    extended.add(copy);
+                }
+            }
+            if (extended.isEmpty())
+                return;
+            tuples = extended;
+        }
+        for (final List<Object> tuple : tuples) {
+            this.index.computeIfAbsent(tuple, t -> ConcurrentHashMap.newKeySet()).add(element);
+        }
+        this.tuples.put(element, tuples);
+    }
+
+    public void removeElement(final T element) {
+        final List<List<Object>> tuples = this.tuples.remove(element);
+        if (null == tuples)
+            return;
+        for (final List<Object> tuple : tuples) {
+            final Set<T> elements = this.index.get(tuple);
+            if (null != elements) {
+                elements.remove(element);
+                if (elements.isEmpty())
+                    this.index.remove(tuple);
+            }
+        }
+    }
+}
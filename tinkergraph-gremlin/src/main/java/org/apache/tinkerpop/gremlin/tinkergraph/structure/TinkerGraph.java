@@ -94,6 +94,8 @@ public final class TinkerGraph implements Graph {
     protected TinkerGraphComputerView graphComputerView = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected final TinkerLabelIndex<TinkerVertex> vertexLabelIndex = new TinkerLabelIndex<>();
+    protected final TinkerLabelIndex<TinkerEdge> edgeLabelIndex = new TinkerLabelIndex<>();
 
     protected final IdManager<?> vertexIdManager;
     protected final IdManager<?> edgeIdManager;
@@ -169,8 +171,9 @@ public final class TinkerGraph implements Graph {
             idValue = vertexIdManager.getNextId(this);
         }
 
-        final Vertex vertex = new TinkerVertex(idValue, label, this);
+        final TinkerVertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        this.vertexLabelIndex.add(vertex);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -217,6 +220,8 @@ public final class TinkerGraph implements Graph {
         this.currentId.set(-1L);
         this.vertexIndex = null;
         this.edgeIndex = null;
+        this.vertexLabelIndex.clear();
+        this.edgeLabelIndex.clear();
         this.graphComputerView = null;
     }
 
@@ -517,6 +522,63 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Create a composite index for said element class ({@link Vertex} or {@link Edge}) over an ordered list of
+     * property keys. The index is used when a traversal tests every one of the keys for equality, as in
+     * {@code g.V().has('tenant', t).has('externalId', x)}, and is updated whenever an element has one of the keys
+     * mutated. When the index is created, all existing elements are indexed to ensure that they are captured by the
+     * index.
+     *
+     * @param keys         the property keys to index, of which there must be at least two
+     * @param elementClass the element class to index
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createCompositeIndex(final List<String> keys, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
+            this.vertexIndex.createCompositeIndex(keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
+            this.edgeIndex.createCompositeIndex(keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Drop the composite index for the specified element class ({@link Vertex} or {@link Edge}) and keys.
+     *
+     * @param keys         the property keys to stop indexing
+     * @param elementClass the element class of the index to drop
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void dropCompositeIndex(final List<String> keys, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null != this.vertexIndex) this.vertexIndex.dropCompositeIndex(keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null != this.edgeIndex) this.edgeIndex.dropCompositeIndex(keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the keys of all the composite indices for said element class ({@link Vertex} or {@link Edge}).
+     *
+     * @param elementClass the element class to get the composite indices for
+     * @param <E>          The type of the element class
+     * @return the set of the key lists currently being indexed
+     */
+    public <E extends Element> Set<List<String>> getCompositeIndexedKeys(final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? Collections.emptySet() : this.vertexIndex.getCompositeIndexedKeys();
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? Collections.emptySet() : this.edgeIndex.getCompositeIndexedKeys();
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
@@ -53,7 +53,7 @@ public final class TinkerHelper {
 
         Object idValue = graph.edgeIdManager.convert(ElementHelper.getIdValue(keyValues).orElse(null));
 
-        final Edge edge;
+        final TinkerEdge edge;
         if (null != idValue) {
             if (graph.edges.containsKey(idValue))
                 throw Graph.Exceptions.edgeWithIdAlreadyExists(idValue);
@@ -64,6 +64,7 @@ public final class TinkerHelper {
         edge = new TinkerEdge(idValue, outVertex, label, inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
+        graph.edgeLabelIndex.add(edge);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
         return edge;
@@ -98,6 +99,46 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    public static List<TinkerVertex> queryVertexCompositeIndex(final TinkerGraph graph, final List<String> keys, final List<Object> values) {
+        return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.getComposite(keys, values);
+    }
+
+    public static List<TinkerEdge> queryEdgeCompositeIndex(final TinkerGraph graph, final List<String> keys, final List<Object> values) {
+        return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.getComposite(keys, values);
+    }
+
+    public static long countVertexCompositeIndex(final TinkerGraph graph, final List<String> keys, final List<Object> values) {
+        return null == graph.vertexIndex ? 0 : graph.vertexIndex.countComposite(keys, values);
+    }
+
+    public static long countEdgeCompositeIndex(final TinkerGraph graph, final List<String> keys, final List<Object> values) {
+        return null == graph.edgeIndex ? 0 : graph.edgeIndex.countComposite(keys, values);
+    }
+
+    public static long countVertexIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.vertexIndex ? 0 : graph.vertexIndex.count(key, value);
+    }
+
+    public static long countEdgeIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.edgeIndex ? 0 : graph.edgeIndex.count(key, value);
+    }
+
+    public static Set<TinkerVertex> queryVertexLabelIndex(final TinkerGraph graph, final String label) {
+        return graph.vertexLabelIndex.get(label);
+    }
+
+    public static Set<TinkerEdge> queryEdgeLabelIndex(final TinkerGraph graph, final String label) {
+        return graph.edgeLabelIndex.get(label);
+    }
+
+    public static long countVertexLabelIndex(final TinkerGraph graph, final String label) {
+        return graph.vertexLabelIndex.count(label);
+    }
+
+    public static long countEdgeLabelIndex(final TinkerGraph graph, final String label) {
+        return graph.edgeLabelIndex.count(label);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
@@ -134,24 +175,26 @@ public final class TinkerHelper {
         final TinkerGraph graph = (TinkerGraph) vertex.graph();
         if (graph.vertexIndex != null)
             graph.vertexIndex.removeElement(vertex);
+        graph.vertexLabelIndex.remove(vertex);
     }
 
     public static void removeElementIndex(final TinkerEdge edge) {
         final TinkerGraph graph = (TinkerGraph) edge.graph();
         if (graph.edgeIndex != null)
             graph.edgeIndex.removeElement(edge);
+        graph.edgeLabelIndex.remove(edge);
     }
 
     public static void removeIndex(final TinkerVertex vertex, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) vertex.graph();
         if (graph.vertexIndex != null)
-            graph.vertexIndex.remove(key, value, vertex);
+            graph.vertexIndex.autoRemove(key, value, vertex);
     }
 
     public static void removeIndex(final TinkerEdge edge, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) edge.graph();
         if (graph.edgeIndex != null)
-            graph.edgeIndex.remove(key, value, edge);
+            graph.edgeIndex.autoRemove(key, value, edge);
     }
 
     public static Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
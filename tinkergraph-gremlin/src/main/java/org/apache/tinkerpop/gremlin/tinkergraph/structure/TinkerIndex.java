@@ -39,6 +39,7 @@ final class TinkerIndex<T extends Element> {
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
     private final Set<String> indexedKeys = new HashSet<>();
+    private final Map<List<String>, TinkerCompositeIndex<T>> compositeIndices = new ConcurrentHashMap<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -106,6 +107,9 @@ final class TinkerIndex<T extends Element> {
                     set.remove(element);
                 }
             }
+            for (final TinkerCompositeIndex<T> compositeIndex : this.compositeIndices.values()) {
+                compositeIndex.removeElement(element);
+            }
         }
     }
 
@@ -115,11 +119,30 @@ final class TinkerIndex<T extends Element> {
                 this.remove(key, oldValue, element);
             this.put(key, newValue, element);
         }
+        this.autoUpdateCompositeIndices(key, element);
     }
 
     public void autoRemove(final String key, final Object oldValue, final T element) {
         if (this.indexedKeys.contains(key))
             this.remove(key, oldValue, element);
+        this.autoUpdateCompositeIndices(key, element);
+    }
+
+    private void autoUpdateCompositeIndices(final String key, final T element) {
+        for (final TinkerCompositeIndex<T> compositeIndex : this.compositeIndices.values()) {
+            if (compositeIndex.getKeys().contains(key))
+                compositeIndex.update(element);
+        }
+    }
+
+    public List<T> getComposite(final List<String> keys, final List<Object> values) {
+        final TinkerCompositeIndex<T> compositeIndex = this.compositeIndices.get(keys);
+        return null == compositeIndex ? Collections.emptyList() : compositeIndex.get(values);
+    }
+
+    public long countComposite(final List<String> keys, final List<Object> values) {
+        final TinkerCompositeIndex<T> compositeIndex = this.compositeIndices.get(keys);
+        return null == compositeIndex ? 0 : compositeIndex.count(values);
     }
 
     public void createKeyIndex(final String key) {
@@ -150,4 +173,35 @@ final class TinkerIndex<T extends Element> {
     public Set<String> getIndexedKeys() {
         return this.indexedKeys;
     }
+
+    public void createCompositeIndex(final List<String> keys) {
+        if (null == keys)
+            throw Graph.Exceptions.argumentCanNotBeNull("keys");
+        if (keys.size() < 2 || new HashSet<>(keys).size() != keys.size())
+            throw new IllegalArgumentException("A composite index requires at least two distinct keys: " + keys);
+        for (final String key : keys) {
+            if (null == key)
+                throw Graph.Exceptions.argumentCanNotBeNull("key");
+            if (key.isEmpty())
+                throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        }
+
+        final List<String> indexedKeys = new ArrayList<>(keys);
+        if (this.compositeIndices.containsKey(indexedKeys))
+            return;
+        final TinkerCompositeIndex<T> compositeIndex = new TinkerCompositeIndex<>(indexedKeys);
+        this.compositeIndices.put(compositeIndex.getKeys(), compositeIndex);
+        (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values().<T>parallelStream() :
+                this.graph.edges.values().<T>parallelStream())
+                .forEach(e -> compositeIndex.update((T) e));
+    }
+
+    public void dropCompositeIndex(final List<String> keys) {
+        this.compositeIndices.remove(keys);
+    }
+
+    public Set<List<String>> getCompositeIndexedKeys() {
+        return this.compositeIndices.keySet();
+    }
 }
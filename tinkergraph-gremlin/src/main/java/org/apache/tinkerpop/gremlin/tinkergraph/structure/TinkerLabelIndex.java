@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The elements of a {@link TinkerGraph} by their label. Unlike a {@link TinkerIndex} it does not have to be created
+ * as every element has a label that never changes, so the index is maintained as elements are added and removed.
+ */
+final class TinkerLabelIndex<T extends Element> {
+
+    private final Map<String, Set<T>> index = new ConcurrentHashMap<>();
+
+    public void add(final T element) {
+        this.index.computeIfAbsent(element.label(), label -> ConcurrentHashMap.newKeySet()).add(element);
+    }
+
+    public void remove(final T element) {
+        final Set<T> elements = this.index.get(element.label());
+        if (null != elements)
+            elements.remove(element);
+    }
+
+    /**
+     * A live view of the elements with the label which reflects the elements that are added and removed while it is
+     * iterated.
+     */
+    public Set<T> get(final String label) {
+        final Set<T> elements = this.index.get(label);
+        return null == elements ? Collections.emptySet() : Collections.unmodifiableSet(elements);
+    }
+
+    public long count(final String label) {
+        final Set<T> elements = this.index.get(label);
+        return null == elements ? 0 : elements.size();
+    }
+
+    public void clear() {
+        this.index.clear();
+    }
+}
@@ -66,6 +66,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -155,6 +156,18 @@ public class TinkerGraphTest {
         g.createIndex("", Edge.class);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateCompositeIndexWithOneKey() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Arrays.asList("tenant"), Vertex.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateCompositeIndexWithDuplicateKeys() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Arrays.asList("tenant", "tenant"), Vertex.class);
+    }
+
     @Test
     public void shouldUpdateVertexIndicesInNewGraph() {
         final TinkerGraph g = TinkerGraph.open();
@@ -624,6 +637,165 @@ public class TinkerGraphTest {
             clone.traversal().V().has("name", "stephen").next());
     }
 
+    @Test
+    public void shouldFilterGraphStepLazily() {
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex("status", "new");
+        }
+        final AtomicInteger tested = new AtomicInteger();
+        final P<String> predicate = new P<>((a, b) -> {
+            tested.incrementAndGet();
+            return a.equals(b);
+        }, "new");
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(1, g.V().has("status", predicate).limit(1).toList().size());
+        // limit() may pull one more vertex before it knows that it is done but the graph is not scanned
+        assertTrue(tested.get() <= 2);
+    }
+
+    @Test
+    public void shouldNotTraverseElementsAddedByTheSameTraversal() {
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex("status", "new");
+        }
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(1000, g.V().has("status", "new").addV().property("status", "new").toList().size());
+        assertEquals(2000L, g.V().count().next().longValue());
+    }
+
+    @Test
+    public void shouldLookUpLabelsInTheLabelIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex(T.label, i < 10 ? "rare" : i < 20 ? "uncommon" : "common", "i", i);
+        }
+        final AtomicInteger tested = new AtomicInteger();
+        final P<Integer> predicate = new P<>((a, b) -> {
+            tested.incrementAndGet();
+            return true;
+        }, 0);
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(10L, g.V().has("i", predicate).hasLabel("rare").count().next().longValue());
+        assertEquals(10, tested.getAndSet(0));
+        assertEquals(20L, g.V().has("i", predicate).hasLabel("rare", "uncommon", "rare").count().next().longValue());
+        assertEquals(20, tested.getAndSet(0));
+        assertEquals(0L, g.V().has("i", predicate).hasLabel("none").count().next().longValue());
+        assertEquals(0, tested.getAndSet(0));
+
+        g.V().hasLabel("rare").limit(5).drop().iterate();
+        assertEquals(5L, g.V().hasLabel("rare").count().next().longValue());
+        g.addV("rare").iterate();
+        assertEquals(6L, g.V().hasLabel("rare").count().next().longValue());
+        graph.clear();
+        assertEquals(0L, g.V().hasLabel("common").count().next().longValue());
+    }
+
+    @Test
+    public void shouldLookUpEdgeLabelsInTheLabelIndex() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(4L, g.E().hasLabel("created").count().next().longValue());
+        assertEquals(6L, g.E().hasLabel("created", "knows").count().next().longValue());
+        g.V().has("name", "marko").drop().iterate();
+        assertEquals(3L, g.E().hasLabel("created").count().next().longValue());
+        assertEquals(0L, g.E().hasLabel("knows").count().next().longValue());
+    }
+
+    @Test
+    public void shouldPickTheMostSelectiveIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("status", Vertex.class);
+        graph.createIndex("name", Vertex.class);
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex(T.label, "person", "status", "active", "name", "name" + (i % 500), "i", i);
+        }
+        final AtomicInteger tested = new AtomicInteger();
+        final P<Integer> predicate = new P<>((a, b) -> {
+            tested.incrementAndGet();
+            return true;
+        }, 0);
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(2L, g.V().has("i", predicate).hasLabel("person").has("status", "active").has("name", "name7").count().next().longValue());
+        assertEquals(2, tested.getAndSet(0));
+        assertEquals(4L, g.V().has("i", predicate).has("status", "active").has("name", P.within("name7", "name8")).count().next().longValue());
+        assertEquals(4, tested.getAndSet(0));
+        // a key that is not indexed can not be looked up so the smallest index is used
+        assertEquals(1L, g.V().has("i", predicate).has("status", "active").has("name", "name7").has("i", 7).count().next().longValue());
+        assertEquals(2, tested.getAndSet(0));
+    }
+
+    @Test
+    public void shouldLookUpCompositeIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex("tenant", "t" + (i % 10), "externalId", "x" + (i % 100), "i", i);
+        }
+        graph.createCompositeIndex(Arrays.asList("tenant", "externalId"), Vertex.class);
+        graph.createIndex("tenant", Vertex.class);
+        assertEquals(1, graph.getCompositeIndexedKeys(Vertex.class).size());
+
+        final AtomicInteger tested = new AtomicInteger();
+        final P<Integer> predicate = new P<>((a, b) -> {
+            tested.incrementAndGet();
+            return true;
+        }, 0);
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(10L, g.V().has("i", predicate).has("externalId", "x17").has("tenant", "t7").count().next().longValue());
+        assertEquals(10, tested.getAndSet(0));
+        assertEquals(0L, g.V().has("i", predicate).has("externalId", "x17").has("tenant", "t8").count().next().longValue());
+        assertEquals(0, tested.getAndSet(0));
+        // the composite index can not answer a traversal that does not test all of its keys for equality
+        assertEquals(100L, g.V().has("i", predicate).has("tenant", "t7").count().next().longValue());
+        assertEquals(100, tested.getAndSet(0));
+        assertEquals(10L, g.V().has("i", predicate).has("externalId", "x17").has("tenant", P.within("t7", "t8")).count().next().longValue());
+        assertEquals(200, tested.getAndSet(0));
+
+        graph.dropCompositeIndex(Arrays.asList("tenant", "externalId"), Vertex.class);
+        assertEquals(0, graph.getCompositeIndexedKeys(Vertex.class).size());
+        assertEquals(10L, g.V().has("i", predicate).has("externalId", "x17").has("tenant", "t7").count().next().longValue());
+        assertEquals(100, tested.getAndSet(0));
+    }
+
+    @Test
+    public void shouldUpdateCompositeIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createCompositeIndex(Arrays.asList("tenant", "externalId"), Vertex.class);
+        graph.createCompositeIndex(Arrays.asList("tenant", "externalId"), Edge.class);
+        final GraphTraversalSource g = graph.traversal();
+
+        final Vertex v = graph.addVertex("tenant", "a", "externalId", 1);
+        graph.addVertex("tenant", "a");
+        assertEquals(1L, (long) g.V().has("tenant", "a").has("externalId", 1).count().next());
+        assertEquals(1L, TinkerHelper.countVertexCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("a", 1)));
+
+        v.property(VertexProperty.Cardinality.single, "externalId", 2);
+        assertEquals(0L, TinkerHelper.countVertexCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("a", 1)));
+        assertEquals(1L, (long) g.V().has("tenant", "a").has("externalId", 2).count().next());
+
+        // a vertex is indexed under every combination of the values of its multi-properties
+        v.property(VertexProperty.Cardinality.list, "tenant", "b");
+        assertEquals(1L, (long) g.V().has("tenant", "a").has("externalId", 2).count().next());
+        assertEquals(1L, (long) g.V().has("tenant", "b").has("externalId", 2).count().next());
+
+        v.properties("tenant").forEachRemaining(p -> {
+            if (p.value().equals("a")) p.remove();
+        });
+        assertEquals(0L, TinkerHelper.countVertexCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("a", 2)));
+        assertEquals(1L, TinkerHelper.countVertexCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("b", 2)));
+
+        final Edge e = v.addEdge("self", v, "tenant", "b", "externalId", 2);
+        assertEquals(1L, TinkerHelper.countEdgeCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("b", 2)));
+        assertEquals(1L, (long) g.E().has("tenant", "b").has("externalId", 2).count().next());
+        e.property("externalId").remove();
+        assertEquals(0L, TinkerHelper.countEdgeCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("b", 2)));
+
+        v.remove();
+        assertEquals(0L, TinkerHelper.countVertexCompositeIndex(graph, Arrays.asList("tenant", "externalId"), Arrays.asList("b", 2)));
+        assertEquals(0L, (long) g.V().has("tenant", "b").has("externalId", 2).count().next());
+    }
+
     /**
      * Coerces a {@code Color} to a {@link TinkerGraph} during serialization.  Demonstrates how custom serializers
      * can be developed that can coerce one value to another during serialization.